@@ -14,6 +14,11 @@ public class ConfigBundle {
     private int difficulty; // 0, 1, 2 for easy, normal, difficult, respectively. TODO: convert to enum
     private ArrayList<Integer> atoms, powerups, molecules, blockers, shields;
     private String theme;
+    private long seed; // the seed of the random numbers of the game, 0 lets every game choose its own
+    // the number of candidate collision pairs from which they are checked in parallel, 0 always checks them in order
+    private int parallelCollisionThreshold;
+    // whether the straight moving entities are stored and moved by the entity-component-system core
+    private boolean ecsEnabled;
 
     /**
      * Constructor to initialize game parameter attributes
@@ -224,4 +229,28 @@ public class ConfigBundle {
     public String getTheme() {
         return theme;
     }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getParallelCollisionThreshold() {
+        return parallelCollisionThreshold;
+    }
+
+    public void setParallelCollisionThreshold(int parallelCollisionThreshold) {
+        this.parallelCollisionThreshold = parallelCollisionThreshold;
+    }
+
+    public boolean isEcsEnabled() {
+        return ecsEnabled;
+    }
+
+    public void setEcsEnabled(boolean ecsEnabled) {
+        this.ecsEnabled = ecsEnabled;
+    }
 }
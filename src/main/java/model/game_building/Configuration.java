@@ -304,6 +304,29 @@ public class Configuration {
         return configBundle.getTheme();
     }
 
+    @JsonIgnore
+    public long getSeed() {
+        return configBundle.getSeed();
+    }
+
+    /**
+     * @return the number of candidate collision pairs from which the collision checks of a tick run in parallel, 0
+     * if they always run on the game loop thread
+     */
+    @JsonIgnore
+    public int getParallelCollisionThreshold() {
+        return configBundle.getParallelCollisionThreshold();
+    }
+
+    /**
+     * @return true if the straight moving entities are stored and moved by the entity-component-system core, false
+     * if they move through their path patterns like the other entities
+     */
+    @JsonIgnore
+    public boolean isEcsEnabled() {
+        return configBundle.isEcsEnabled();
+    }
+
     @JsonIgnore
     public boolean isDiscoTheme() {
         return configBundle.getTheme().equalsIgnoreCase(GameConstants.DISCO);
@@ -18,6 +18,8 @@ public class GameBundle {
     private ConfigBundle configBundle;
     private Player player;
     private ProjectileContainer projectileContainer;
+    private long seed; // the seed the saved game was played with
+    private long[] randomStates; // the states of the random streams when the game was saved
 
     // returning cloned lists in the below getters to avoid exposing private fields.
     public ArrayList<Atom> getAtoms() {
@@ -56,6 +58,14 @@ public class GameBundle {
         return shieldHandler;
     }
 
+    public long getSeed() {
+        return seed;
+    }
+
+    public long[] getRandomStates() {
+        return randomStates;
+    }
+
     private GameBundle() { //private because we only want to make game bundles through building.
     }
 
@@ -70,6 +80,8 @@ public class GameBundle {
         private Player player;
         private ConfigBundle configBundle;
         private ShieldHandler shieldHandler;
+        private long seed;
+        private long[] randomStates;
 
         public Builder() {
             atoms = new ArrayList<>();
@@ -123,6 +135,16 @@ public class GameBundle {
             return this;
         }
 
+        public Builder setSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder setRandomStates(long[] randomStates) {
+            this.randomStates = randomStates;
+            return this;
+        }
+
 
         public GameBundle build() {
             GameBundle bundle = new GameBundle();
@@ -135,6 +157,8 @@ public class GameBundle {
             bundle.player = this.player;
             bundle.projectileContainer = this.projectileContainer;
             bundle.shieldHandler = this.shieldHandler;
+            bundle.seed = this.seed;
+            bundle.randomStates = this.randomStates;
             return bundle;
         }
     }
@@ -31,8 +31,15 @@ public final class GameConstants {
     public static final int MEDIUM_MODE_GAME_DROP_RATE = 2000;
     public static final int HARD_MODE_GAME_DROP_RATE = 1000;
 
-    public static final int GAME_THREAD_DELAY = 7; // TODO: Check if valid
+    public static final int GAME_THREAD_DELAY = 7; // the fixed duration of a game tick, in milliseconds.
+    public static final int MAX_CATCH_UP_TICKS = 5; // ticks run back to back when the game loop falls behind.
+    public static final double MOVEMENT_STEP = GAME_THREAD_DELAY; // the game time, in milliseconds, that the speeds per step refer to.
+    public static final double MIN_TIME_SCALE = 0.25;
+    public static final double MAX_TIME_SCALE = 8;
     public static final int DEFAULT_SHOOTER_DELAY = 250;
+    // straight movers are not reflected again within this many steps of a reflection, so they can leave the wall.
+    public static final int REFLECTION_COOLDOWN = 3;
+    public static final int READY_TO_REFLECT = 100; // the steps since the last reflection of a new straight mover
 
     // Objects Dimensions.
     public static final Dimension BUILDING_WINDOW_SIZE = new Dimension(800, 800);
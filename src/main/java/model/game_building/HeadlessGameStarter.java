@@ -0,0 +1,47 @@
+package model.game_building;
+
+import model.game_running.HeadlessRunner;
+import org.apache.log4j.BasicConfigurator;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import services.utils.IOHandler;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Runs a game simulation without a display, as fast as the CPU allows.
+ * usage: HeadlessGameStarter &lt;config.yaml&gt; &lt;tick budget&gt; [time scale]
+ */
+public class HeadlessGameStarter {
+    public static void main(String[] args) {
+        if (args.length != 2 && args.length != 3) {
+            System.err.println("usage: HeadlessGameStarter <config.yaml> <tick budget> [time scale]");
+            System.exit(1);
+        }
+        BasicConfigurator.configure();
+
+        long tickBudget;
+        double timeScale;
+        ConfigBundle bundle;
+        try {
+            tickBudget = Long.parseLong(args[1]);
+            timeScale = args.length == 3 ? Double.parseDouble(args[2]) : 1;
+            bundle = IOHandler.readFromYaml(new File(args[0]), ConfigBundle.class);
+            // the configuration is handed over through the temporary file, like it is done in the building mode
+            IOHandler.writeToYAML(bundle);
+        } catch (NumberFormatException | IOException e) {
+            System.err.println("could not start the headless game: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        Configuration.getInstance();
+        // per entity logging would dominate the run time
+        Logger.getRootLogger().setLevel(Level.WARN);
+
+        HeadlessRunner runner = new HeadlessRunner();
+        runner.getRunningMode().setTimeScale(timeScale);
+        runner.run(tickBudget);
+        System.out.println(runner.getSummary());
+    }
+}
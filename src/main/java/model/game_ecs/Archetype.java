@@ -0,0 +1,114 @@
+package model.game_ecs;
+
+import model.game_entities.AutonomousEntity;
+
+import java.util.Arrays;
+
+/**
+ * Stores the components of all the entities that have the same set of components, one primitive array per component.
+ * Row i of every array belongs to the same entity. Rows are kept dense: removing an entity moves the last row into
+ * its place, so the systems can run over 0..size without gaps.
+ */
+public class Archetype {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final boolean spinning;
+
+    // position
+    double[] x, y;
+    // velocity, in pixels per movement step
+    double[] vx, vy;
+    int[] sinceReflected; // ticks since the last reflection, reflections are ignored for a few ticks after one
+    // shape
+    double[] halfWidth, halfHeight;
+    boolean[] circular;
+    // spin, in degrees (per movement step for the spin rate)
+    double[] rotation, spinRate;
+    // the entities the rows belong to, and the views they read their position from
+    AutonomousEntity[] entities;
+    PositionView[] views;
+    int size;
+
+    Archetype(boolean spinning) {
+        this.spinning = spinning;
+        x = new double[INITIAL_CAPACITY];
+        y = new double[INITIAL_CAPACITY];
+        vx = new double[INITIAL_CAPACITY];
+        vy = new double[INITIAL_CAPACITY];
+        sinceReflected = new int[INITIAL_CAPACITY];
+        halfWidth = new double[INITIAL_CAPACITY];
+        halfHeight = new double[INITIAL_CAPACITY];
+        circular = new boolean[INITIAL_CAPACITY];
+        rotation = new double[INITIAL_CAPACITY];
+        spinRate = new double[INITIAL_CAPACITY];
+        entities = new AutonomousEntity[INITIAL_CAPACITY];
+        views = new PositionView[INITIAL_CAPACITY];
+    }
+
+    /**
+     * @return true if the entities of this archetype have a spin component
+     */
+    public boolean isSpinning() {
+        return spinning;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * appends a row for the given entity. the components are filled by the caller.
+     *
+     * @return the index of the new row
+     */
+    int addRow(AutonomousEntity entity, PositionView view) {
+        if (size == x.length)
+            grow();
+        entities[size] = entity;
+        views[size] = view;
+        return size++;
+    }
+
+    /**
+     * removes a row by moving the last row into its place.
+     *
+     * @param row the row to be removed
+     */
+    void removeRow(int row) {
+        int last = --size;
+        if (row != last) {
+            x[row] = x[last];
+            y[row] = y[last];
+            vx[row] = vx[last];
+            vy[row] = vy[last];
+            sinceReflected[row] = sinceReflected[last];
+            halfWidth[row] = halfWidth[last];
+            halfHeight[row] = halfHeight[last];
+            circular[row] = circular[last];
+            rotation[row] = rotation[last];
+            spinRate[row] = spinRate[last];
+            entities[row] = entities[last];
+            views[row] = views[last];
+            views[row].row = row;
+        }
+        entities[last] = null;
+        views[last] = null;
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        sinceReflected = Arrays.copyOf(sinceReflected, capacity);
+        halfWidth = Arrays.copyOf(halfWidth, capacity);
+        halfHeight = Arrays.copyOf(halfHeight, capacity);
+        circular = Arrays.copyOf(circular, capacity);
+        rotation = Arrays.copyOf(rotation, capacity);
+        spinRate = Arrays.copyOf(spinRate, capacity);
+        entities = Arrays.copyOf(entities, capacity);
+        views = Arrays.copyOf(views, capacity);
+    }
+}
@@ -0,0 +1,42 @@
+package model.game_ecs;
+
+import model.game_building.GameConstants;
+import model.game_physics.path_patterns.StraightPattern;
+import services.utils.Velocity;
+
+/**
+ * Reflects the entities of an archetype off the side boundaries of the game view.
+ * like {@link model.game_physics.path_patterns.StraightPattern#reflect}, an entity is not reflected again within
+ * {@link GameConstants#REFLECTION_COOLDOWN} ticks of a reflection, so that it can leave the boundary. A reflected
+ * velocity is written back to the path pattern of the entity, so the pattern keeps predicting the path of an attached
+ * entity.
+ */
+public class BoundarySystem {
+
+    public void update(Archetype archetype, double width) {
+        double[] x = archetype.x, vx = archetype.vx, vy = archetype.vy;
+        int[] sinceReflected = archetype.sinceReflected;
+        for (int i = 0; i < archetype.size; i++) {
+            double extent = horizontalExtent(archetype, i);
+            boolean outside = x[i] + extent > width || x[i] - extent < 0;
+            if (outside && sinceReflected[i] > GameConstants.REFLECTION_COOLDOWN) {
+                // reflecting off a vertical wall only flips the horizontal velocity
+                vx[i] = -vx[i];
+                sinceReflected[i] = 0;
+                StraightPattern pattern = (StraightPattern) archetype.entities[i].getPathPattern();
+                pattern.setInitialVelocity(new Velocity(vx[i], vy[i]));
+            }
+        }
+    }
+
+    /**
+     * @return half of the width of the horizontal bounds of the entity in the given row, taking its rotation into
+     * account
+     */
+    private double horizontalExtent(Archetype archetype, int row) {
+        if (archetype.circular[row])
+            return archetype.halfWidth[row];
+        double angle = Math.toRadians(archetype.rotation[row]);
+        return Math.abs(archetype.halfWidth[row] * Math.cos(angle)) + Math.abs(archetype.halfHeight[row] * Math.sin(angle));
+    }
+}
@@ -0,0 +1,149 @@
+package model.game_ecs;
+
+import model.game_building.GameConstants;
+import model.game_entities.AutonomousEntity;
+import model.game_entities.Molecule;
+import model.game_physics.hitbox.CircularHitbox;
+import model.game_physics.path_patterns.StraightPattern;
+import services.utils.Coordinates;
+import services.utils.Velocity;
+
+/**
+ * An optional entity-component-system core for the entities that move in a straight line (atoms and every entity
+ * with a {@link StraightPattern}), enabled by {@link model.game_building.ConfigBundle#setEcsEnabled(boolean)}. Their position, velocity, shape and spin are stored in the primitive arrays of an
+ * {@link Archetype}, and the movement, spin and boundary systems update them without following any entity pointers.
+ * <p>
+ * The entity objects stay the public face of the entities: once attached, the coordinates of an entity are a
+ * {@link PositionView} over its row, so the collision checks, the snapshots and the saves keep working on the
+ * entities. The velocities stay in the path patterns too, as the boundary system writes every reflection back, so the
+ * patterns keep predicting the paths of the attached entities. Entities with other path patterns are not attached and
+ * keep moving through {@link AutonomousEntity#move(double)}.
+ */
+public class EcsWorld {
+
+    private final Archetype linear;
+    private final Archetype spinning;
+    private final MovementSystem movementSystem;
+    private final SpinSystem spinSystem;
+    private final BoundarySystem boundarySystem;
+
+    public EcsWorld() {
+        linear = new Archetype(false);
+        spinning = new Archetype(true);
+        movementSystem = new MovementSystem();
+        spinSystem = new SpinSystem();
+        boundarySystem = new BoundarySystem();
+    }
+
+    /**
+     * moves the storage of the entity into this world, if its movement can be expressed by the components.
+     *
+     * @param entity the entity to be attached
+     * @return true if the entity was attached, false if it has to be moved through its path pattern
+     */
+    public boolean attach(AutonomousEntity entity) {
+        if (!(entity.getPathPattern() instanceof StraightPattern) || isAttached(entity))
+            return false;
+        boolean spins = entity instanceof Molecule && ((Molecule) entity).isSpinnable();
+        Archetype archetype = spins ? spinning : linear;
+        PositionView view = new PositionView(archetype, 0);
+        int row = archetype.addRow(entity, view);
+        view.row = row;
+
+        Velocity velocity = ((StraightPattern) entity.getPathPattern()).getInitialVelocity();
+        archetype.x[row] = entity.getCoordinates().getX();
+        archetype.y[row] = entity.getCoordinates().getY();
+        archetype.vx[row] = velocity.getXv();
+        archetype.vy[row] = velocity.getYv();
+        archetype.sinceReflected[row] = GameConstants.READY_TO_REFLECT;
+        archetype.halfWidth[row] = entity.getHitbox().getWidth() / 2;
+        archetype.halfHeight[row] = entity.getHitbox().getHeight() / 2;
+        archetype.circular[row] = entity.getHitbox() instanceof CircularHitbox;
+        archetype.rotation[row] = entity.getHitbox().getRotationDegree();
+        archetype.spinRate[row] = spins ? GameConstants.SPINNING_SPEED : 0;
+
+        entity.setCoordinates(view);
+        return true;
+    }
+
+    /**
+     * moves the storage of the entity back into the entity object. detaching an entity that is not attached has no
+     * effect.
+     *
+     * @param entity the entity to be detached
+     */
+    public void detach(AutonomousEntity entity) {
+        if (!isAttached(entity))
+            return;
+        PositionView view = (PositionView) entity.getCoordinates();
+        writeBack(view.archetype, view.row);
+        entity.setCoordinates(new Coordinates(view.getX(), view.getY()));
+        view.archetype.removeRow(view.row);
+    }
+
+    /**
+     * @param entity an entity
+     * @return true if the entity is stored in this world
+     */
+    public boolean isAttached(AutonomousEntity entity) {
+        if (!(entity.getCoordinates() instanceof PositionView))
+            return false;
+        PositionView view = (PositionView) entity.getCoordinates();
+        return (view.archetype == linear || view.archetype == spinning) && view.archetype.entities[view.row] == entity;
+    }
+
+    /**
+     * runs the systems over all the attached entities: moves them, spins them and reflects them off the side
+     * boundaries.
+     *
+     * @param dt    the game time, in milliseconds, to advance
+     * @param width the width of the game view
+     */
+    public void update(double dt, double width) {
+        double steps = dt / GameConstants.MOVEMENT_STEP;
+        update(linear, steps, width);
+        update(spinning, steps, width);
+    }
+
+    private void update(Archetype archetype, double steps, double width) {
+        movementSystem.update(archetype, steps);
+        spinSystem.update(archetype, steps);
+        boundarySystem.update(archetype, width);
+        // the positions were written to the rows, not through the entities
+        for (int row = 0; row < archetype.size; row++)
+            archetype.entities[row].invalidateBounds();
+    }
+
+    /**
+     * writes the velocities of all the attached entities back into their path patterns, so that the entities can be
+     * saved.
+     */
+    public void syncToEntities() {
+        for (int row = 0; row < linear.size; row++)
+            writeBack(linear, row);
+        for (int row = 0; row < spinning.size; row++)
+            writeBack(spinning, row);
+    }
+
+    /**
+     * detaches all the entities.
+     */
+    public void clear() {
+        while (linear.size > 0)
+            detach(linear.entities[linear.size - 1]);
+        while (spinning.size > 0)
+            detach(spinning.entities[spinning.size - 1]);
+    }
+
+    /**
+     * @return the number of attached entities
+     */
+    public int size() {
+        return linear.size + spinning.size;
+    }
+
+    private void writeBack(Archetype archetype, int row) {
+        StraightPattern pattern = (StraightPattern) archetype.entities[row].getPathPattern();
+        pattern.setInitialVelocity(new Velocity(archetype.vx[row], archetype.vy[row]));
+    }
+}
@@ -0,0 +1,20 @@
+package model.game_ecs;
+
+/**
+ * Moves the entities of an archetype along their velocity.
+ */
+public class MovementSystem {
+
+    /**
+     * @param steps the number of movement steps to move for, see {@link model.game_building.GameConstants#MOVEMENT_STEP}
+     */
+    public void update(Archetype archetype, double steps) {
+        double[] x = archetype.x, y = archetype.y, vx = archetype.vx, vy = archetype.vy;
+        int[] sinceReflected = archetype.sinceReflected;
+        for (int i = 0; i < archetype.size; i++) {
+            x[i] += vx[i] * steps;
+            y[i] += vy[i] * steps;
+            sinceReflected[i]++;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package model.game_ecs;
+
+import services.utils.Coordinates;
+
+/**
+ * The coordinates of an entity whose position is stored in an {@link Archetype}. Reading and writing the coordinates
+ * reads and writes the row of the entity, so the entity and the systems always agree on the position.
+ */
+public class PositionView extends Coordinates {
+
+    final Archetype archetype;
+    int row;
+
+    PositionView(Archetype archetype, int row) {
+        this.archetype = archetype;
+        this.row = row;
+    }
+
+    @Override
+    public double getX() {
+        return archetype.x[row];
+    }
+
+    @Override
+    public double getY() {
+        return archetype.y[row];
+    }
+
+    @Override
+    public void setX(double x) {
+        archetype.x[row] = x;
+    }
+
+    @Override
+    public void setY(double y) {
+        archetype.y[row] = y;
+    }
+}
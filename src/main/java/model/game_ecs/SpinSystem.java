@@ -0,0 +1,21 @@
+package model.game_ecs;
+
+/**
+ * Spins the entities of a spinning archetype, like {@link model.game_entities.Molecule#spin(double)} does.
+ * the rotation is written through to the hitbox of the entity, which the collision checks read.
+ */
+public class SpinSystem {
+
+    /**
+     * @param steps the number of movement steps to spin for, see {@link model.game_building.GameConstants#MOVEMENT_STEP}
+     */
+    public void update(Archetype archetype, double steps) {
+        if (!archetype.isSpinning())
+            return;
+        double[] rotation = archetype.rotation, spinRate = archetype.spinRate;
+        for (int i = 0; i < archetype.size; i++) {
+            rotation[i] += spinRate[i] * steps;
+            archetype.entities[i].getHitbox().rotate(spinRate[i] * steps);
+        }
+    }
+}
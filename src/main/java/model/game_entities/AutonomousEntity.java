@@ -1,9 +1,11 @@
 package model.game_entities;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import model.game_building.GameBundle;
 import model.game_entities.enums.EntityType;
 import model.game_physics.hitbox.Hitbox;
 import model.game_physics.path_patterns.PathPattern;
+import model.game_running.SpriteKey;
 import model.game_running.runnables.CollisionRunnable;
 import services.utils.Coordinates;
 
@@ -14,6 +16,10 @@ public abstract class AutonomousEntity extends Entity {
 
     private EntityType entityType;
     private PathPattern pathPattern;
+    private long id; // assigned by the running mode when the entity enters the game space
+    // the position at the previous collision pass, where the movement checked by the next pass starts
+    private double sweepStartX, sweepStartY;
+    private boolean sweepStarted;
 
     public AutonomousEntity(Coordinates coordinates, Hitbox hitbox, PathPattern pathPattern, EntityType entityType) {
         super(coordinates, hitbox);
@@ -24,6 +30,50 @@ public abstract class AutonomousEntity extends Entity {
 
     public AutonomousEntity(){}
 
+    @JsonIgnore
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    /**
+     * @return the key of the image this entity is drawn with, see {@link SpriteKey}
+     */
+    @JsonIgnore
+    public int getSpriteKey() {
+        return SpriteKey.of(getSuperType(), entityType, null);
+    }
+
+    /**
+     * remembers the current position as the start of the movement checked by the next collision pass.
+     */
+    public void markSweepStart() {
+        sweepStartX = getCoordinates().getX();
+        sweepStartY = getCoordinates().getY();
+        sweepStarted = true;
+    }
+
+    /**
+     * @return the x coordinate at the previous collision pass, or the current one if the entity entered the game
+     * space since.
+     */
+    @JsonIgnore
+    public double getSweepStartX() {
+        return sweepStarted ? sweepStartX : getCoordinates().getX();
+    }
+
+    /**
+     * @return the y coordinate at the previous collision pass, or the current one if the entity entered the game
+     * space since.
+     */
+    @JsonIgnore
+    public double getSweepStartY() {
+        return sweepStarted ? sweepStartY : getCoordinates().getY();
+    }
+
     public void setEntityType(EntityType entityType) {
         this.entityType = entityType;
     }
@@ -49,9 +99,12 @@ public abstract class AutonomousEntity extends Entity {
 
     /**
      * move: moves the corresponding object according to the path variable.
+     *
+     * @param dt the game time, in milliseconds, to move for
      */
-    public void move() {
-        setCoordinates(this.getPathPattern().nextPosition());
+    @Override
+    public void move(double dt) {
+        setCoordinates(this.getPathPattern().nextPosition(dt));
     }
 
     public void reachBoundary(CollisionRunnable collisionRunnable) {
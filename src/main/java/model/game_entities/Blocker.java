@@ -1,5 +1,6 @@
 package model.game_entities;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import model.game_building.Configuration;
 import model.game_building.GameBundle;
@@ -64,21 +65,32 @@ public class Blocker extends AutonomousEntity {
         return this.blockingHitbox;
     }
 
+    /**
+     * a blocker collides with the entities in its area of effect.
+     */
+    @JsonIgnore
+    @Override
+    public Hitbox getCollisionHitbox() {
+        return this.getExplodingHitbox();
+    }
+
     @Override
-    public boolean isCollidedWith(Entity entity) {
-        return this.getExplodingHitbox().isInside(getCoordinates(), entity.getHitbox().getBoundaryPoints(entity.getCoordinates()));
+    protected double computeBoundingRadius() {
+        // the blocker collides with its exploding hitbox, which is the largest one
+        return Math.max(getHitbox().getBoundingRadius(), Math.max(getBlockingHitbox().getBoundingRadius(),
+                getExplodingHitbox().getBoundingRadius()));
     }
 
     public boolean isCollidedWithOriginalHitbox(Entity entity) {
-        return this.getHitbox().isInside(getCoordinates(), entity.getHitbox().getBoundaryPoints(entity.getCoordinates()));
+        return this.getHitbox().overlaps(getCoordinates(), entity.getHitbox(), entity.getCoordinates());
     }
 
     public boolean isCollidedWithBlockingHitbox(Entity entity) {
-        return this.getBlockingHitbox().isInside(getCoordinates(), entity.getHitbox().getBoundaryPoints(entity.getCoordinates()));
+        return this.getBlockingHitbox().overlaps(getCoordinates(), entity.getHitbox(), entity.getCoordinates());
     }
 
     public boolean isCollidedWithExplodingHitbox(Entity entity) {
-        return this.getExplodingHitbox().isInside(getCoordinates(), entity.getHitbox().getBoundaryPoints(entity.getCoordinates()));
+        return this.getExplodingHitbox().overlaps(getCoordinates(), entity.getHitbox(), entity.getCoordinates());
     }
 
     /**
@@ -1,5 +1,6 @@
 package model.game_entities;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import model.game_entities.enums.SuperType;
 import model.game_physics.hitbox.Hitbox;
 import model.game_running.Collidable;
@@ -18,6 +19,13 @@ public abstract class Entity implements Collidable {
     private Hitbox hitbox;
     protected Logger logger = Logger.getLogger(Entity.class.getName());
 
+    // the world space bounds of the hitbox, recomputed when the entity moves or its hitbox rotates
+    private boolean boundsDirty = true;
+    private Hitbox boundsHitbox;
+    private int boundsHitboxVersion;
+    private double minX, minY, maxX, maxY, boundingRadius;
+    private ArrayList<Coordinates> boundaryPoints;
+
     public Entity(Coordinates coordinates, Hitbox hitbox) {
         this.coordinates = coordinates;
         this.hitbox = hitbox;
@@ -33,6 +41,7 @@ public abstract class Entity implements Collidable {
 
     public void setCoordinates(Coordinates coordinates) {
         this.coordinates = coordinates;
+        this.boundsDirty = true;
     }
 
     public Hitbox getHitbox() {
@@ -41,20 +50,109 @@ public abstract class Entity implements Collidable {
 
     public void setHitbox(Hitbox hitbox) {
         this.hitbox = hitbox;
+        this.boundsDirty = true;
+    }
+
+    /**
+     * marks the cached bounds as stale. must be called when the coordinates are changed in place instead of through
+     * {@link #setCoordinates(Coordinates)}.
+     */
+    public void invalidateBounds() {
+        this.boundsDirty = true;
     }
 
     public boolean isCollidedWith(Entity entity) {
-        return this.getHitbox().isInside(getCoordinates(), entity.getHitbox().getBoundaryPoints(entity.getCoordinates()));
+        return this.getCollisionHitbox().overlaps(getCoordinates(), entity.getHitbox(), entity.getCoordinates());
+    }
+
+    /**
+     * @return the Hitbox the entity collides with when it is the source of a collision, its Hitbox by default.
+     */
+    @JsonIgnore
+    public Hitbox getCollisionHitbox() {
+        return getHitbox();
     }
 
-    public abstract void move();
+    /**
+     * moves the entity by dt milliseconds of game time.
+     *
+     * @param dt the game time, in milliseconds, to move for
+     */
+    public abstract void move(double dt);
 
     public SuperType getSuperType() {
         return superType;
     }
 
+    /**
+     * @return the radius of a circle around the entity that contains every point the entity may collide with, used
+     * by the broadphase of the collision detection.
+     */
+    @JsonIgnore
+    public double getBoundingRadius() {
+        updateBounds();
+        return boundingRadius;
+    }
+
+    /**
+     * computes the bounding radius, see {@link #getBoundingRadius()}. called when the bounds are recomputed.
+     */
+    protected double computeBoundingRadius() {
+        return this.getHitbox().getBoundingRadius();
+    }
+
+    // the axis aligned box around the hitbox
+
+    @JsonIgnore
+    public double getMinX() {
+        updateBounds();
+        return minX;
+    }
+
+    @JsonIgnore
+    public double getMinY() {
+        updateBounds();
+        return minY;
+    }
+
+    @JsonIgnore
+    public double getMaxX() {
+        updateBounds();
+        return maxX;
+    }
+
+    @JsonIgnore
+    public double getMaxY() {
+        updateBounds();
+        return maxY;
+    }
+
+    /**
+     * @return sample points on the boundary of the hitbox. the list is cached until the entity moves or rotates, and
+     * must not be modified.
+     */
+    @JsonIgnore
     public ArrayList<Coordinates> getBoundaryPoints(){
-        return this.getHitbox().getBoundaryPoints(getCoordinates());
+        updateBounds();
+        if (boundaryPoints == null)
+            boundaryPoints = this.getHitbox().getBoundaryPoints(getCoordinates());
+        return boundaryPoints;
+    }
+
+    private void updateBounds() {
+        if (!boundsDirty && boundsHitbox == hitbox && boundsHitboxVersion == hitbox.getVersion())
+            return;
+        double halfX = hitbox.getHalfExtentX();
+        double halfY = hitbox.getHalfExtentY();
+        minX = coordinates.getX() - halfX;
+        maxX = coordinates.getX() + halfX;
+        minY = coordinates.getY() - halfY;
+        maxY = coordinates.getY() + halfY;
+        boundingRadius = computeBoundingRadius();
+        boundaryPoints = null;
+        boundsHitbox = hitbox;
+        boundsHitboxVersion = hitbox.getVersion();
+        boundsDirty = false;
     }
 
 }
@@ -10,6 +10,7 @@ import model.game_entities.enums.SuperType;
 import model.game_physics.hitbox.Hitbox;
 import model.game_physics.path_patterns.PathPattern;
 import model.game_running.CollisionVisitor;
+import model.game_running.SpriteKey;
 import services.utils.Coordinates;
 
 /**
@@ -37,13 +38,24 @@ public class Molecule extends AutonomousEntity {
         return structure;
     }
 
+    @JsonIgnore
+    @Override
+    public int getSpriteKey() {
+        return SpriteKey.of(getSuperType(), getEntityType(), structure);
+    }
+
     @JsonIgnore
     public double getRotationDegree() {
         return this.getHitbox().getRotationDegree();
     }
 
-    public void spin() {
-        this.getHitbox().rotate(GameConstants.SPINNING_SPEED);
+    /**
+     * spins the molecule by {@link GameConstants#SPINNING_SPEED} degrees per movement step.
+     *
+     * @param dt the game time, in milliseconds, to spin for
+     */
+    public void spin(double dt) {
+        this.getHitbox().rotate(GameConstants.SPINNING_SPEED * dt / GameConstants.MOVEMENT_STEP);
     }
 
     @JsonIgnore
@@ -52,10 +64,10 @@ public class Molecule extends AutonomousEntity {
     }
 
     @Override
-    public void move() {
-        super.move();
+    public void move(double dt) {
+        super.move(dt);
         if (isSpinnable())
-            spin();
+            spin(dt);
     }
 
     // visitor pattern. Double delegation
@@ -15,8 +15,8 @@ import model.game_running.listeners.ShooterEventListener;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 import services.utils.Coordinates;
+import services.utils.Geometry;
 import services.utils.MathUtils;
-import services.utils.Vector;
 
 import static model.game_building.GameConstants.DEFAULT_ROTATION_STEP;
 
@@ -77,6 +77,11 @@ public class Shooter extends Entity {
         return this.reload();
     }
 
+    @JsonIgnore
+    public RunningMode getRunningMode() {
+        return runningMode;
+    }
+
     public void setRunningMode(RunningMode runningMode) {
         this.runningMode = runningMode;
     }
@@ -97,15 +102,23 @@ public class Shooter extends Entity {
      */
     @JsonIgnore
     public Coordinates getShootingCoords() {
+        return getShootingCoords(getAngle());
+    }
+
+    /**
+     * @param angle the rotation of the shooter, in degrees
+     * @return the coordinate the projectile would start moving from if the shooter was rotated by the angle
+     */
+    public Coordinates getShootingCoords(double angle) {
         int height = (int) (getHitbox().getHeight() * 0.75);
         int projectileRadius = (int) getCurrentProjectile().getHitbox().getHeight() / 2;
-        double theta = MathUtils.angleComplement(this.getHitbox().getRotationDegree());
+        double theta = MathUtils.angleComplement(angle);
 
         int newHeight = MathUtils.getCompositeYComponent(projectileRadius, height, theta);
         int newWidth = MathUtils.getCompositeXComponent(projectileRadius, height, theta);
 
-        Coordinates newCenter = new Coordinates(this.getCoordinates().getX(), this.getCoordinates().getY() + 0.25 * getHitbox().getHeight());
-        return MathUtils.translate(newCenter, new Coordinates(newWidth, -newHeight));
+        return new Coordinates(getCoordinates().getX() + newWidth,
+                getCoordinates().getY() + 0.25 * getHitbox().getHeight() - newHeight);
     }
 
 
@@ -205,7 +218,8 @@ public class Shooter extends Entity {
 
     public boolean rotate(int direction) {
         int rotationDirection = direction == GameConstants.SHOOTER_ROTATION_LEFT ? -1 : 1;
-        if (!checkLegalMovement(this.getCoordinates(), this.getAngle() + DEFAULT_ROTATION_STEP * rotationDirection))
+        if (!checkLegalMovement(getCoordinates().getX(), getCoordinates().getY(),
+                this.getAngle() + DEFAULT_ROTATION_STEP * rotationDirection))
             return false;
         getHitbox().rotate(DEFAULT_ROTATION_STEP * rotationDirection);
         return true;
@@ -216,69 +230,58 @@ public class Shooter extends Entity {
     }
 
     @Override
-    public void move() {
+    public void move(double dt) {
         if (movementState == GameConstants.SHOOTER_MOVEMENT_STILL) {
             shooterListener.onStopped(); //stop belt animation (for disco theme)
             return;
         }
         int direction = movementState == GameConstants.SHOOTER_MOVEMENT_RIGHT ? 1 : -1;
-        Coordinates newCoords = new Coordinates(getCoordinates().getX() + direction * config.getShooterSpeed(), getCoordinates().getY());
-        if (!checkLegalMovement(newCoords, this.getAngle())) {
+        double newX = getCoordinates().getX() + direction * config.getShooterSpeed() * dt / GameConstants.MOVEMENT_STEP;
+        if (!checkLegalMovement(newX, getCoordinates().getY(), this.getAngle())) {
             logger.info("[Shooter] shooter cannot move to the new coordinates" + this.getCoordinates());
             return;
         }
         shooterListener.onMoved();
-        this.setCoordinates(newCoords);
+        this.setCoordinates(new Coordinates(newX, getCoordinates().getY()));
         logger.debug("[Shooter] shooter moved to a new coordinates" + this.getCoordinates());
     }
 
     /**
      * Check if the shooter config.getShooterSpeed() is within the game view
      *
-     * @param coordinates to be checked if inside the game view
-     * @param angle       of the shooter
+     * @param x     the x coordinate to be checked if inside the game view
+     * @param y     the y coordinate of the shooter
+     * @param angle of the shooter
      * @return true if the movement is legal
      */
-    private boolean checkLegalMovement(Coordinates coordinates, double angle) {
+    private boolean checkLegalMovement(double x, double y, double angle) {
         double gunWidth = config.getUnitL() * GameConstants.SHOOTER_WIDTH;
-        if (coordinates.getX() + gunWidth / 2 > config.getGamePanelDimensions().getWidth())
+        if (x + gunWidth / 2 > config.getGamePanelDimensions().getWidth())
             return false;
-        else if (coordinates.getX() - gunWidth / 2 < 0)
+        else if (x - gunWidth / 2 < 0)
             return false;
-        return checkLegalAngle(coordinates, angle);
+        return checkLegalAngle(x, y, angle);
     }
 
     /**
      * Check if the shooter rotation is within the game view
      *
-     * @param coordinates to be checked if inside the game view
-     * @param angle       of the shooter
+     * @param x     the x coordinate to be checked if inside the game view
+     * @param y     the y coordinate of the shooter
+     * @param angle of the shooter
      * @return true of rotating the shooter is legal
      */
-    private boolean checkLegalAngle(Coordinates coordinates, double angle) {
+    private boolean checkLegalAngle(double x, double y, double angle) {
+        if (angle > 80 || angle < -80)
+            return false;
         double gunWidth = config.getUnitL() * GameConstants.SHOOTER_WIDTH;
         double gunHeight = config.getUnitL() * GameConstants.SHOOTER_HEIGHT;
 
-        // assume the left side if the shooter is in the left half of the screen, and right otherwise
-        Vector rotatedShooter;
-        if (coordinates.getX() < Configuration.getInstance().getGameWidth() / 2.0) {
-            rotatedShooter = new Vector(
-                    coordinates.getX() - gunWidth / 2,
-                    coordinates.getY(),
-                    coordinates.getX() - gunWidth / 2,
-                    coordinates.getY() - gunHeight / 2.0);
-        } else {
-            rotatedShooter = new Vector(
-                    coordinates.getX() + gunWidth / 2,
-                    coordinates.getY(),
-                    coordinates.getX() + gunWidth / 2,
-                    coordinates.getY() - gunHeight / 2.0);
-        }
-        rotatedShooter = rotatedShooter.rotateVector(angle);
-        return !(angle > 80) &&
-                !(angle < -80) &&
-                rotatedShooter.getPositionCoordinate().getX() >= 0 &&
-                rotatedShooter.getPositionCoordinate().getX() <= config.getGamePanelDimensions().width;
+        // assume the left side if the shooter is in the left half of the screen, and right otherwise. the top of that
+        // side is rotated around its bottom
+        double sideX = x < Configuration.getInstance().getGameWidth() / 2.0 ? x - gunWidth / 2 : x + gunWidth / 2;
+        double rotatedX = sideX + Geometry.rotateX(0, -gunHeight / 2.0, Geometry.cos(angle), Geometry.sin(angle));
+        return rotatedX >= 0 && rotatedX <= config.getGamePanelDimensions().width;
     }
 
     /**
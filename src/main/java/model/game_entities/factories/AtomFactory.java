@@ -11,6 +11,8 @@ import model.game_physics.path_patterns.PathPatternFactory;
 import services.utils.Coordinates;
 import services.utils.MathUtils;
 
+import java.util.Random;
+
 public class AtomFactory {
 
     private static AtomFactory factory = new AtomFactory();
@@ -25,7 +27,12 @@ public class AtomFactory {
         return factory;
     }
 
-    public Atom getAtom(EntityType type) {
+    /**
+     * @param type   the type of the atom
+     * @param random the random numbers the number of neutrons is chosen with
+     * @return a new atom of the given type
+     */
+    public Atom getAtom(EntityType type, Random random) {
         Coordinates atomDefaultCoordinates = new Coordinates(0, 0);
 
         Hitbox atomDefaultHitbox = HitboxFactory.getInstance().getAtomHitbox();
@@ -36,28 +43,28 @@ public class AtomFactory {
 
         switch (type) {
             case ALPHA:
-                numberOfNeutrons = MathUtils.chooseFrom(ALPHA_NEUTRON_VALUES);
+                numberOfNeutrons = MathUtils.chooseFrom(ALPHA_NEUTRON_VALUES, random);
                 efficiency = alphaEfficiency(numberOfNeutrons);
 
                 return new Atom(atomDefaultCoordinates, atomDefaultHitbox, atomDefaultPathPattern, EntityType.ALPHA,
                         efficiency, ALPHA_PROTONS, numberOfNeutrons);
 
             case BETA:
-                numberOfNeutrons = MathUtils.chooseFrom(BETA_NEUTRON_VALUES);
+                numberOfNeutrons = MathUtils.chooseFrom(BETA_NEUTRON_VALUES, random);
                 efficiency = betaEfficiency(numberOfNeutrons);
 
                 return new Atom(atomDefaultCoordinates, atomDefaultHitbox, atomDefaultPathPattern, EntityType.BETA,
                         efficiency, BETA_PROTONS, numberOfNeutrons);
 
             case GAMMA:
-                numberOfNeutrons = MathUtils.chooseFrom(GAMMA_NEUTRON_VALUES);
+                numberOfNeutrons = MathUtils.chooseFrom(GAMMA_NEUTRON_VALUES, random);
                 efficiency = gammaEfficiency(numberOfNeutrons);
 
                 return new Atom(atomDefaultCoordinates, atomDefaultHitbox, atomDefaultPathPattern, EntityType.GAMMA,
                         efficiency, GAMMA_PROTONS, numberOfNeutrons);
 
             case SIGMA:
-                numberOfNeutrons = MathUtils.chooseFrom(SIGMA_NEUTRON_VALUES);
+                numberOfNeutrons = MathUtils.chooseFrom(SIGMA_NEUTRON_VALUES, random);
                 efficiency = sigmaEfficiency(numberOfNeutrons);
 
                 return new Atom(atomDefaultCoordinates, atomDefaultHitbox, atomDefaultPathPattern, EntityType.SIGMA,
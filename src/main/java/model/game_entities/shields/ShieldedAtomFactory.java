@@ -3,16 +3,18 @@ package model.game_entities.shields;
 import model.game_entities.Atom;
 import model.game_entities.enums.ShieldType;
 
+import java.util.Random;
+
 public class ShieldedAtomFactory {
 
-    public static Atom applyShields(ShieldTuple shieldTuple, Atom nonShielded) {
+    public static Atom applyShields(ShieldTuple shieldTuple, Atom nonShielded, Random random) {
         Atom atom = nonShielded;
         for (int i = 0; i < shieldTuple.getShieldsCount(ShieldType.ETA); i++)
             atom = new EtaShield(atom);
         for (int i = 0; i < shieldTuple.getShieldsCount(ShieldType.LOTA); i++)
             atom = new LotaShield(atom);
         for (int i = 0; i < shieldTuple.getShieldsCount(ShieldType.THETA); i++)
-            atom = new ThetaShield(atom);
+            atom = new ThetaShield(atom, random);
         for (int i = 0; i < shieldTuple.getShieldsCount(ShieldType.ZETA); i++)
             atom = new ZetaShield(atom);
         return atom;
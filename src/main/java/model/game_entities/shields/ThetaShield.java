@@ -4,20 +4,26 @@ import model.game_building.GameConstants;
 import model.game_entities.Atom;
 import services.utils.MathUtils;
 
+import java.util.Random;
+
 public class ThetaShield extends ShieldDecorator {
 
     private final double THETA_EFFICIENCY_BOOST;
 
-    public ThetaShield(Atom atom) {
+    /**
+     * @param atom   the atom to be shielded
+     * @param random the random numbers the efficiency boost is chosen with
+     */
+    public ThetaShield(Atom atom, Random random) {
         super(atom);
-        THETA_EFFICIENCY_BOOST = getThetaEfficiency();
+        THETA_EFFICIENCY_BOOST = getThetaEfficiency(random);
     }
 
     /**
      * @return returns either 0.05 or 0.15 (Which resemble the values that could be Theta's efficiency) randomly.
      */
-    private double getThetaEfficiency() {
-        return MathUtils.chooseFrom(GameConstants.thetaEfficiencyValues);
+    private double getThetaEfficiency(Random random) {
+        return MathUtils.chooseFrom(GameConstants.thetaEfficiencyValues, random);
     }
 
     /**
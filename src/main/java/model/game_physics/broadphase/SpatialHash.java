@@ -0,0 +1,247 @@
+package model.game_physics.broadphase;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A uniform grid over the game space, stored as a hash of its cells, used to find the pairs of items that may collide
+ * without comparing every item with every other item.
+ * <p>
+ * Every item is inserted at its center with a bounding radius. When the grid is built, the cell size is set to the
+ * largest bounding diameter, so two items whose bounding circles overlap are always in the same cell or in
+ * neighbouring cells. A query therefore only has to look at the 3x3 cells around an item.
+ * <p>
+ * The grid is rebuilt from scratch every tick: {@link #clear()}, {@link #insert(Object, double, double, double)} for
+ * every item, {@link #build()}, then any number of queries. Building sorts the items by cell with a counting sort, so
+ * it is O(n) and reuses its arrays between ticks.
+ * <p>
+ * {@link #queryAfter(int, List)} only returns the items inserted after a given item, so querying every item with it
+ * visits every close pair of items once. {@link #queryRange(double, double, double, List)} finds the items around a
+ * point at any distance, for the queries that are not about collisions.
+ *
+ * @param <T> the type of the items
+ */
+public class SpatialHash<T> {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final double minimumCellSize;
+    private double cellSize;
+
+    // the inserted items, in insertion order
+    private Object[] items;
+    private double[] xs, ys;
+    private int size;
+    private double maxRadius;
+
+    // the items sorted by bucket, and the cell each of them is in
+    private Object[] sorted;
+    private int[] cellXs, cellYs;
+    private int[] insertionIndices;
+    private int[] bucketOf;
+    private int[] bucketStart; // bucket b holds sorted[bucketStart[b] .. bucketStart[b + 1])
+    private int bucketMask;
+
+    /**
+     * @param minimumCellSize the smallest cell size, used when all the items are smaller than it
+     */
+    public SpatialHash(double minimumCellSize) {
+        this.minimumCellSize = minimumCellSize;
+        this.cellSize = minimumCellSize;
+        items = new Object[INITIAL_CAPACITY];
+        xs = new double[INITIAL_CAPACITY];
+        ys = new double[INITIAL_CAPACITY];
+        sorted = new Object[INITIAL_CAPACITY];
+        cellXs = new int[INITIAL_CAPACITY];
+        cellYs = new int[INITIAL_CAPACITY];
+        insertionIndices = new int[INITIAL_CAPACITY];
+        bucketOf = new int[INITIAL_CAPACITY];
+        bucketStart = new int[2 * INITIAL_CAPACITY + 1];
+        bucketMask = 2 * INITIAL_CAPACITY - 1;
+    }
+
+    /**
+     * removes all the items.
+     */
+    public void clear() {
+        Arrays.fill(items, 0, size, null);
+        Arrays.fill(sorted, 0, size, null);
+        size = 0;
+        maxRadius = 0;
+    }
+
+    /**
+     * adds an item. the item can be queried after the next {@link #build()}.
+     *
+     * @param item   the item to be added
+     * @param x      the x coordinate of the center of the item
+     * @param y      the y coordinate of the center of the item
+     * @param radius the radius of a circle around the center that contains every point the item may collide with
+     */
+    public void insert(T item, double x, double y, double radius) {
+        if (size == items.length)
+            grow();
+        items[size] = item;
+        xs[size] = x;
+        ys[size] = y;
+        size++;
+        maxRadius = Math.max(maxRadius, radius);
+    }
+
+    /**
+     * sorts the inserted items into their cells.
+     */
+    public void build() {
+        cellSize = Math.max(minimumCellSize, 2 * maxRadius);
+        int buckets = bucketMask + 1;
+        if (buckets < 2 * size) {
+            while (buckets < 2 * size)
+                buckets *= 2;
+            bucketMask = buckets - 1;
+            bucketStart = new int[buckets + 1];
+        } else {
+            Arrays.fill(bucketStart, 0);
+        }
+
+        // count the items of every bucket, then turn the counts into start offsets
+        for (int i = 0; i < size; i++) {
+            int cellX = cellOf(xs[i]);
+            int cellY = cellOf(ys[i]);
+            int bucket = bucketOf(cellX, cellY);
+            bucketOf[i] = bucket;
+            bucketStart[bucket + 1]++;
+        }
+        for (int b = 0; b < buckets; b++)
+            bucketStart[b + 1] += bucketStart[b];
+
+        // place the items, in insertion order within a bucket. bucketStart[b] is used as the write cursor and is
+        // shifted back to the start afterwards
+        for (int i = 0; i < size; i++) {
+            int position = bucketStart[bucketOf[i]]++;
+            sorted[position] = items[i];
+            cellXs[position] = cellOf(xs[i]);
+            cellYs[position] = cellOf(ys[i]);
+            insertionIndices[position] = i;
+        }
+        for (int b = buckets; b > 0; b--)
+            bucketStart[b] = bucketStart[b - 1];
+        bucketStart[0] = 0;
+    }
+
+    /**
+     * finds the items that may collide with an item at the given position: the items in its cell and in the 8 cells
+     * around it. the result is a superset of the colliding items, it has to be narrowed down by an exact test.
+     *
+     * @param x   the x coordinate of the center of the item
+     * @param y   the y coordinate of the center of the item
+     * @param out cleared and filled with the candidate items
+     */
+    @SuppressWarnings("unchecked")
+    public void query(double x, double y, List<T> out) {
+        out.clear();
+        int centerX = cellOf(x);
+        int centerY = cellOf(y);
+        for (int cellX = centerX - 1; cellX <= centerX + 1; cellX++) {
+            for (int cellY = centerY - 1; cellY <= centerY + 1; cellY++) {
+                int bucket = bucketOf(cellX, cellY);
+                for (int i = bucketStart[bucket]; i < bucketStart[bucket + 1]; i++)
+                    // other cells may share the bucket
+                    if (cellXs[i] == cellX && cellYs[i] == cellY)
+                        out.add((T) sorted[i]);
+            }
+        }
+    }
+
+    /**
+     * finds the items whose center may be within a distance of a point: the items of every cell that overlaps the
+     * square of the given half size around the point. the result is a superset of the items within the distance, it
+     * has to be narrowed down by an exact test.
+     *
+     * @param x     the x coordinate of the point
+     * @param y     the y coordinate of the point
+     * @param range the distance
+     * @param out   cleared and filled with the candidate items
+     */
+    @SuppressWarnings("unchecked")
+    public void queryRange(double x, double y, double range, List<T> out) {
+        out.clear();
+        int minCellX = cellOf(x - range), maxCellX = cellOf(x + range);
+        int minCellY = cellOf(y - range), maxCellY = cellOf(y + range);
+        long cells = ((long) maxCellX - minCellX + 1) * ((long) maxCellY - minCellY + 1);
+        if (cells > size) {
+            // the square covers more cells than there are items, so going through the items is cheaper
+            for (int i = 0; i < size; i++)
+                if (cellXs[i] >= minCellX && cellXs[i] <= maxCellX && cellYs[i] >= minCellY && cellYs[i] <= maxCellY)
+                    out.add((T) sorted[i]);
+            return;
+        }
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                int bucket = bucketOf(cellX, cellY);
+                for (int i = bucketStart[bucket]; i < bucketStart[bucket + 1]; i++)
+                    if (cellXs[i] == cellX && cellYs[i] == cellY)
+                        out.add((T) sorted[i]);
+            }
+        }
+    }
+
+    /**
+     * finds the items that may collide with an inserted item and were inserted after it. when every item is queried,
+     * every pair of close items is found once, by the item inserted first.
+     *
+     * @param index the insertion index of the item, 0 for the first inserted item
+     * @param out   cleared and filled with the candidate items, in no particular order
+     */
+    @SuppressWarnings("unchecked")
+    public void queryAfter(int index, List<T> out) {
+        out.clear();
+        int centerX = cellOf(xs[index]);
+        int centerY = cellOf(ys[index]);
+        for (int cellX = centerX - 1; cellX <= centerX + 1; cellX++) {
+            for (int cellY = centerY - 1; cellY <= centerY + 1; cellY++) {
+                int bucket = bucketOf(cellX, cellY);
+                for (int i = bucketStart[bucket]; i < bucketStart[bucket + 1]; i++)
+                    if (insertionIndices[i] > index && cellXs[i] == cellX && cellYs[i] == cellY)
+                        out.add((T) sorted[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the largest radius of the inserted items
+     */
+    public double getMaxRadius() {
+        return maxRadius;
+    }
+
+    /**
+     * @return the cell size of the latest build
+     */
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    private int cellOf(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private int bucketOf(int cellX, int cellY) {
+        return ((cellX * 73856093) ^ (cellY * 19349663)) & bucketMask;
+    }
+
+    private void grow() {
+        int capacity = items.length * 2;
+        items = Arrays.copyOf(items, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        sorted = Arrays.copyOf(sorted, capacity);
+        cellXs = Arrays.copyOf(cellXs, capacity);
+        cellYs = Arrays.copyOf(cellYs, capacity);
+        insertionIndices = Arrays.copyOf(insertionIndices, capacity);
+        bucketOf = Arrays.copyOf(bucketOf, capacity);
+    }
+}
@@ -3,6 +3,7 @@ package model.game_physics.hitbox;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import services.utils.Coordinates;
+import services.utils.Geometry;
 import services.utils.MathUtils;
 import services.utils.Vector;
 
@@ -31,8 +32,32 @@ public class CircularHitbox extends Hitbox {
 
     @Override
     public boolean isInside(Coordinates entityCoords, Coordinates checkCoords) {
-        checkCoords = MathUtils.applyRotation(-getRotationDegree(), entityCoords, checkCoords);
-        return MathUtils.isWithinCircle(entityCoords, this.radius, checkCoords);
+        // rotating the point around the center does not change its distance to the center
+        return Geometry.isWithinCircle(checkCoords.getX(), checkCoords.getY(), entityCoords.getX(), entityCoords.getY(),
+                this.radius);
+    }
+
+    @Override
+    public boolean overlaps(Coordinates center, Hitbox other, Coordinates otherCenter) {
+        return other.overlapsCircle(otherCenter, this.radius, center);
+    }
+
+    @Override
+    boolean overlapsCircle(Coordinates center, double radius, Coordinates circleCenter) {
+        double dx = circleCenter.getX() - center.getX();
+        double dy = circleCenter.getY() - center.getY();
+        double reach = this.radius + radius;
+        return dx * dx + dy * dy <= reach * reach;
+    }
+
+    @Override
+    boolean overlapsRectangle(Coordinates center, RectangularHitbox rectangle, Coordinates rectangleCenter) {
+        return rectangle.overlapsCircle(rectangleCenter, this.radius, center);
+    }
+
+    @Override
+    public double sweepCircle(Coordinates center, double radius, double startX, double startY, double dx, double dy) {
+        return sweepPointIntoCircle(startX, startY, dx, dy, center.getX(), center.getY(), this.radius + radius);
     }
 
     @Override
@@ -41,6 +66,24 @@ public class CircularHitbox extends Hitbox {
         return MathUtils.coordinatesAroundCircle(arcVector, NUMBER_OF_POINTS);
     }
 
+    @JsonIgnore
+    @Override
+    public double getHalfExtentX() {
+        return this.radius;
+    }
+
+    @JsonIgnore
+    @Override
+    public double getHalfExtentY() {
+        return this.radius;
+    }
+
+    @JsonIgnore
+    @Override
+    public double getBoundingRadius() {
+        return this.radius;
+    }
+
     @JsonIgnore
     @Override
     public double getWidth() {
@@ -1,8 +1,10 @@
 package model.game_physics.hitbox;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import services.utils.Coordinates;
+import services.utils.Geometry;
 import java.util.ArrayList;
 
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME,
@@ -15,21 +17,70 @@ import java.util.ArrayList;
  */
 public abstract class Hitbox {
 
+    /**
+     * returned by {@link #sweepCircle(Coordinates, double, double, double, double, double)} when the circle does not
+     * touch the Hitbox.
+     */
+    public static final double NO_IMPACT = Double.POSITIVE_INFINITY;
+
     protected double rotationDegree = 0;
     protected final int NUMBER_OF_POINTS = 8;
 
+    // the cosine and sine of the rotation, recomputed after the Hitbox rotates
+    private double cos, sin;
+    private boolean rotationDirty = true;
+    private int version; // incremented whenever the Hitbox rotates
+
     /**
      * Rotates the Hitbox in the specified direction
      * @param angle indicating the direction of the rotation
      */
     public void rotate(double angle){
+        if (angle == 0)
+            return;
         this.rotationDegree += angle;
+        this.rotationDirty = true;
+        this.version++;
     }
 
     public double getRotationDegree(){
         return this.rotationDegree;
     }
 
+    /**
+     * @return the cosine of the rotation.
+     */
+    @JsonIgnore
+    public double getCos() {
+        updateRotation();
+        return cos;
+    }
+
+    /**
+     * @return the sine of the rotation.
+     */
+    @JsonIgnore
+    public double getSin() {
+        updateRotation();
+        return sin;
+    }
+
+    /**
+     * @return a number that changes whenever the Hitbox rotates, so the data computed from the rotation can be cached.
+     */
+    @JsonIgnore
+    public int getVersion() {
+        return version;
+    }
+
+    private void updateRotation() {
+        if (!rotationDirty)
+            return;
+        cos = Geometry.cos(rotationDegree);
+        sin = Geometry.sin(rotationDegree);
+        rotationDirty = false;
+    }
+
     /**
      * checks if coordinates is inside the Hitbox
      * @param entityCoords the center of the coordinate of the entity
@@ -48,6 +99,109 @@ public abstract class Hitbox {
     public abstract double getWidth();
     public abstract double  getHeight();
 
+    /**
+     * @return half the width of the smallest axis aligned box around the rotated Hitbox.
+     */
+    @JsonIgnore
+    public abstract double getHalfExtentX();
+
+    /**
+     * @return half the height of the smallest axis aligned box around the rotated Hitbox.
+     */
+    @JsonIgnore
+    public abstract double getHalfExtentY();
+
+    /**
+     * @return the radius of the smallest circle around the center that contains the Hitbox at any rotation.
+     */
+    @JsonIgnore
+    public double getBoundingRadius() {
+        return Math.hypot(getWidth(), getHeight()) / 2;
+    }
+
+    /**
+     * Checks if this Hitbox overlaps another Hitbox. The test is exact: the shapes overlap if they share any point,
+     * including when one of them contains the other.
+     * @param center the center of this Hitbox.
+     * @param other the other Hitbox.
+     * @param otherCenter the center of the other Hitbox.
+     * @return true if the two Hitboxes overlap.
+     */
+    public abstract boolean overlaps(Coordinates center, Hitbox other, Coordinates otherCenter);
+
+    /**
+     * Finds when a circle moving in a straight line first touches this Hitbox, which does not move. Unlike
+     * {@link #overlaps(Coordinates, Hitbox, Coordinates)} at the end of the movement, this also finds the contacts of a
+     * fast circle that passes through the Hitbox.
+     * @param center the center of this Hitbox.
+     * @param radius the radius of the moving circle.
+     * @param startX the x coordinate of the center of the circle at the start of the movement.
+     * @param startY the y coordinate of the center of the circle at the start of the movement.
+     * @param dx the movement of the circle along x.
+     * @param dy the movement of the circle along y.
+     * @return the fraction of the movement, between 0 and 1, after which the circle first touches the Hitbox, 0 if
+     * they overlap at the start, or {@link #NO_IMPACT} if they never touch.
+     */
+    public abstract double sweepCircle(Coordinates center, double radius, double startX, double startY,
+                                       double dx, double dy);
+
+    /**
+     * the fraction of the movement of a point after which it enters a circle, see
+     * {@link #sweepCircle(Coordinates, double, double, double, double, double)}.
+     */
+    static double sweepPointIntoCircle(double x, double y, double dx, double dy,
+                                       double circleX, double circleY, double radius) {
+        double fx = x - circleX, fy = y - circleY;
+        double c = fx * fx + fy * fy - radius * radius;
+        if (c <= 0)
+            return 0;
+        double a = dx * dx + dy * dy;
+        double b = fx * dx + fy * dy;
+        if (a == 0 || b >= 0) // not moving, or moving away
+            return NO_IMPACT;
+        double discriminant = b * b - a * c;
+        if (discriminant < 0)
+            return NO_IMPACT;
+        double t = (-b - Math.sqrt(discriminant)) / a;
+        return t <= 1 ? t : NO_IMPACT;
+    }
+
+    /**
+     * the fraction of the movement of a point after which it enters an axis aligned box centered at the origin, see
+     * {@link #sweepCircle(Coordinates, double, double, double, double, double)}.
+     */
+    static double sweepPointIntoBox(double x, double y, double dx, double dy, double halfWidth, double halfHeight) {
+        double enter = 0, exit = 1;
+        // the movement is within the box between the times it is within the slabs of both axes
+        if (dx == 0) {
+            if (Math.abs(x) > halfWidth)
+                return NO_IMPACT;
+        } else {
+            double t1 = (-halfWidth - x) / dx, t2 = (halfWidth - x) / dx;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+        if (dy == 0) {
+            if (Math.abs(y) > halfHeight)
+                return NO_IMPACT;
+        } else {
+            double t1 = (-halfHeight - y) / dy, t2 = (halfHeight - y) / dy;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+        return enter <= exit ? enter : NO_IMPACT;
+    }
+
+    /**
+     * the second half of {@link #overlaps(Coordinates, Hitbox, Coordinates)} when the other Hitbox is a circle.
+     */
+    abstract boolean overlapsCircle(Coordinates center, double radius, Coordinates circleCenter);
+
+    /**
+     * the second half of {@link #overlaps(Coordinates, Hitbox, Coordinates)} when the other Hitbox is a rectangle.
+     */
+    abstract boolean overlapsRectangle(Coordinates center, RectangularHitbox rectangle, Coordinates rectangleCenter);
+
     /**
      * Checks if a Hitbox is collided with a another Hitbox.
      * @param entityCoords The owner object coordinates.
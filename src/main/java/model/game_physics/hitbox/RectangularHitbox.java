@@ -1,16 +1,16 @@
 package model.game_physics.hitbox;
 
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import services.utils.Coordinates;
+import services.utils.Geometry;
 import services.utils.MathUtils;
 import services.utils.Vector;
 
 import java.util.ArrayList;
 import java.util.stream.Collectors;
 
-import java.util.ArrayList;
-
 /**
  * Representation for a rectangular hitbox.
  */
@@ -39,6 +39,18 @@ public class RectangularHitbox extends Hitbox {
         return height;
     }
 
+    @JsonIgnore
+    @Override
+    public double getHalfExtentX() {
+        return width / 2 * Math.abs(getCos()) + height / 2 * Math.abs(getSin());
+    }
+
+    @JsonIgnore
+    @Override
+    public double getHalfExtentY() {
+        return width / 2 * Math.abs(getSin()) + height / 2 * Math.abs(getCos());
+    }
+
     @Override
     public ArrayList<Coordinates> getBoundaryPoints(Coordinates entityCoords) {
         Coordinates cornerCoords = new Coordinates(entityCoords.getX() + getWidth() / 2, entityCoords.getY() + getHeight() / 2);
@@ -48,12 +60,85 @@ public class RectangularHitbox extends Hitbox {
         return new ArrayList<>(pts.stream().map(c -> c.rotate(entityCoords, getRotationDegree())).collect(Collectors.toList()));
     }
 
+    @Override
+    public boolean overlaps(Coordinates center, Hitbox other, Coordinates otherCenter) {
+        return other.overlapsRectangle(otherCenter, this, center);
+    }
+
+    /**
+     * the circle overlaps the rectangle if the point of the rectangle closest to its center is within its radius.
+     */
+    @Override
+    boolean overlapsCircle(Coordinates center, double radius, Coordinates circleCenter) {
+        double cos = getCos(), sin = getSin();
+        double dx = circleCenter.getX() - center.getX();
+        double dy = circleCenter.getY() - center.getY();
+        // the circle center in the frame of the rectangle
+        double localX = dx * cos + dy * sin;
+        double localY = -dx * sin + dy * cos;
+        double closestX = Math.max(-width / 2, Math.min(width / 2, localX));
+        double closestY = Math.max(-height / 2, Math.min(height / 2, localY));
+        double distanceX = localX - closestX, distanceY = localY - closestY;
+        return distanceX * distanceX + distanceY * distanceY <= radius * radius;
+    }
+
+    /**
+     * the circle touches the rectangle when its center enters the rectangle grown by the radius, with rounded
+     * corners: the two rectangles grown along one axis and the four circles around the corners.
+     */
+    @Override
+    public double sweepCircle(Coordinates center, double radius, double startX, double startY, double dx, double dy) {
+        double cos = getCos(), sin = getSin();
+        double offsetX = startX - center.getX();
+        double offsetY = startY - center.getY();
+        // the movement in the frame of the rectangle
+        double localX = offsetX * cos + offsetY * sin;
+        double localY = -offsetX * sin + offsetY * cos;
+        double localDx = dx * cos + dy * sin;
+        double localDy = -dx * sin + dy * cos;
+        double halfWidth = width / 2, halfHeight = height / 2;
+
+        double t = sweepPointIntoBox(localX, localY, localDx, localDy, halfWidth + radius, halfHeight);
+        t = Math.min(t, sweepPointIntoBox(localX, localY, localDx, localDy, halfWidth, halfHeight + radius));
+        t = Math.min(t, sweepPointIntoCircle(localX, localY, localDx, localDy, halfWidth, halfHeight, radius));
+        t = Math.min(t, sweepPointIntoCircle(localX, localY, localDx, localDy, -halfWidth, halfHeight, radius));
+        t = Math.min(t, sweepPointIntoCircle(localX, localY, localDx, localDy, halfWidth, -halfHeight, radius));
+        t = Math.min(t, sweepPointIntoCircle(localX, localY, localDx, localDy, -halfWidth, -halfHeight, radius));
+        return t;
+    }
+
+    /**
+     * separating axis test: two rectangles do not overlap only if their projections on one of their 4 edge
+     * directions do not overlap.
+     */
+    @Override
+    boolean overlapsRectangle(Coordinates center, RectangularHitbox rectangle, Coordinates rectangleCenter) {
+        double cosA = getCos(), sinA = getSin();
+        double cosB = rectangle.getCos(), sinB = rectangle.getSin();
+        double dx = rectangleCenter.getX() - center.getX();
+        double dy = rectangleCenter.getY() - center.getY();
+        return !separatedOn(cosA, sinA, dx, dy, cosA, sinA, width, height, cosB, sinB, rectangle)
+                && !separatedOn(-sinA, cosA, dx, dy, cosA, sinA, width, height, cosB, sinB, rectangle)
+                && !separatedOn(cosB, sinB, dx, dy, cosA, sinA, width, height, cosB, sinB, rectangle)
+                && !separatedOn(-sinB, cosB, dx, dy, cosA, sinA, width, height, cosB, sinB, rectangle);
+    }
+
+    // true if the projections of the two rectangles on the axis do not overlap
+    private static boolean separatedOn(double axisX, double axisY, double dx, double dy,
+                                       double cosA, double sinA, double widthA, double heightA,
+                                       double cosB, double sinB, RectangularHitbox b) {
+        double distance = Math.abs(dx * axisX + dy * axisY);
+        double extentA = widthA / 2 * Math.abs(cosA * axisX + sinA * axisY)
+                + heightA / 2 * Math.abs(-sinA * axisX + cosA * axisY);
+        double extentB = b.width / 2 * Math.abs(cosB * axisX + sinB * axisY)
+                + b.height / 2 * Math.abs(-sinB * axisX + cosB * axisY);
+        return distance > extentA + extentB;
+    }
+
     @Override
     public boolean isInside(Coordinates entityCoords, Coordinates checkCoords) {
-        checkCoords = MathUtils.applyRotation(-getRotationDegree(), entityCoords, checkCoords);
-        Coordinates cornerCoords = new Coordinates(entityCoords.getX() + getWidth() / 2, entityCoords.getY() + getHeight() / 2);
-        Vector cornerVector = new Vector(entityCoords, cornerCoords);
-        return MathUtils.isWithinRectangle(cornerVector, checkCoords);
+        return Geometry.isWithinBox(checkCoords.getX(), checkCoords.getY(), entityCoords.getX(), entityCoords.getY(),
+                width / 2, height / 2, getCos(), getSin());
     }
 
     @Override
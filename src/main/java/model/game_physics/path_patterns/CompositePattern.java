@@ -2,6 +2,7 @@ package model.game_physics.path_patterns;
 
 import com.fasterxml.jackson.annotation.JsonIdentityReference;
 import com.fasterxml.jackson.annotation.JsonTypeName;
+import model.game_building.GameConstants;
 import services.utils.Coordinates;
 import services.utils.Vector;
 
@@ -11,6 +12,8 @@ import java.util.Collections;
 /**
  * Path pattern that follows a list of path patterns, each for some number of iterations. By default, after the number of iteration
  * for the last path finishes, it starts again from the first path pattern.
+ * An iteration is a step of {@link GameConstants#MOVEMENT_STEP} milliseconds; a longer or shorter dt advances the
+ * iterations by a fraction, and a dt that crosses the end of a pattern continues in the next one.
  */
 @JsonTypeName("composite-pattern")
 @JsonIdentityReference(alwaysAsId = true)
@@ -18,7 +21,7 @@ public class CompositePattern extends PathPattern {
     private ArrayList<PathPattern> patterns;
     private ArrayList<Integer> iterations;
     private PathPattern currentPattern;
-    private int currentIteration;
+    private double currentIteration;
     private int currentPatternIdx;
     private boolean circulate;
 
@@ -93,7 +96,60 @@ public class CompositePattern extends PathPattern {
     }
 
     @Override
-    public Coordinates nextPosition() {
+    public Coordinates nextPosition(double dt) {
+        double steps = dt / GameConstants.MOVEMENT_STEP;
+        while (steps > 0) {
+            advanceToNextPatternIfFinished();
+            double remaining = getIterations().get(currentPatternIdx) - this.currentIteration;
+            // a pattern without iterations still takes the rest of the step, like it would take a whole step
+            double advance = remaining > 0 ? Math.min(steps, remaining) : steps;
+            this.currentIteration += advance;
+            steps -= advance;
+            setCurrentCoords(getCurrentPattern().nextPosition(advance * GameConstants.MOVEMENT_STEP));
+        }
+        return this.getCurrentCoords();
+    }
+
+    /**
+     * the position after the whole cycles through the patterns is found from the movement of a single cycle, so the
+     * patterns must move the same way from any start, like the straight patterns of a zigzag.
+     */
+    @Override
+    public Coordinates positionAt(Coordinates origin, long tick) {
+        int count = getPatterns().size();
+        // like in nextPosition, a pattern without iterations takes a whole step, and is skipped if it is the first
+        int first = getIterations().get(0) > 0 ? 0 : 1 % count;
+        long cycle = 0;
+        for (int k = 0; k < count; k++)
+            cycle += stepsOf(k);
+
+        Coordinates position = new Coordinates(origin.getX(), origin.getY());
+        long cycles = tick / cycle;
+        if (cycles > 0) {
+            Coordinates cycleEnd = origin;
+            for (int i = 0; i < count; i++) {
+                int k = (first + i) % count;
+                cycleEnd = getPatterns().get(k).positionAt(cycleEnd, stepsOf(k));
+            }
+            position.setX(origin.getX() + cycles * (cycleEnd.getX() - origin.getX()));
+            position.setY(origin.getY() + cycles * (cycleEnd.getY() - origin.getY()));
+        }
+        long remaining = tick - cycles * cycle;
+        for (int i = 0; remaining > 0; i++) {
+            int k = (first + i) % count;
+            long steps = Math.min(remaining, stepsOf(k));
+            position = getPatterns().get(k).positionAt(position, steps);
+            remaining -= steps;
+        }
+        return position;
+    }
+
+    // the number of whole steps the pattern at the index is followed for
+    private long stepsOf(int index) {
+        return Math.max(getIterations().get(index), 1);
+    }
+
+    private void advanceToNextPatternIfFinished() {
         if (this.currentIteration >= getIterations().get(currentPatternIdx)) {
            // getLogger().debug("[CompositePattern] iteration of the " + (this.currentPatternIdx + 1) + "th pattern finished");
            // getLogger().debug("[CompositePattern] transition coordinates are " + this.getCurrentCoords());
@@ -110,9 +166,6 @@ public class CompositePattern extends PathPattern {
                 e.printStackTrace();
             }
         }
-        this.currentIteration += 1;
-        setCurrentCoords(getCurrentPattern().nextPosition());
-        return this.getCurrentCoords();
     }
 
     @Override
@@ -0,0 +1,77 @@
+package model.game_physics.path_patterns;
+
+import services.utils.Velocity;
+
+/**
+ * Flattens a tree of path patterns into a {@link PathDefinition}, the flat program of stages and phases a
+ * {@link PathCursor} follows without walking the tree.
+ * <p>
+ * A {@link RatioPattern} becomes a stage for each of its patterns, and any other tree a single stage that never ends.
+ * Within a stage, a {@link StraightPattern} becomes a phase that lasts forever, and a {@link CompositePattern} or a
+ * {@link ZigzagPatten} a phase for each of its straight patterns, in the order the composite pattern follows them. A
+ * straight pattern without iterations takes a single step, like in the composite pattern.
+ * <p>
+ * The patterns switch on the progress of a path, so a {@link SequentialCompositePattern}, which switches on reaching
+ * the coordinates of its next pattern, can not be flattened, and neither can the composite patterns and the ratio
+ * patterns nested in a composite pattern, whose progress is shared by the clones the composite pattern follows.
+ */
+public final class PathCompiler {
+
+    private PathCompiler() {
+    }
+
+    /**
+     * @param name the name the definition is found by
+     * @param tree the pattern tree to flatten, which is not changed
+     * @return the definition of the path the tree follows from its start
+     * @throws IllegalArgumentException if the tree has a pattern that can not be flattened
+     */
+    public static PathDefinition compile(String name, PathPattern tree) {
+        PathDefinition.Builder builder = new PathDefinition.Builder(name);
+        if (tree instanceof RatioPattern) {
+            RatioPattern ratioPattern = (RatioPattern) tree;
+            for (int stage = 0; stage < ratioPattern.getPatterns().size(); stage++) {
+                builder.stage(ratioPattern.getRatios().get(stage));
+                addStage(builder, ratioPattern.getPatterns().get(stage));
+            }
+        } else {
+            builder.stage(Double.POSITIVE_INFINITY);
+            addStage(builder, tree);
+        }
+        return builder.build();
+    }
+
+    // adds the phases of a pattern that is followed for a whole stage
+    private static void addStage(PathDefinition.Builder builder, PathPattern pattern) {
+        if (pattern instanceof ZigzagPatten)
+            pattern = ((ZigzagPatten) pattern).getZigzagPattern();
+
+        if (pattern instanceof StraightPattern) {
+            addPhase(builder, (StraightPattern) pattern, 0);
+        } else if (pattern instanceof CompositePattern) {
+            CompositePattern composite = (CompositePattern) pattern;
+            int count = composite.getPatterns().size();
+            // like in CompositePattern, the first pattern is skipped if it has no iterations
+            int first = composite.getIterations().get(0) > 0 ? 0 : 1 % count;
+            for (int i = 0; i < count; i++) {
+                int index = (first + i) % count;
+                PathPattern phase = composite.getPatterns().get(index);
+                if (!(phase instanceof StraightPattern))
+                    throw cannotFlatten(phase);
+                addPhase(builder, (StraightPattern) phase, Math.max(composite.getIterations().get(index), 1));
+            }
+        } else {
+            throw cannotFlatten(pattern);
+        }
+    }
+
+    private static void addPhase(PathDefinition.Builder builder, StraightPattern pattern, int steps) {
+        Velocity velocity = pattern.getInitialVelocity();
+        builder.phase(velocity.getXv(), velocity.getYv(), steps);
+    }
+
+    private static IllegalArgumentException cannotFlatten(PathPattern pattern) {
+        return new IllegalArgumentException("[PathCompiler] " + pattern.getClass().getSimpleName()
+                + " can not be flattened at this level of the tree");
+    }
+}
@@ -0,0 +1,166 @@
+package model.game_physics.path_patterns;
+
+import com.fasterxml.jackson.annotation.JsonIdentityReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import model.game_building.Configuration;
+import model.game_building.GameConstants;
+import services.utils.Coordinates;
+import services.utils.Vector;
+
+/**
+ * The progress of an entity along a shared {@link PathDefinition}: the stage and the phase it is in, how far it is
+ * into the phase, and how it has been reflected. Cursors replace the pattern trees that every entity used to carry,
+ * and move the same way as the trees they are compiled from, see {@link PathCompiler}.
+ * <p>
+ * Like the clones of the straight patterns that the composite patterns follow, a reflection reverses the horizontal
+ * velocity until the phase ends, and is ignored within a few steps of the previous one. A stage always starts from its
+ * first phase.
+ */
+@JsonTypeName("path-cursor")
+@JsonIdentityReference(alwaysAsId = true)
+public class PathCursor extends PathPattern {
+
+
+    private PathDefinition definition;
+    private int stage;
+    private int phase;
+    private double phaseProgress; // the steps since the phase started
+    private double lastY;         // the y coordinate the movement of the stage is measured from
+    private int reflectionSign = 1;
+    private int sinceReflected = GameConstants.READY_TO_REFLECT;
+
+    @SuppressWarnings("unused")
+    public PathCursor() {//this is needed for the save/load functionality
+    }
+
+    public PathCursor(PathDefinition definition) {
+        this.definition = definition;
+        this.phase = definition.getFirstPhase(0);
+    }
+
+    @JsonIgnore
+    public PathDefinition getDefinition() {
+        return definition;
+    }
+
+    @JsonProperty("definition")
+    public String getDefinitionName() {
+        return definition.getName();
+    }
+
+    @JsonProperty("definition")
+    public void setDefinitionName(String name) {
+        this.definition = PathPatternFactory.getInstance().getDefinition(name);
+    }
+
+    /**
+     * moves the current coordinates in place, like {@link StraightPattern#nextPosition(double)}.
+     */
+    @Override
+    public Coordinates nextPosition(double dt) {
+        Coordinates coords = getCurrentCoords();
+        // the end of the stage is checked once per move, like in a ratio pattern
+        double ratio = definition.getStageRatio(stage);
+        if (ratio != Double.POSITIVE_INFINITY
+                && coords.getY() - lastY >= ratio * Configuration.getInstance().getGamePanelDimensions().height) {
+            lastY = coords.getY();
+            stage = (stage + 1) % definition.getStageCount();
+            startPhase(definition.getFirstPhase(stage));
+        }
+
+        double steps = dt / GameConstants.MOVEMENT_STEP;
+        while (steps > 0) {
+            int length = definition.getPhaseSteps(phase);
+            if (length > 0 && phaseProgress >= length) {
+                startPhase(definition.getNextPhase(stage, phase));
+                length = definition.getPhaseSteps(phase);
+            }
+            double advance = length > 0 ? Math.min(steps, length - phaseProgress) : steps;
+            phaseProgress += advance;
+            steps -= advance;
+            coords.setX(reflectionSign * definition.getXVelocity(phase) * advance + coords.getX());
+            coords.setY(definition.getYVelocity(phase) * advance + coords.getY());
+            sinceReflected++;
+        }
+        return coords;
+    }
+
+    private void startPhase(int phase) {
+        this.phase = phase;
+        this.phaseProgress = 0;
+        this.reflectionSign = 1;
+        this.sinceReflected = GameConstants.READY_TO_REFLECT;
+    }
+
+    /**
+     * the position along the definition, regardless of the progress and the reflections of the cursor.
+     */
+    @Override
+    public Coordinates positionAt(Coordinates origin, long tick) {
+        return definition.positionAt(origin, tick, Configuration.getInstance().getGamePanelDimensions().height);
+    }
+
+    /**
+     * reverses the horizontal velocity. the paths only reflect off the side boundaries.
+     */
+    @Override
+    public void reflect(Vector n) {
+        if (sinceReflected > GameConstants.REFLECTION_COOLDOWN) {
+            reflectionSign = -reflectionSign;
+            sinceReflected = 0;
+            PathPattern.logger.debug("[PathCursor] cursor reflected");
+        } else {
+            PathPattern.logger.debug("[PathCursor] cursor was already reflected");
+        }
+    }
+
+    public int getStage() {
+        return stage;
+    }
+
+    public void setStage(int stage) {
+        this.stage = stage;
+    }
+
+    public int getPhase() {
+        return phase;
+    }
+
+    public void setPhase(int phase) {
+        this.phase = phase;
+    }
+
+    public double getPhaseProgress() {
+        return phaseProgress;
+    }
+
+    public void setPhaseProgress(double phaseProgress) {
+        this.phaseProgress = phaseProgress;
+    }
+
+    public double getLastY() {
+        return lastY;
+    }
+
+    public void setLastY(double lastY) {
+        this.lastY = lastY;
+    }
+
+    public int getReflectionSign() {
+        return reflectionSign;
+    }
+
+    public void setReflectionSign(int reflectionSign) {
+        this.reflectionSign = reflectionSign;
+    }
+
+    public int getSinceReflected() {
+        return sinceReflected;
+    }
+
+    public void setSinceReflected(int sinceReflected) {
+        this.sinceReflected = sinceReflected;
+    }
+}
@@ -0,0 +1,223 @@
+package model.game_physics.path_patterns;
+
+import model.game_building.GameConstants;
+import services.utils.Coordinates;
+
+import java.util.ArrayList;
+
+/**
+ * An immutable description of a path, shared by all the entities that follow it. The progress of every entity along
+ * the path is kept in its own {@link PathCursor}.
+ * <p>
+ * A path is a cycle of stages. A stage ends when the path has moved down by its ratio of the view height since the
+ * stage started, like the patterns of a {@link RatioPattern}; a stage with an infinite ratio never ends. Within a
+ * stage, the path cycles through the phases of the stage, like the patterns of a {@link CompositePattern}: a phase
+ * moves with a constant velocity for a number of steps of {@link GameConstants#MOVEMENT_STEP} milliseconds, or forever
+ * if its number of steps is 0.
+ */
+public final class PathDefinition {
+
+    private final String name;
+    private final double[] stageRatios;
+    private final int[] stageStarts; // the phases of stage s are stageStarts[s] until stageStarts[s + 1]
+    private final double[] xVelocities, yVelocities;
+    private final int[] phaseSteps;
+
+    private PathDefinition(String name, double[] stageRatios, int[] stageStarts, double[] xVelocities,
+                           double[] yVelocities, int[] phaseSteps) {
+        this.name = name;
+        this.stageRatios = stageRatios;
+        this.stageStarts = stageStarts;
+        this.xVelocities = xVelocities;
+        this.yVelocities = yVelocities;
+        this.phaseSteps = phaseSteps;
+    }
+
+    /**
+     * @return the name the definition is found by, see {@link PathPatternFactory#getDefinition(String)}
+     */
+    public String getName() {
+        return name;
+    }
+
+    public int getStageCount() {
+        return stageRatios.length;
+    }
+
+    /**
+     * @param stage the index of a stage
+     * @return the ratio of the view height after which the stage ends, infinite if it never ends
+     */
+    public double getStageRatio(int stage) {
+        return stageRatios[stage];
+    }
+
+    /**
+     * @param stage the index of a stage
+     * @return the index of the first phase of the stage
+     */
+    public int getFirstPhase(int stage) {
+        return stageStarts[stage];
+    }
+
+    /**
+     * @param stage the index of a stage
+     * @param phase the index of a phase of the stage
+     * @return the index of the phase that follows it in the stage
+     */
+    public int getNextPhase(int stage, int phase) {
+        return phase + 1 < stageStarts[stage + 1] ? phase + 1 : stageStarts[stage];
+    }
+
+    public double getXVelocity(int phase) {
+        return xVelocities[phase];
+    }
+
+    public double getYVelocity(int phase) {
+        return yVelocities[phase];
+    }
+
+    /**
+     * @param phase the index of a phase
+     * @return the number of steps the phase lasts, 0 if it lasts forever
+     */
+    public int getPhaseSteps(int phase) {
+        return phaseSteps[phase];
+    }
+
+    /**
+     * the position of the path started from its first stage at an origin, see
+     * {@link PathPattern#positionAt(Coordinates, long)}. the ends of the stages are searched for, assuming the path
+     * never moves up.
+     *
+     * @param height the height of the view the ratios of the stages refer to
+     */
+    public Coordinates positionAt(Coordinates origin, long tick, double height) {
+        Coordinates position = new Coordinates(origin.getX(), origin.getY());
+        Coordinates moved = new Coordinates();
+        int stage = 0;
+        double lastY = 0; // a path starts measuring its first stage from the top of the view, like a RatioPattern
+        long firstCheck = 0;
+        long remaining = tick;
+        while (true) {
+            double end = stageRatios[stage] * height;
+            stageDisplacement(stage, remaining, moved);
+            if (end == Double.POSITIVE_INFINITY || firstCheck > remaining
+                    || position.getY() + moved.getY() - lastY < end) {
+                position.setX(position.getX() + moved.getX());
+                position.setY(position.getY() + moved.getY());
+                return position;
+            }
+            // the first step the stage has moved far enough at
+            long low = firstCheck, high = remaining;
+            while (low < high) {
+                long middle = low + (high - low) / 2;
+                stageDisplacement(stage, middle, moved);
+                if (position.getY() + moved.getY() - lastY >= end)
+                    high = middle;
+                else
+                    low = middle + 1;
+            }
+            stageDisplacement(stage, low, moved);
+            position.setX(position.getX() + moved.getX());
+            position.setY(position.getY() + moved.getY());
+            lastY = position.getY();
+            remaining -= low;
+            stage = (stage + 1) % stageRatios.length;
+            firstCheck = 1;
+        }
+    }
+
+    // the movement of a stage in the given number of steps from its start, by whole cycles through its phases
+    private void stageDisplacement(int stage, long steps, Coordinates out) {
+        double x = 0, y = 0;
+        long cycle = 0;
+        for (int phase = stageStarts[stage]; phase < stageStarts[stage + 1]; phase++) {
+            if (phaseSteps[phase] == 0) {
+                // the phases after a phase that lasts forever are never reached
+                cycle = 0;
+                break;
+            }
+            cycle += phaseSteps[phase];
+            x += xVelocities[phase] * phaseSteps[phase];
+            y += yVelocities[phase] * phaseSteps[phase];
+        }
+        long cycles = cycle == 0 ? 0 : steps / cycle;
+        x *= cycles;
+        y *= cycles;
+        long remaining = steps - cycles * cycle;
+        for (int phase = stageStarts[stage]; remaining > 0; phase = getNextPhase(stage, phase)) {
+            long phaseLength = phaseSteps[phase] == 0 ? remaining : Math.min(remaining, phaseSteps[phase]);
+            x += xVelocities[phase] * phaseLength;
+            y += yVelocities[phase] * phaseLength;
+            remaining -= phaseLength;
+        }
+        out.setX(x);
+        out.setY(y);
+    }
+
+    /**
+     * builds a definition stage by stage, and every stage phase by phase.
+     */
+    public static class Builder {
+        private final String name;
+        private final ArrayList<Double> stageRatios = new ArrayList<>();
+        private final ArrayList<Integer> stageStarts = new ArrayList<>();
+        private final ArrayList<double[]> phases = new ArrayList<>();
+
+        /**
+         * @param name the name of the definition
+         */
+        public Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * starts a stage. the phases added next belong to it.
+         *
+         * @param ratio the ratio of the view height after which the stage ends, infinite if it never ends
+         */
+        public Builder stage(double ratio) {
+            stageRatios.add(ratio);
+            stageStarts.add(phases.size());
+            return this;
+        }
+
+        /**
+         * adds a phase to the current stage.
+         *
+         * @param steps the number of steps the phase lasts, 0 if it lasts forever
+         */
+        public Builder phase(double xVelocity, double yVelocity, int steps) {
+            if (stageRatios.isEmpty())
+                throw new IllegalStateException("[PathDefinition] a phase must belong to a stage");
+            phases.add(new double[]{xVelocity, yVelocity, steps});
+            return this;
+        }
+
+        public PathDefinition build() {
+            int stages = stageRatios.size();
+            if (stages == 0)
+                throw new IllegalStateException("[PathDefinition] a path must have a stage");
+            double[] ratios = new double[stages];
+            int[] starts = new int[stages + 1];
+            for (int stage = 0; stage < stages; stage++) {
+                ratios[stage] = stageRatios.get(stage);
+                starts[stage] = stageStarts.get(stage);
+                int end = stage + 1 < stages ? stageStarts.get(stage + 1) : phases.size();
+                if (end == starts[stage])
+                    throw new IllegalStateException("[PathDefinition] a stage must have a phase");
+            }
+            starts[stages] = phases.size();
+            double[] xVelocities = new double[phases.size()];
+            double[] yVelocities = new double[phases.size()];
+            int[] steps = new int[phases.size()];
+            for (int phase = 0; phase < phases.size(); phase++) {
+                xVelocities[phase] = phases.get(phase)[0];
+                yVelocities[phase] = phases.get(phase)[1];
+                steps[phase] = (int) phases.get(phase)[2];
+            }
+            return new PathDefinition(name, ratios, starts, xVelocities, yVelocities, steps);
+        }
+    }
+}
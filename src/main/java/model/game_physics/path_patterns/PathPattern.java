@@ -3,7 +3,7 @@ package model.game_physics.path_patterns;
 import com.fasterxml.jackson.annotation.JsonIdentityReference;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
-import org.apache.log4j.Level;
+import model.game_building.GameConstants;
 import org.apache.log4j.Logger;
 import services.utils.Coordinates;
 import services.utils.Vector;
@@ -20,7 +20,8 @@ import services.utils.Vector;
         @JsonSubTypes.Type(value = StraightPattern.class, name = "straight-pattern"),
         @JsonSubTypes.Type(value = ZigzagPatten.class, name = "zigzag-pattern"),
         @JsonSubTypes.Type(value = SequentialCompositePattern.class, name = "sequential-pattern"),
-        @JsonSubTypes.Type(value = CompositePattern.class, name = "composite-pattern")
+        @JsonSubTypes.Type(value = CompositePattern.class, name = "composite-pattern"),
+        @JsonSubTypes.Type(value = PathCursor.class, name = "path-cursor")
 })
 @JsonIdentityReference(alwaysAsId = true)
 public abstract class PathPattern implements Cloneable {
@@ -57,12 +58,31 @@ public abstract class PathPattern implements Cloneable {
     }
 
     /**
+     * @param dt the game time, in milliseconds, to advance along the path
      * @return the new coordinates
      * @Requires: Coordinates is not null
      * @Modifies: currentCoordinates
-     * @Effects: get the next position in the path pattern based on the current coordinates
+     * @Effects: get the position in the path pattern dt milliseconds after the current coordinates. the speeds of the
+     * patterns are given per {@link GameConstants#MOVEMENT_STEP} milliseconds.
      */
-    public abstract Coordinates nextPosition();
+    public abstract Coordinates nextPosition(double dt);
+
+    /**
+     * @return the new coordinates after a single step of {@link GameConstants#MOVEMENT_STEP} milliseconds
+     */
+    public Coordinates nextPosition() {
+        return nextPosition(GameConstants.MOVEMENT_STEP);
+    }
+
+    /**
+     * @param origin the coordinates the pattern starts from
+     * @param tick   the number of steps of {@link GameConstants#MOVEMENT_STEP} milliseconds since the start
+     * @return the position of the pattern tick steps after it starts from its first step at the origin
+     * @Effects: computes the position without stepping through the path, and without changing the pattern. the
+     * progress of the pattern along its path is ignored; a reflection is only taken into account once it changed the
+     * velocities the pattern is defined with.
+     */
+    public abstract Coordinates positionAt(Coordinates origin, long tick);
 
     /**
      * Given a normalized normal vector of a wall that the path has collided with, reflect the path
@@ -7,11 +7,15 @@ import services.utils.Velocity;
 
 import java.security.InvalidParameterException;
 import java.util.Arrays;
+import java.util.HashMap;
 
 // TODO: get the entity speed from the configuration
 public class PathPatternFactory {
     private static PathPatternFactory instance = null;
     private final Configuration config;
+    // the shared definitions by name, and the speeds the definitions of the entity types were built with
+    private final HashMap<String, PathDefinition> definitions = new HashMap<>();
+    private double definitionsStraightSpeed, definitionsZigZagSpeed;
 
     private PathPatternFactory(){
         config = Configuration.getInstance();
@@ -47,33 +51,66 @@ public class PathPatternFactory {
     }
 
     private PathPattern getEntityTypePathPattern(EntityType type){
-        // typical Straight pattern
-        Velocity straightVelocity = new Velocity(0, config.getStraightPatternSpeed());
-
-        // typical Zigzag pattern
-        Velocity zigZagVelocity = new Velocity(new Vector(0, config.getZigZagPatternSpeed())
-                .rotateVector(GameConstants.ZIGZAG_SPEED_ANGLE));
-
         switch (type){
             case ALPHA:
-                // follow a zigzag pattern
-                return new ZigzagPatten(zigZagVelocity, GameConstants.FPS);
             case BETA:
-                // 25% straight, then 75% zigzag
-                PathPattern pattern1 = new StraightPattern(straightVelocity);
-                PathPattern pattern2 = new ZigzagPatten(zigZagVelocity, GameConstants.FPS);
-                return new RatioPattern(Arrays.asList(pattern1, pattern2), Arrays.asList(0.25, 0.75));
             case GAMMA:
-                // 50% straight, then 50% zigzag
-                pattern1 = new StraightPattern(straightVelocity);
-                pattern2 = new ZigzagPatten(zigZagVelocity, GameConstants.FPS);
-                return new RatioPattern(Arrays.asList(pattern1, pattern2), Arrays.asList(0.5, 0.5));
-
+                // the zigzag paths are shared, every entity only carries a cursor
+                return new PathCursor(getDefinition(type.name()));
             case SIGMA:
-                // follow a straight pattern
-                return new StraightPattern(straightVelocity);
+                // follow a straight pattern, which the ECS core can move
+                return new StraightPattern(new Velocity(0, config.getStraightPatternSpeed()));
             default:
                 throw new InvalidParameterException("[PathPatternFactory] Entity type is not supported");
         }
     }
+
+    /**
+     * @param name the name of a definition, the name of the entity type whose path it is
+     * @return the definition shared by the entities that follow the path
+     * @throws InvalidParameterException if there is no definition with the name
+     */
+    public PathDefinition getDefinition(String name) {
+        if (definitionsStraightSpeed != config.getStraightPatternSpeed()
+                || definitionsZigZagSpeed != config.getZigZagPatternSpeed())
+            buildDefinitions();
+        PathDefinition definition = definitions.get(name);
+        if (definition == null)
+            throw new InvalidParameterException("[PathPatternFactory] no path definition named " + name);
+        return definition;
+    }
+
+    /**
+     * flattens a pattern tree, and shares the definition of its path under a name, see {@link PathCompiler}. the
+     * cursors are saved with the name of their definition only, so the definitions are only ever compiled here, by
+     * {@link #buildDefinitions()}, which builds them again in every process.
+     *
+     * @param name the name to find the definition by, which replaces a definition with the same name
+     * @param tree the pattern tree to flatten
+     */
+    private void compile(String name, PathPattern tree) {
+        definitions.put(name, PathCompiler.compile(name, tree));
+    }
+
+    // builds the definitions of the entity types again, as the speeds depend on the size of the game view
+    private void buildDefinitions() {
+        definitionsStraightSpeed = config.getStraightPatternSpeed();
+        definitionsZigZagSpeed = config.getZigZagPatternSpeed();
+
+        // typical Straight pattern
+        Velocity straightVelocity = new Velocity(0, definitionsStraightSpeed);
+
+        // typical Zigzag pattern
+        Velocity zigZagVelocity = new Velocity(new Vector(0, definitionsZigZagSpeed)
+                .rotateVector(GameConstants.ZIGZAG_SPEED_ANGLE));
+
+        // follow a zigzag pattern
+        compile(EntityType.ALPHA.name(), new ZigzagPatten(zigZagVelocity, GameConstants.FPS));
+        // 25% straight, then 75% zigzag
+        compile(EntityType.BETA.name(), new RatioPattern(Arrays.asList(new StraightPattern(straightVelocity),
+                new ZigzagPatten(zigZagVelocity, GameConstants.FPS)), Arrays.asList(0.25, 0.75)));
+        // 50% straight, then 50% zigzag
+        compile(EntityType.GAMMA.name(), new RatioPattern(Arrays.asList(new StraightPattern(straightVelocity),
+                new ZigzagPatten(zigZagVelocity, GameConstants.FPS)), Arrays.asList(0.5, 0.5)));
+    }
 }
@@ -7,6 +7,7 @@ import model.game_building.Configuration;
 import services.utils.Coordinates;
 import services.utils.Vector;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -22,6 +23,9 @@ public class RatioPattern extends PathPattern {
     private PathPattern currentPattern;
     private int currentPatternIdx;
     private double lastYCoords;
+    private static final Coordinates ORIGIN = new Coordinates(0, 0);
+    // the switches between the patterns found by positionAt, for the latest origin and view height
+    private Breakpoints breakpoints;
 
 
     @SuppressWarnings("unused")
@@ -62,7 +66,7 @@ public class RatioPattern extends PathPattern {
     }
 
     @Override
-    public Coordinates nextPosition() {
+    public Coordinates nextPosition(double dt) {
         if (getCurrentCoords().getY() - lastYCoords
                 >= ratios.get(currentPatternIdx) * Configuration.getInstance().getGamePanelDimensions().height) {
             getLogger().debug("[RatioPattern] ratio of the " + (this.currentPatternIdx + 1) + "th pattern finished");
@@ -75,7 +79,7 @@ public class RatioPattern extends PathPattern {
             setCurrentPattern(getPatterns().get(this.currentPatternIdx));
             setCurrentCoords(tmpCoords);
         }
-        setCurrentCoords(getCurrentPattern().nextPosition());
+        setCurrentCoords(getCurrentPattern().nextPosition(dt));
         return this.getCurrentCoords();
     }
 
@@ -83,6 +87,22 @@ public class RatioPattern extends PathPattern {
         return ratios;
     }
 
+    /**
+     * the pattern switches when it has moved down by the ratio of the view height of its current pattern. the ticks
+     * of the switches are searched for, assuming the patterns never move up, and kept for the next calls with the
+     * same origin, so a tick is found in O(log n) after the first call that reaches it. like in a composite pattern,
+     * the patterns must move the same way from any start.
+     */
+    @Override
+    public Coordinates positionAt(Coordinates origin, long tick) {
+        double height = Configuration.getInstance().getGamePanelDimensions().height;
+        if (breakpoints == null || !breakpoints.startsAt(origin, height))
+            breakpoints = new Breakpoints(origin, height);
+        breakpoints.searchUntil(tick);
+        Segment segment = breakpoints.segmentAt(tick);
+        return new Coordinates(segment.xAfter(tick - segment.tick), segment.yAfter(tick - segment.tick));
+    }
+
     @Override
     public void reflect(Vector n) {
         try {
@@ -92,4 +112,107 @@ public class RatioPattern extends PathPattern {
             e.printStackTrace();
         }
     }
+
+    /**
+     * the part of the path between two switches, followed by a single pattern.
+     */
+    private class Segment {
+        final long tick;        // the tick of the switch to the pattern
+        final double x, y;      // the position at that tick
+        final double lastY;     // the y coordinate the movement of the pattern is measured from
+        final int patternIdx;
+        final long[] elapsed;   // the steps every pattern has been followed for before the segment
+        final int firstCheck;   // the steps after the switch before the next switch is checked for
+
+        Segment(long tick, double x, double y, double lastY, int patternIdx, long[] elapsed, int firstCheck) {
+            this.tick = tick;
+            this.x = x;
+            this.y = y;
+            this.lastY = lastY;
+            this.patternIdx = patternIdx;
+            this.elapsed = elapsed;
+            this.firstCheck = firstCheck;
+        }
+
+        double xAfter(long steps) {
+            PathPattern pattern = getPatterns().get(patternIdx);
+            long start = elapsed[patternIdx];
+            return x + pattern.positionAt(ORIGIN, start + steps).getX() - pattern.positionAt(ORIGIN, start).getX();
+        }
+
+        double yAfter(long steps) {
+            PathPattern pattern = getPatterns().get(patternIdx);
+            long start = elapsed[patternIdx];
+            return y + pattern.positionAt(ORIGIN, start + steps).getY() - pattern.positionAt(ORIGIN, start).getY();
+        }
+
+        // true if the pattern has moved far enough at the tick to switch to the next one
+        boolean switchesAt(long at, double height) {
+            return yAfter(at - tick) - lastY >= ratios.get(patternIdx) * height;
+        }
+
+        Segment next(long at) {
+            long[] nextElapsed = elapsed.clone();
+            nextElapsed[patternIdx] += at - tick;
+            double nextY = yAfter(at - tick);
+            return new Segment(at, xAfter(at - tick), nextY, nextY, (patternIdx + 1) % getPatterns().size(),
+                    nextElapsed, 1);
+        }
+    }
+
+    /**
+     * the segments of the path from an origin, found up to some tick.
+     */
+    private class Breakpoints {
+        private final double originX, originY, height;
+        private final ArrayList<Segment> segments = new ArrayList<>();
+        private long searchedUntil = -1; // there is no switch after the last segment until this tick
+
+        Breakpoints(Coordinates origin, double height) {
+            this.originX = origin.getX();
+            this.originY = origin.getY();
+            this.height = height;
+            // the first pattern is checked from the start, against the initial last y coordinate
+            segments.add(new Segment(0, originX, originY, 0, 0, new long[getPatterns().size()], 0));
+        }
+
+        boolean startsAt(Coordinates origin, double height) {
+            return origin.getX() == originX && origin.getY() == originY && height == this.height;
+        }
+
+        void searchUntil(long tick) {
+            while (searchedUntil < tick) {
+                Segment last = segments.get(segments.size() - 1);
+                long from = Math.max(searchedUntil + 1, last.tick + last.firstCheck);
+                if (from > tick || !last.switchesAt(tick, height)) {
+                    searchedUntil = tick;
+                    return;
+                }
+                // the first switch, by a binary search as the patterns only move down
+                long low = from, high = tick;
+                while (low < high) {
+                    long middle = low + (high - low) / 2;
+                    if (last.switchesAt(middle, height))
+                        high = middle;
+                    else
+                        low = middle + 1;
+                }
+                segments.add(last.next(low));
+                searchedUntil = low;
+            }
+        }
+
+        // the last segment that starts at or before the tick
+        Segment segmentAt(long tick) {
+            int low = 0, high = segments.size() - 1;
+            while (low < high) {
+                int middle = (low + high + 1) / 2;
+                if (segments.get(middle).tick <= tick)
+                    low = middle;
+                else
+                    high = middle - 1;
+            }
+            return segments.get(low);
+        }
+    }
 }
@@ -40,16 +40,33 @@ public class SequentialCompositePattern extends PathPattern{
     }
 
     @Override
-    public Coordinates nextPosition() {
+    public Coordinates nextPosition(double dt) {
         // check if we reached the next path pattern.
         if (currentCoords.equals(getPatterns().get(currentPatternIdx + 1).getCurrentCoords())){
             this.currentPatternIdx += 1;
             setCurrentPattern(getPatterns().get(this.currentPatternIdx));
         }
-        this.currentCoords = getCurrentPattern().nextPosition();
+        this.currentCoords = getCurrentPattern().nextPosition(dt);
         return this.currentCoords;
     }
 
+    /**
+     * the pattern switches when it reaches the current coordinates of the next pattern, so the path is stepped
+     * through.
+     */
+    @Override
+    public Coordinates positionAt(Coordinates origin, long tick) {
+        int patternIdx = 0;
+        Coordinates position = new Coordinates(origin.getX(), origin.getY());
+        for (long step = 0; step < tick; step++) {
+            if (patternIdx + 1 < getPatterns().size()
+                    && position.equals(getPatterns().get(patternIdx + 1).getCurrentCoords()))
+                patternIdx++;
+            position = getPatterns().get(patternIdx).positionAt(position, 1);
+        }
+        return position;
+    }
+
     @Override
     public void reflect(Vector n) {
         // TODO: implement reflect or delete the whole pattern (We have not used this pattern yet)
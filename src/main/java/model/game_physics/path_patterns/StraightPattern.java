@@ -2,6 +2,7 @@ package model.game_physics.path_patterns;
 
 import com.fasterxml.jackson.annotation.JsonIdentityReference;
 import com.fasterxml.jackson.annotation.JsonTypeName;
+import model.game_building.GameConstants;
 import services.utils.Coordinates;
 import services.utils.Vector;
 import services.utils.Velocity;
@@ -13,7 +14,7 @@ import services.utils.Velocity;
 @JsonIdentityReference(alwaysAsId = true)
 public class StraightPattern extends PathPattern {
     private Velocity initialVelocity;
-    private int sinceReflected = 100;
+    private int sinceReflected = GameConstants.READY_TO_REFLECT;
 
     @SuppressWarnings("unused")
     public StraightPattern() {//this is needed for the save/load functionality
@@ -32,18 +33,34 @@ public class StraightPattern extends PathPattern {
         return initialVelocity;
     }
 
+    public void setInitialVelocity(Velocity initialVelocity) {
+        this.initialVelocity = initialVelocity;
+    }
+
 
+    /**
+     * moves the current coordinates in place. they are the coordinates of the entity that follows the pattern, see
+     * {@link model.game_entities.AutonomousEntity#setCoordinates(Coordinates)}.
+     */
     @Override
-    public Coordinates nextPosition() {
-        setCurrentCoords(new Coordinates(getInitialVelocity().getXv() + getCurrentCoords().getX(),
-                getInitialVelocity().getYv() + getCurrentCoords().getY()));
+    public Coordinates nextPosition(double dt) {
+        double steps = dt / GameConstants.MOVEMENT_STEP;
+        Coordinates coords = getCurrentCoords();
+        coords.setX(getInitialVelocity().getXv() * steps + coords.getX());
+        coords.setY(getInitialVelocity().getYv() * steps + coords.getY());
         this.sinceReflected++;
-        return getCurrentCoords();
+        return coords;
+    }
+
+    @Override
+    public Coordinates positionAt(Coordinates origin, long tick) {
+        return new Coordinates(origin.getX() + getInitialVelocity().getXv() * tick,
+                origin.getY() + getInitialVelocity().getYv() * tick);
     }
 
     @Override
     public void reflect(Vector n) {
-        if(sinceReflected > 3) {
+        if(sinceReflected > GameConstants.REFLECTION_COOLDOWN) {
             this.initialVelocity = initialVelocity.reflect(n);
             this.sinceReflected = 0;
             PathPattern.logger.debug("[StraightPattern] pattern reflected");
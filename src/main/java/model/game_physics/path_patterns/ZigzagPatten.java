@@ -83,8 +83,13 @@ public class ZigzagPatten extends PathPattern {
     }
 
     @Override
-    public Coordinates nextPosition() {
-        return this.zigzagPattern.nextPosition();
+    public Coordinates nextPosition(double dt) {
+        return this.zigzagPattern.nextPosition(dt);
+    }
+
+    @Override
+    public Coordinates positionAt(Coordinates origin, long tick) {
+        return this.zigzagPattern.positionAt(origin, tick);
     }
 
     @Override
@@ -0,0 +1,178 @@
+package model.game_running;
+
+import model.game_entities.*;
+import model.game_entities.enums.SuperType;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Hands a collision to its handler by switching on the super types of the two entities, instead of the double
+ * dispatch of {@link Collidable#acceptCollision(CollisionVisitor, Entity)} and {@link Collidable#collideWith}, which
+ * goes through a call on each entity before reaching the visitor.
+ * <p>
+ * A dispatcher built by {@link #of(CollisionVisitor)} calls the handleCollision method of the visitor that matches the
+ * pair from its own case of the switch, so every call site only ever sees one method and the visitors are still the
+ * way collision rules are written. A handler can also be put in a table indexed by the pair with
+ * {@link #register(SuperType, SuperType, BiConsumer)}, which takes precedence over the visitor.
+ */
+public class CollisionDispatcher {
+
+    // the visitor the pairs without a registered handler are handed to, null if there is none
+    private final CollisionVisitor visitor;
+    // indexed by the super types of the first and the second parameter of handleCollision
+    private final BiConsumer<Entity, Entity>[][] handlers;
+
+    /**
+     * builds the dispatcher of a visitor.
+     *
+     * @param visitor the visitor the collisions are handled by
+     * @return the dispatcher of the visitor
+     */
+    public static CollisionDispatcher of(CollisionVisitor visitor) {
+        return new CollisionDispatcher(visitor);
+    }
+
+    /**
+     * creates a dispatcher without any handler.
+     */
+    public CollisionDispatcher() {
+        this(null);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private CollisionDispatcher(CollisionVisitor visitor) {
+        this.visitor = visitor;
+        int superTypes = SuperType.values().length;
+        handlers = new BiConsumer[superTypes][superTypes];
+    }
+
+    /**
+     * sets the handler of the collisions handled by {@code handleCollision(first, second)}, replacing the previous
+     * one.
+     *
+     * @param handler called with the first and the second entity
+     */
+    public void register(SuperType first, SuperType second, BiConsumer<Entity, Entity> handler) {
+        handlers[first.ordinal()][second.ordinal()] = handler;
+    }
+
+    /**
+     * handles the collision of a source entity with a target entity, the same as
+     * {@code source.acceptCollision(visitor, target)}, which ends in {@code visitor.handleCollision(target, source)}.
+     *
+     * @param source the source of the collision
+     * @param target the target of the collision
+     */
+    public void dispatch(Entity source, Entity target) {
+        BiConsumer<Entity, Entity> handler = handlers[target.getSuperType().ordinal()][source.getSuperType().ordinal()];
+        if (handler != null)
+            handler.accept(target, source);
+        else if (visitor != null)
+            dispatchToVisitor(source, target);
+    }
+
+    private void dispatchToVisitor(Entity source, Entity target) {
+        switch (target.getSuperType()) {
+            case ATOM:
+                switch (source.getSuperType()) {
+                    case ATOM:
+                        visitor.handleCollision((Atom) target, (Atom) source);
+                        return;
+                    case MOLECULE:
+                        visitor.handleCollision((Atom) target, (Molecule) source);
+                        return;
+                    case BLOCKER:
+                        visitor.handleCollision((Atom) target, (Blocker) source);
+                        return;
+                    case POWERUP:
+                        visitor.handleCollision((Atom) target, (Powerup) source);
+                        return;
+                    case SHOOTER:
+                        visitor.handleCollision((Atom) target, (Shooter) source);
+                        return;
+                    default:
+                        return;
+                }
+            case MOLECULE:
+                switch (source.getSuperType()) {
+                    case ATOM:
+                        visitor.handleCollision((Molecule) target, (Atom) source);
+                        return;
+                    case MOLECULE:
+                        visitor.handleCollision((Molecule) target, (Molecule) source);
+                        return;
+                    case BLOCKER:
+                        visitor.handleCollision((Molecule) target, (Blocker) source);
+                        return;
+                    case POWERUP:
+                        visitor.handleCollision((Molecule) target, (Powerup) source);
+                        return;
+                    case SHOOTER:
+                        visitor.handleCollision((Molecule) target, (Shooter) source);
+                        return;
+                    default:
+                        return;
+                }
+            case BLOCKER:
+                switch (source.getSuperType()) {
+                    case ATOM:
+                        visitor.handleCollision((Blocker) target, (Atom) source);
+                        return;
+                    case MOLECULE:
+                        visitor.handleCollision((Blocker) target, (Molecule) source);
+                        return;
+                    case BLOCKER:
+                        visitor.handleCollision((Blocker) target, (Blocker) source);
+                        return;
+                    case POWERUP:
+                        visitor.handleCollision((Blocker) target, (Powerup) source);
+                        return;
+                    case SHOOTER:
+                        visitor.handleCollision((Blocker) target, (Shooter) source);
+                        return;
+                    default:
+                        return;
+                }
+            case POWERUP:
+                switch (source.getSuperType()) {
+                    case ATOM:
+                        visitor.handleCollision((Powerup) target, (Atom) source);
+                        return;
+                    case MOLECULE:
+                        visitor.handleCollision((Powerup) target, (Molecule) source);
+                        return;
+                    case BLOCKER:
+                        visitor.handleCollision((Powerup) target, (Blocker) source);
+                        return;
+                    case POWERUP:
+                        visitor.handleCollision((Powerup) target, (Powerup) source);
+                        return;
+                    case SHOOTER:
+                        visitor.handleCollision((Powerup) target, (Shooter) source);
+                        return;
+                    default:
+                        return;
+                }
+            case SHOOTER:
+                switch (source.getSuperType()) {
+                    case ATOM:
+                        visitor.handleCollision((Shooter) target, (Atom) source);
+                        return;
+                    case MOLECULE:
+                        visitor.handleCollision((Shooter) target, (Molecule) source);
+                        return;
+                    case BLOCKER:
+                        visitor.handleCollision((Shooter) target, (Blocker) source);
+                        return;
+                    case POWERUP:
+                        visitor.handleCollision((Shooter) target, (Powerup) source);
+                        return;
+                    case SHOOTER:
+                        visitor.handleCollision((Shooter) target, (Shooter) source);
+                        return;
+                    default:
+                        return;
+                }
+        }
+    }
+}
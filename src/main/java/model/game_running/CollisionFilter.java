@@ -0,0 +1,135 @@
+package model.game_running;
+
+import model.game_entities.*;
+import model.game_entities.enums.SuperType;
+
+import java.lang.reflect.Method;
+import java.util.function.BiPredicate;
+
+/**
+ * Decides, before any geometry is tested, whether a collision between two entities can have an effect.
+ * <p>
+ * The collision of a source entity with a target entity ends in {@code visitor.handleCollision(target, source)}. Most
+ * of the handleCollision methods of {@link CollisionVisitor} are empty defaults, so most pairs of super types never
+ * interact. The filter finds the pairs the visitor overrides once, when it is built, and keeps them in a super type by
+ * super type matrix. A pair can also be given a predicate that looks at the two entities, for example to only accept
+ * entities of the same type.
+ * <p>
+ * Overriding a handleCollision method is enough to enable its pair; the predicates are registered by the visitor in
+ * {@link CollisionVisitor#configureFilter(CollisionFilter)}.
+ */
+public class CollisionFilter {
+
+    // the entity classes of the handleCollision parameters, and their super types
+    private static final Class<?>[] ENTITY_CLASSES = {Atom.class, Molecule.class, Blocker.class, Powerup.class,
+            Shooter.class};
+    private static final SuperType[] ENTITY_SUPER_TYPES = {SuperType.ATOM, SuperType.MOLECULE, SuperType.BLOCKER,
+            SuperType.POWERUP, SuperType.SHOOTER};
+
+    // indexed by the super types of the first and the second parameter of handleCollision
+    private final boolean[][] interacts;
+    private final BiPredicate<Entity, Entity>[][] predicates;
+    // indexed by super type, true if the super type is the first or the second parameter of an interaction
+    private final boolean[] interactsAsFirst;
+    private final boolean[] interactsAsSecond;
+
+    /**
+     * builds the filter of a visitor, and lets the visitor register its predicates.
+     *
+     * @param visitor the visitor the collisions are handled by
+     * @return the filter of the visitor
+     */
+    public static CollisionFilter of(CollisionVisitor visitor) {
+        CollisionFilter filter = new CollisionFilter();
+        for (int first = 0; first < ENTITY_CLASSES.length; first++)
+            for (int second = 0; second < ENTITY_CLASSES.length; second++)
+                if (isOverridden(visitor, ENTITY_CLASSES[first], ENTITY_CLASSES[second]))
+                    filter.register(ENTITY_SUPER_TYPES[first], ENTITY_SUPER_TYPES[second]);
+        visitor.configureFilter(filter);
+        return filter;
+    }
+
+    /**
+     * creates a filter that accepts no pair.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public CollisionFilter() {
+        int superTypes = SuperType.values().length;
+        interacts = new boolean[superTypes][superTypes];
+        predicates = new BiPredicate[superTypes][superTypes];
+        interactsAsFirst = new boolean[superTypes];
+        interactsAsSecond = new boolean[superTypes];
+    }
+
+    /**
+     * accepts the collisions handled by {@code handleCollision(first, second)}.
+     */
+    public void register(SuperType first, SuperType second) {
+        interacts[first.ordinal()][second.ordinal()] = true;
+        interactsAsFirst[first.ordinal()] = true;
+        interactsAsSecond[second.ordinal()] = true;
+    }
+
+    /**
+     * only accepts the collisions handled by {@code handleCollision(first, second)} for which the predicate holds.
+     * the pair must already be accepted, a predicate cannot enable a pair.
+     *
+     * @param predicate a test of the first and the second entity
+     * @throws IllegalStateException if the pair is not accepted
+     */
+    public void require(SuperType first, SuperType second, BiPredicate<Entity, Entity> predicate) {
+        if (!interacts[first.ordinal()][second.ordinal()])
+            throw new IllegalStateException("[CollisionFilter] a predicate cannot enable the pair " + first + ", "
+                    + second);
+        BiPredicate<Entity, Entity> existing = predicates[first.ordinal()][second.ordinal()];
+        predicates[first.ordinal()][second.ordinal()] = existing == null ? predicate : existing.and(predicate);
+    }
+
+    /**
+     * @param first  the first entity of handleCollision, the target of the collision
+     * @param second the second entity of handleCollision, the source of the collision
+     * @return true if the collision of the entities can have an effect
+     */
+    public boolean accepts(Entity first, Entity second) {
+        int firstType = first.getSuperType().ordinal();
+        int secondType = second.getSuperType().ordinal();
+        if (!interacts[firstType][secondType])
+            return false;
+        BiPredicate<Entity, Entity> predicate = predicates[firstType][secondType];
+        return predicate == null || predicate.test(first, second);
+    }
+
+    /**
+     * @param first  the super type of the first entity of handleCollision
+     * @param second the super type of the second entity of handleCollision
+     * @return true if the collisions of the super types can have an effect, before the predicates
+     */
+    public boolean accepts(SuperType first, SuperType second) {
+        return interacts[first.ordinal()][second.ordinal()];
+    }
+
+    /**
+     * @param superType a super type
+     * @return true if an entity of the super type can be the source of a collision that has an effect
+     */
+    public boolean acceptsAsSource(SuperType superType) {
+        return interactsAsSecond[superType.ordinal()];
+    }
+
+    /**
+     * @param superType a super type
+     * @return true if an entity of the super type can be the target of a collision that has an effect
+     */
+    public boolean acceptsAsTarget(SuperType superType) {
+        return interactsAsFirst[superType.ordinal()];
+    }
+
+    private static boolean isOverridden(CollisionVisitor visitor, Class<?> first, Class<?> second) {
+        try {
+            Method method = visitor.getClass().getMethod("handleCollision", first, second);
+            return method.getDeclaringClass() != CollisionVisitor.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
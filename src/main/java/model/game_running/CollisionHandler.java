@@ -2,6 +2,7 @@ package model.game_running;
 
 import model.game_building.GameConstants;
 import model.game_entities.*;
+import model.game_entities.enums.SuperType;
 
 import javax.sound.sampled.LineUnavailableException;
 import javax.sound.sampled.UnsupportedAudioFileException;
@@ -18,6 +19,24 @@ public class CollisionHandler implements CollisionVisitor {
 
     }
 
+    /**
+     * the collisions below only have an effect under the conditions checked in their handlers.
+     */
+    @Override
+    public void configureFilter(CollisionFilter filter) {
+        filter.require(SuperType.ATOM, SuperType.MOLECULE, CollisionHandler::sameEntityType);
+        filter.require(SuperType.ATOM, SuperType.BLOCKER,
+                (atom, blocker) -> ((Blocker) blocker).isExploded() || sameEntityType(atom, blocker));
+        filter.require(SuperType.POWERUP, SuperType.BLOCKER,
+                (powerup, blocker) -> !((Powerup) powerup).isFalling() && sameEntityType(powerup, blocker));
+        filter.require(SuperType.MOLECULE, SuperType.BLOCKER, (molecule, blocker) -> ((Blocker) blocker).isExploded());
+        filter.require(SuperType.SHOOTER, SuperType.POWERUP, (shooter, powerup) -> ((Powerup) powerup).isFalling());
+    }
+
+    private static boolean sameEntityType(Entity first, Entity second) {
+        return ((AutonomousEntity) first).getEntityType() == ((AutonomousEntity) second).getEntityType();
+    }
+
     /**
      * this method calls the removeEntity method of the runningMode object to remove the entities from the game view
      *
@@ -4,6 +4,15 @@ import model.game_entities.*;
 
 public interface CollisionVisitor {
 
+    /**
+     * registers the conditions under which the handled collisions have an effect, so that the other collisions can
+     * be skipped before their geometry is tested. the pairs are found from the overridden handleCollision methods.
+     *
+     * @param filter the filter of this visitor
+     */
+    default void configureFilter(CollisionFilter filter) {
+    }
+
     /**
      * this methods is supposed to handle the collision of atom entity with powerup entity.
      * since no action is done in this type of collision, the method is default.
@@ -0,0 +1,149 @@
+package model.game_running;
+
+import model.game_entities.AutonomousEntity;
+import model.game_entities.Entity;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * The contacts found by the detection phase of a collision pass, waiting to be resolved.
+ * <p>
+ * Detection only reads the game space and writes its contacts here; the resolve phase then sorts them and applies
+ * the rules of the {@link CollisionVisitor}, which remove entities and change the score and the health. The order of
+ * the resolve phase only depends on the contacts, not on the order they were found in: the earliest contacts first,
+ * then the contacts between two entities before the contacts with the shooter, then by the ids of the entities.
+ * <p>
+ * The contacts are reused between passes, so the buffer does not allocate once it is large enough. A contact must
+ * not be kept after the buffer is cleared.
+ */
+public class ContactBuffer {
+
+    /**
+     * what the source of a contact touched.
+     */
+    public enum Kind {
+        ENTITY,  // another autonomous entity
+        SHOOTER  // the shooter
+    }
+
+    private static final Comparator<Contact> RESOLVE_ORDER = (a, b) -> {
+        if (a.time != b.time)
+            return Double.compare(a.time, b.time);
+        if (a.kind != b.kind)
+            return a.kind.compareTo(b.kind);
+        if (a.sourceId != b.sourceId)
+            return Long.compare(a.sourceId, b.sourceId);
+        if (a.targetId != b.targetId)
+            return Long.compare(a.targetId, b.targetId);
+        return Integer.compare(a.order, b.order);
+    };
+
+    private Contact[] contacts = new Contact[16];
+    private int size;
+
+    /**
+     * removes all the contacts.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            contacts[i].source = null;
+            contacts[i].target = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * adds a contact.
+     *
+     * @param kind   what the source touched
+     * @param source the source of the collision
+     * @param target the target of the collision
+     * @param time   the fraction of the tick after which the entities touched, 1 if they only touch at the end
+     */
+    public void add(Kind kind, AutonomousEntity source, Entity target, double time) {
+        if (size == contacts.length)
+            contacts = Arrays.copyOf(contacts, size * 2);
+        Contact contact = contacts[size];
+        if (contact == null)
+            contact = contacts[size] = new Contact();
+        contact.kind = kind;
+        contact.source = source;
+        contact.target = target;
+        contact.sourceId = source.getId();
+        contact.targetId = target instanceof AutonomousEntity ? ((AutonomousEntity) target).getId() : -1;
+        contact.time = time;
+        contact.order = size++;
+    }
+
+    /**
+     * adds all the contacts of another buffer, in their order.
+     *
+     * @param other the buffer whose contacts are added
+     */
+    public void addAll(ContactBuffer other) {
+        for (int i = 0; i < other.size; i++) {
+            Contact contact = other.contacts[i];
+            add(contact.kind, contact.source, contact.target, contact.time);
+        }
+    }
+
+    /**
+     * sorts the contacts into the order they are resolved in.
+     */
+    public void sort() {
+        Arrays.sort(contacts, 0, size, RESOLVE_ORDER);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index the index of the contact, in the order they were added, or in the resolve order after a sort
+     * @return the contact
+     */
+    public Contact get(int index) {
+        return contacts[index];
+    }
+
+    /**
+     * a contact between the source and the target of a collision, see
+     * {@link Collidable#acceptCollision(CollisionVisitor, Entity)}.
+     */
+    public static final class Contact {
+        private Kind kind;
+        private AutonomousEntity source;
+        private Entity target;
+        private long sourceId, targetId;
+        private double time;
+        private int order;
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public AutonomousEntity getSource() {
+            return source;
+        }
+
+        public Entity getTarget() {
+            return target;
+        }
+
+        public long getSourceId() {
+            return sourceId;
+        }
+
+        /**
+         * @return the id of the target, -1 for the shooter
+         */
+        public long getTargetId() {
+            return targetId;
+        }
+
+        public double getTime() {
+            return time;
+        }
+    }
+}
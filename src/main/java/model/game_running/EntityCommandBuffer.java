@@ -0,0 +1,136 @@
+package model.game_running;
+
+import model.game_ecs.EcsWorld;
+import model.game_entities.AutonomousEntity;
+import model.game_entities.enums.SuperType;
+import model.game_running.listeners.GameEntitiesListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Queues the entities that are spawned and despawned during a tick and commits them to the registry all at once at
+ * the tick boundary. The entities in the registry therefore never change while a tick iterates over them, and the
+ * listener is notified once per tick with all the added and all the removed entities.
+ * <p>
+ * Spawns may be queued from any thread. Despawns are queued by the game loop; despawning an entity twice in a tick,
+ * for example when it is hit twice in one collision pass, only removes and reports it once.
+ */
+public class EntityCommandBuffer {
+
+    private final EntityRegistry registry;
+    private final EcsWorld ecsWorld;
+    private final GameEntitiesListener listener;
+
+    private final Queue<AutonomousEntity> spawns;
+    private final AtomicIntegerArray spawnCounts; // the number of queued spawns per super type
+    private final List<AutonomousEntity> despawns;
+    private final Set<AutonomousEntity> despawnSet;
+    // reused between commits, the listener must not keep them
+    private final List<AutonomousEntity> added;
+    private final List<AutonomousEntity> removed;
+
+    /**
+     * @param registry the registry the changes are committed to
+     * @param ecsWorld the ECS core the straight moving entities are attached to, or null if it is disabled
+     * @param listener the listener that is notified of the committed changes
+     */
+    public EntityCommandBuffer(EntityRegistry registry, EcsWorld ecsWorld, GameEntitiesListener listener) {
+        this.registry = registry;
+        this.ecsWorld = ecsWorld;
+        this.listener = listener;
+        spawns = new ConcurrentLinkedQueue<>();
+        spawnCounts = new AtomicIntegerArray(SuperType.values().length);
+        despawns = new ArrayList<>();
+        despawnSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        added = new ArrayList<>();
+        removed = new ArrayList<>();
+    }
+
+    /**
+     * queues an entity to be added at the next commit. can be called from any thread.
+     *
+     * @param entity the entity to be added
+     */
+    public void spawn(AutonomousEntity entity) {
+        spawnCounts.incrementAndGet(entity.getSuperType().ordinal());
+        spawns.add(entity);
+    }
+
+    /**
+     * queues an entity to be removed at the next commit.
+     *
+     * @param entity the entity to be removed
+     * @return false if the entity is already queued to be removed
+     */
+    public boolean despawn(AutonomousEntity entity) {
+        if (!despawnSet.add(entity))
+            return false;
+        despawns.add(entity);
+        return true;
+    }
+
+    /**
+     * @param entity an entity
+     * @return true if the entity is queued to be removed at the next commit
+     */
+    public boolean isDespawning(AutonomousEntity entity) {
+        return !despawnSet.isEmpty() && despawnSet.contains(entity);
+    }
+
+    /**
+     * @param superType a super type
+     * @return the number of entities of the given super type queued to be added at the next commit
+     */
+    public int getPendingSpawnCount(SuperType superType) {
+        return spawnCounts.get(superType.ordinal());
+    }
+
+    /**
+     * applies the queued removals, then the queued additions, and notifies the listener with one batch of each.
+     */
+    public void commit() {
+        for (AutonomousEntity entity : despawns) {
+            if (registry.remove(entity)) {
+                if (ecsWorld != null)
+                    ecsWorld.detach(entity);
+                removed.add(entity);
+            }
+        }
+        despawns.clear();
+        despawnSet.clear();
+
+        AutonomousEntity entity;
+        while ((entity = spawns.poll()) != null) {
+            spawnCounts.decrementAndGet(entity.getSuperType().ordinal());
+            registry.add(entity);
+            if (ecsWorld != null)
+                ecsWorld.attach(entity);
+            added.add(entity);
+        }
+
+        if (!removed.isEmpty())
+            listener.onEntitiesRemove(removed);
+        if (!added.isEmpty())
+            listener.onEntitiesAdd(added);
+        removed.clear();
+        added.clear();
+    }
+
+    /**
+     * drops all the queued changes.
+     */
+    public void clear() {
+        AutonomousEntity entity;
+        while ((entity = spawns.poll()) != null)
+            spawnCounts.decrementAndGet(entity.getSuperType().ordinal());
+        despawns.clear();
+        despawnSet.clear();
+    }
+}
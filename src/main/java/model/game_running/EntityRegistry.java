@@ -0,0 +1,199 @@
+package model.game_running;
+
+import model.game_entities.AutonomousEntity;
+import model.game_entities.enums.EntityType;
+import model.game_entities.enums.SuperType;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Holds the autonomous entities of the game space in reusable slots.
+ * <p>
+ * Every entity gets a generational id when it is added: the low 32 bits are the index of its slot and the high 32 bits
+ * are the generation of that slot, which is incremented whenever the slot is freed. An id therefore never refers to a
+ * later entity that reuses the same slot.
+ * <p>
+ * The registry also keeps live counts of its entities per super type and per entity type, so the "are there any X in
+ * the game space" questions are O(1).
+ * <p>
+ * Adding and removing are O(1) and do not copy the entities. Removing an entity only clears its slot, so an iteration
+ * that is in progress skips removed entities and visits every other entity exactly once. Freed slots are only reused by
+ * {@link #add(AutonomousEntity)}, which must not be called while iterating.
+ * <p>
+ * The registry is not thread safe, it is owned by the game loop.
+ */
+public class EntityRegistry implements Iterable<AutonomousEntity> {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private AutonomousEntity[] slots;
+    private int[] generations;
+    private int[] freeSlots; // stack of the freed slots below the high water mark
+    private int freeCount;
+    private int highWater; // number of slots that were ever used
+    private int size;
+    private final int[] superTypeCounts;
+    private final int[][] entityTypeCounts; // indexed by super type, then by entity type
+
+    public EntityRegistry() {
+        slots = new AutonomousEntity[INITIAL_CAPACITY];
+        generations = new int[INITIAL_CAPACITY];
+        freeSlots = new int[INITIAL_CAPACITY];
+        superTypeCounts = new int[SuperType.values().length];
+        entityTypeCounts = new int[SuperType.values().length][EntityType.values().length];
+    }
+
+    /**
+     * adds an entity to the registry and assigns its id.
+     *
+     * @param entity the entity to be added
+     * @return the id of the entity
+     */
+    public long add(AutonomousEntity entity) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (highWater == slots.length)
+                grow();
+            slot = highWater++;
+        }
+        slots[slot] = entity;
+        size++;
+        updateCounts(entity, 1);
+        long id = toId(slot, generations[slot]);
+        entity.setId(id);
+        return id;
+    }
+
+    /**
+     * removes an entity from the registry. removing an entity that is not in the registry has no effect.
+     *
+     * @param entity the entity to be removed
+     * @return true if the entity was removed
+     */
+    public boolean remove(AutonomousEntity entity) {
+        int slot = slotOf(entity.getId());
+        if (slot < 0 || slot >= highWater || slots[slot] != entity)
+            return false;
+        slots[slot] = null;
+        generations[slot]++;
+        freeSlots[freeCount++] = slot;
+        size--;
+        updateCounts(entity, -1);
+        return true;
+    }
+
+    /**
+     * @param id the id of an entity
+     * @return the entity with the given id, or null if it was removed
+     */
+    public AutonomousEntity get(long id) {
+        int slot = slotOf(id);
+        if (slot < 0 || slot >= highWater || generations[slot] != generationOf(id))
+            return null;
+        return slots[slot];
+    }
+
+    public boolean contains(AutonomousEntity entity) {
+        return get(entity.getId()) == entity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param superType a super type
+     * @return the number of entities of the given super type
+     */
+    public int count(SuperType superType) {
+        return superTypeCounts[superType.ordinal()];
+    }
+
+    /**
+     * @param superType  a super type
+     * @param entityType an entity type
+     * @return the number of entities of the given super type and entity type
+     */
+    public int count(SuperType superType, EntityType entityType) {
+        return entityTypeCounts[superType.ordinal()][entityType.ordinal()];
+    }
+
+    /**
+     * removes all the entities. the ids given so far stay invalid.
+     */
+    public void clear() {
+        for (int slot = 0; slot < highWater; slot++) {
+            if (slots[slot] != null) {
+                slots[slot] = null;
+                generations[slot]++;
+                freeSlots[freeCount++] = slot;
+            }
+        }
+        size = 0;
+        Arrays.fill(superTypeCounts, 0);
+        for (int[] counts : entityTypeCounts)
+            Arrays.fill(counts, 0);
+    }
+
+    /**
+     * @return an iterator over the entities, in slot order
+     */
+    @Override
+    public Iterator<AutonomousEntity> iterator() {
+        return new Iterator<AutonomousEntity>() {
+            private int cursor = advance(0);
+
+            private int advance(int slot) {
+                while (slot < highWater && slots[slot] == null)
+                    slot++;
+                return slot;
+            }
+
+            @Override
+            public boolean hasNext() {
+                cursor = advance(cursor);
+                return cursor < highWater;
+            }
+
+            @Override
+            public AutonomousEntity next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                return slots[cursor++];
+            }
+        };
+    }
+
+    private void updateCounts(AutonomousEntity entity, int delta) {
+        superTypeCounts[entity.getSuperType().ordinal()] += delta;
+        if (entity.getEntityType() != null)
+            entityTypeCounts[entity.getSuperType().ordinal()][entity.getEntityType().ordinal()] += delta;
+    }
+
+    private void grow() {
+        int capacity = slots.length * 2;
+        slots = Arrays.copyOf(slots, capacity);
+        generations = Arrays.copyOf(generations, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+    }
+
+    private static long toId(int slot, int generation) {
+        return ((long) generation << 32) | (slot & 0xFFFFFFFFL);
+    }
+
+    private static int slotOf(long id) {
+        return (int) id;
+    }
+
+    private static int generationOf(long id) {
+        return (int) (id >>> 32);
+    }
+}
@@ -0,0 +1,88 @@
+package model.game_running;
+
+import model.game_building.GameConstants;
+import model.game_entities.enums.ShieldType;
+
+/**
+ * A player input, queued by the UI and executed by the game loop at the start of the next tick.
+ * Commands are immutable, the ones without an argument are shared.
+ */
+public final class GameCommand {
+
+    public enum Type {
+        SHOOT,
+        SWITCH_ATOM,
+        MOVE_SHOOTER,   // the argument is the movement state of the shooter
+        ROTATE_SHOOTER, // the argument is the rotation direction
+        APPLY_SHIELD    // the argument is the ordinal of the shield type
+    }
+
+    private static final GameCommand SHOOT = new GameCommand(Type.SHOOT, 0);
+    private static final GameCommand SWITCH_ATOM = new GameCommand(Type.SWITCH_ATOM, 0);
+    private static final GameCommand MOVE_LEFT = new GameCommand(Type.MOVE_SHOOTER, GameConstants.SHOOTER_MOVEMENT_LEFT);
+    private static final GameCommand MOVE_RIGHT = new GameCommand(Type.MOVE_SHOOTER, GameConstants.SHOOTER_MOVEMENT_RIGHT);
+    private static final GameCommand MOVE_STILL = new GameCommand(Type.MOVE_SHOOTER, GameConstants.SHOOTER_MOVEMENT_STILL);
+
+    private final Type type;
+    private final int argument;
+
+    private GameCommand(Type type, int argument) {
+        this.type = type;
+        this.argument = argument;
+    }
+
+    public static GameCommand shoot() {
+        return SHOOT;
+    }
+
+    public static GameCommand switchAtom() {
+        return SWITCH_ATOM;
+    }
+
+    /**
+     * @param direction one of the shooter movement states in {@link GameConstants}
+     */
+    public static GameCommand moveShooter(int direction) {
+        switch (direction) {
+            case GameConstants.SHOOTER_MOVEMENT_LEFT:
+                return MOVE_LEFT;
+            case GameConstants.SHOOTER_MOVEMENT_RIGHT:
+                return MOVE_RIGHT;
+            case GameConstants.SHOOTER_MOVEMENT_STILL:
+                return MOVE_STILL;
+            default:
+                return new GameCommand(Type.MOVE_SHOOTER, direction);
+        }
+    }
+
+    /**
+     * @param direction one of the shooter rotation directions in {@link GameConstants}
+     */
+    public static GameCommand rotateShooter(int direction) {
+        return new GameCommand(Type.ROTATE_SHOOTER, direction);
+    }
+
+    public static GameCommand applyShield(ShieldType shieldType) {
+        return new GameCommand(Type.APPLY_SHIELD, shieldType.ordinal());
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getArgument() {
+        return argument;
+    }
+
+    /**
+     * @return the shield type of an APPLY_SHIELD command
+     */
+    public ShieldType getShieldType() {
+        return ShieldType.values()[argument];
+    }
+
+    @Override
+    public String toString() {
+        return "GameCommand{" + type + ", " + argument + "}";
+    }
+}
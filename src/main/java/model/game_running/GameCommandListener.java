@@ -4,12 +4,12 @@ import model.game_building.GameConstants;
 
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
-import java.util.Timer;
-import java.util.TimerTask;
 
+/**
+ * Translates the key events into game commands. The commands that change the game space are queued and executed by
+ * the game loop at the start of the next tick; pausing, resuming, saving and loading are handled directly.
+ */
 public class GameCommandListener implements KeyListener {
-    private boolean canShoot = true;
-    private final Timer timer = new Timer();
     private final RunningMode runningMode;
 
     public GameCommandListener(RunningMode runningMode) {
@@ -30,25 +30,16 @@ public class GameCommandListener implements KeyListener {
                 runningMode.getBlender().showBlender();
                 break;
             case KeyEvent.VK_C:
-                runningMode.switchAtom();
+                runningMode.submitCommand(GameCommand.switchAtom());
                 break;
             case KeyEvent.VK_UP:
-                if (canShoot) { // TODO: Change implementation later.
-                    runningMode.shootProjectile();
-                    canShoot = false;
-                    timer.schedule(new TimerTask() { // Creates a TimerTask object that will make canShoot true after a specified time (DEFAULT_SHOOTER_DELAY)
-                        @Override
-                        public void run() {
-                            canShoot = true;
-                        }
-                    }, GameConstants.DEFAULT_SHOOTER_DELAY);
-                }
+                runningMode.submitCommand(GameCommand.shoot()); // the shooter delay is enforced by the game loop
                 break;
             case KeyEvent.VK_LEFT:
-                runningMode.moveShooter(GameConstants.SHOOTER_MOVEMENT_LEFT);
+                runningMode.submitCommand(GameCommand.moveShooter(GameConstants.SHOOTER_MOVEMENT_LEFT));
                 break;
             case KeyEvent.VK_RIGHT:
-                runningMode.moveShooter(GameConstants.SHOOTER_MOVEMENT_RIGHT);
+                runningMode.submitCommand(GameCommand.moveShooter(GameConstants.SHOOTER_MOVEMENT_RIGHT));
                 break;
         }
     }
@@ -58,13 +49,13 @@ public class GameCommandListener implements KeyListener {
         switch (e.getKeyCode()) {
             case KeyEvent.VK_LEFT:
             case KeyEvent.VK_RIGHT:
-                runningMode.moveShooter(GameConstants.SHOOTER_MOVEMENT_STILL);
+                runningMode.submitCommand(GameCommand.moveShooter(GameConstants.SHOOTER_MOVEMENT_STILL));
                 break;
             case KeyEvent.VK_D:
-                runningMode.rotateShooter(GameConstants.SHOOTER_ROTATION_RIGHT);
+                runningMode.submitCommand(GameCommand.rotateShooter(GameConstants.SHOOTER_ROTATION_RIGHT));
                 break;
             case KeyEvent.VK_A:
-                runningMode.rotateShooter(GameConstants.SHOOTER_ROTATION_LEFT);
+                runningMode.submitCommand(GameCommand.rotateShooter(GameConstants.SHOOTER_ROTATION_LEFT));
                 break;
             case KeyEvent.VK_S:
                 runningMode.saveGameRequest();
@@ -0,0 +1,206 @@
+package model.game_running;
+
+import model.game_building.GameBundle;
+import model.game_building.GameConstants;
+import model.game_entities.AutonomousEntity;
+import model.game_running.listeners.*;
+import model.game_running.runnables.GameRunnable;
+import model.game_space.Player;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Runs the game model without any UI, sound or images. The running mode is ticked back to back as fast as the CPU
+ * allows, and a simple autopilot keeps shooting so that the collision path is exercised.
+ * All listeners the running mode needs are implemented here as no-ops.
+ */
+public class HeadlessRunner implements RunningStateListener, GameEntitiesListener, SessionLoadListener,
+        SessionSaveListener, GameStatisticsListener, ShooterEventListener, RunningMode.OnGameStateListener,
+        CollisionHandler.OnCollisionListener {
+
+    private final RunningMode runningMode;
+    private final Player player;
+    private long ticks;
+    private long elapsedNanos;
+
+    /**
+     * creates a running mode from the current game configuration.
+     */
+    public HeadlessRunner() {
+        runningMode = new RunningMode(this, this, this, this, this, this);
+        runningMode.getShooter().setShooterListener(this);
+        player = new Player("headless", this);
+        runningMode.setPlayer(player);
+        runningMode.getTickEngine().register(TickEngine.Phase.INPUT, new AutopilotRunnable(runningMode));
+    }
+
+    /**
+     * ticks the running mode until the tick budget is used or the game is over.
+     *
+     * @param tickBudget the maximum number of ticks to simulate
+     */
+    public void run(long tickBudget) {
+        long start = System.nanoTime();
+        ticks = runningMode.getTickEngine().runUnpaced(tickBudget);
+        elapsedNanos = System.nanoTime() - start;
+    }
+
+    public double getScore() {
+        return player.getScore();
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public double getTicksPerSecond() {
+        return elapsedNanos == 0 ? 0 : ticks / (elapsedNanos / 1e9);
+    }
+
+    public RunningMode getRunningMode() {
+        return runningMode;
+    }
+
+    /**
+     * @return a one line summary of the run
+     */
+    public String getSummary() {
+        return String.format("score: %.2f, ticks: %d, ticks/sec: %.1f", getScore(), getTicks(), getTicksPerSecond());
+    }
+
+    /**
+     * Shoots whenever the shooter delay has passed in game time, sweeping the shooter angle between shots.
+     */
+    private static class AutopilotRunnable extends GameRunnable {
+        private final RunningMode runningMode;
+        private double timeSinceLastShot;
+        private int rotationDirection = GameConstants.SHOOTER_ROTATION_RIGHT;
+
+        AutopilotRunnable(RunningMode runningMode) {
+            this.runningMode = runningMode;
+        }
+
+        @Override
+        public void tick(double dt) {
+            timeSinceLastShot += dt;
+            if (timeSinceLastShot < GameConstants.DEFAULT_SHOOTER_DELAY)
+                return;
+            timeSinceLastShot = 0;
+            runningMode.shootProjectile();
+            if (!runningMode.getShooter().rotate(rotationDirection))
+                rotationDirection = rotationDirection == GameConstants.SHOOTER_ROTATION_RIGHT ?
+                        GameConstants.SHOOTER_ROTATION_LEFT : GameConstants.SHOOTER_ROTATION_RIGHT;
+        }
+    }
+
+    // Listeners. Nothing is displayed or played in headless mode.
+
+    @Override
+    public void onRunningStateChanged(int state) {
+    }
+
+    @Override
+    public void onGameOver() {
+    }
+
+    @Override
+    public void onEntitiesAdd(Collection<AutonomousEntity> entities) {
+    }
+
+    @Override
+    public void onEntitiesRemove(Collection<AutonomousEntity> entities) {
+    }
+
+    @Override
+    public void onGameReset() {
+    }
+
+    @Override
+    public void onSessionListFetched(ArrayList<String> sessions) {
+    }
+
+    @Override
+    public void onSessionRetrieved(GameBundle bundle) {
+    }
+
+    @Override
+    public void onLoadFailed(String errorMessage) {
+    }
+
+    @Override
+    public void getSavedSessions() {
+    }
+
+    @Override
+    public void showSaveMethodSelector() {
+    }
+
+    @Override
+    public void onHealthChanged(double health) {
+    }
+
+    @Override
+    public void onTimerChanged(String currentTime) {
+    }
+
+    @Override
+    public void onScoreChanged(double score) {
+    }
+
+    @Override
+    public void onProjectileCountChange() {
+    }
+
+    @Override
+    public void onShieldsCountChange() {
+    }
+
+    @Override
+    public void onShot() {
+    }
+
+    @Override
+    public void onMoved() {
+    }
+
+    @Override
+    public void onStopped() {
+    }
+
+    @Override
+    public void onGameStart() {
+    }
+
+    @Override
+    public void onGamePaused() {
+    }
+
+    @Override
+    public void onGameResume() {
+    }
+
+    @Override
+    public void onShoot() {
+    }
+
+    @Override
+    public void onShooterBlockerCollision() {
+    }
+
+    @Override
+    public void onAtomMoleculeCollision() {
+    }
+
+    @Override
+    public void onShooterPowerupCollision() {
+    }
+
+    @Override
+    public void onPowerupBlockerCollision() {
+    }
+
+    @Override
+    public void onAtomBlockerCollision() {
+    }
+}
@@ -31,7 +31,6 @@ public class ProjectileContainer {
     int totalAtomCount;
 
     private RunningMode runningMode;
-    private Random random = new Random();
 
     public ProjectileContainer(RunningMode runningMode, int numOfAlphaAtoms, int numOfBetaAtoms, int numOfSigmaAtoms, int numOfGammaAtoms) {
         this.runningMode = runningMode;
@@ -51,7 +50,6 @@ public class ProjectileContainer {
         shieldsMap.put(1, new ArrayList<>());
         shieldsMap.put(2, new ArrayList<>());
         shieldsMap.put(3, new ArrayList<>());
-        random = new Random();
     }
 
     @SuppressWarnings("unused")
@@ -74,7 +72,8 @@ public class ProjectileContainer {
      */
     private Atom getAtom(Coordinates coordinates, int type) {
         if (updateProjectileMap(atomMap, SuperType.ATOM, type, -1)) {
-            Atom atom = AtomFactory.getInstance().getAtom((EntityType.forValue(type)));
+            Atom atom = AtomFactory.getInstance().getAtom(EntityType.forValue(type),
+                    runningMode.getRandomService().get(RandomService.Subsystem.NEUTRONS));
             if (atom != null)
                 atom.setCoordinates(coordinates);
             return atom;
@@ -88,7 +87,7 @@ public class ProjectileContainer {
         int atomType;
         Atom atom = null;
         while (atom == null) {
-            atomType = random.nextInt(4);
+            atomType = runningMode.getRandomService().get(RandomService.Subsystem.ATOM_CHOICE).nextInt(4);
             atom = getAtom(coordinates, atomType);
         }
         return atom;
@@ -102,7 +101,8 @@ public class ProjectileContainer {
      * @return either a shielded atom or the atom itself
      */
     public Atom shieldAtom(Atom atom, ShieldTuple shields) {
-        return ShieldedAtomFactory.applyShields(shields, atom);
+        return ShieldedAtomFactory.applyShields(shields, atom,
+                runningMode.getRandomService().get(RandomService.Subsystem.SHIELDS));
     }
 
     /**
@@ -208,6 +208,7 @@ public class ProjectileContainer {
     @JsonIgnore
     public ShieldTuple getShields(EntityType entityType) {
         ArrayList<ShieldTuple> shieldLst = shieldsMap.get(entityType.getValue());
+        Random random = runningMode.getRandomService().get(RandomService.Subsystem.SHIELDS);
         if (random.nextBoolean() || shieldedAtoms(entityType.getValue()) >= getAtomCountForType(entityType))
             return shieldLst.size() > 0 ? shieldsMap.get(entityType.getValue()).remove(random.nextInt(shieldLst.size())) : new ShieldTuple();
         return new ShieldTuple();
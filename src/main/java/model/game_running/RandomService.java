@@ -0,0 +1,134 @@
+package model.game_running;
+
+import java.util.Random;
+
+/**
+ * The single source of randomness of a game session.
+ * <p>
+ * Every subsystem draws from its own stream, and every stream is seeded from the seed of the session. The same seed
+ * therefore replays the same game, and drawing more numbers in one subsystem (for example shooting more atoms) does
+ * not change what another subsystem (for example the entity generator) draws.
+ * <p>
+ * The streams are {@link Random} instances, so they may be shared with code that takes a Random, but they should only
+ * be used by the game loop or under the game lock to keep the session reproducible. Their states are saved with a
+ * game, so a loaded game continues the streams where the save left them.
+ */
+public class RandomService {
+
+    /**
+     * the subsystems that draw random numbers, each has its own stream.
+     */
+    public enum Subsystem {
+        SPAWN,          // which entity is dropped and where
+        ATOM_CHOICE,    // the type of the atom that is loaded to the shooter
+        NEUTRONS,       // the number of neutrons of a new atom
+        SHIELDS         // the random effects of the shields
+    }
+
+    private long seed;
+    private final Stream[] streams;
+
+    /**
+     * @param seed the seed of the session
+     */
+    public RandomService(long seed) {
+        streams = new Stream[Subsystem.values().length];
+        for (int i = 0; i < streams.length; i++)
+            streams[i] = new Stream();
+        reseed(seed);
+    }
+
+    /**
+     * restarts all the streams from a new seed.
+     *
+     * @param seed the seed of the session
+     */
+    public void reseed(long seed) {
+        this.seed = seed;
+        for (Subsystem subsystem : Subsystem.values())
+            streams[subsystem.ordinal()].setSeed(streamSeed(seed, subsystem));
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return the states of the streams, by subsystem, to continue them with {@link #restore(long, long[])}
+     */
+    public long[] getStates() {
+        long[] states = new long[streams.length];
+        for (int i = 0; i < streams.length; i++)
+            states[i] = streams[i].state;
+        return states;
+    }
+
+    /**
+     * continues the streams from saved states.
+     *
+     * @param seed   the seed of the saved session
+     * @param states the states of the streams, as returned by {@link #getStates()}
+     * @throws IllegalArgumentException if there is not a state for every stream
+     */
+    public void restore(long seed, long[] states) {
+        if (states.length != streams.length)
+            throw new IllegalArgumentException("[RandomService] expected " + streams.length + " stream states, got "
+                    + states.length);
+        reseed(seed);
+        for (int i = 0; i < streams.length; i++)
+            streams[i].state = states[i] & Stream.MASK;
+    }
+
+    /**
+     * @param subsystem a subsystem
+     * @return the stream of the subsystem
+     */
+    public Random get(Subsystem subsystem) {
+        return streams[subsystem.ordinal()];
+    }
+
+    /**
+     * @return a seed for a session that is not given one
+     */
+    public static long newSeed() {
+        long seed;
+        do {
+            seed = mix(System.nanoTime());
+        } while (seed == 0);
+        return seed;
+    }
+
+    // neighbouring seeds and subsystems get unrelated streams
+    private static long streamSeed(long seed, Subsystem subsystem) {
+        return mix(seed + 0x9E3779B97F4A7C15L * (subsystem.ordinal() + 1));
+    }
+
+    // the SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // draws the same numbers as java.util.Random, whose state can not be read back
+    private static final class Stream extends Random {
+        private static final long serialVersionUID = 1L;
+        private static final long MULTIPLIER = 0x5DEECE66DL;
+        private static final long ADDEND = 0xBL;
+        private static final long MASK = (1L << 48) - 1;
+
+        private long state; // not initialized here, Random's constructor sets it through setSeed
+
+        @Override
+        public synchronized void setSeed(long seed) {
+            state = (seed ^ MULTIPLIER) & MASK;
+            super.setSeed(seed); // also drops the cached gaussian
+        }
+
+        @Override
+        protected int next(int bits) {
+            state = (state * MULTIPLIER + ADDEND) & MASK;
+            return (int) (state >>> (48 - bits));
+        }
+    }
+}
@@ -3,14 +3,18 @@ package model.game_running;
 import model.game_building.Configuration;
 import model.game_building.GameBundle;
 import model.game_building.GameConstants;
+import model.game_ecs.EcsWorld;
 import model.game_entities.*;
 import model.game_entities.enums.ShieldType;
 import model.game_entities.enums.SuperType;
 import model.game_running.listeners.*;
 import model.game_running.runnables.CollisionRunnable;
+import model.game_running.runnables.EntityCommitRunnable;
 import model.game_running.runnables.EntityGeneratorRunnable;
-import model.game_running.runnables.GameRunnable;
+import model.game_running.runnables.GameStatusRunnable;
+import model.game_running.runnables.InputRunnable;
 import model.game_running.runnables.MovementRunnable;
+import model.game_running.runnables.SnapshotRunnable;
 import model.game_running.states.GameState;
 import model.game_running.states.PausedState;
 import model.game_running.states.ResumedState;
@@ -19,13 +23,13 @@ import model.game_space.Player;
 import org.apache.log4j.Logger;
 import services.database.IDatabase;
 import services.utils.IOHandler;
-import services.utils.SoundHandler;
 
 import javax.sound.sampled.LineUnavailableException;
 import javax.sound.sampled.UnsupportedAudioFileException;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * The main control unit behind the game UI
@@ -41,9 +45,17 @@ public class RunningMode {
     GameState resumedState;
 
     //space objects
-    private final CopyOnWriteArrayList<AutonomousEntity> autonomousEntities;
+    private final EntityRegistry autonomousEntities;
+    // entities added and removed during a tick, committed to the registry at the end of the tick
+    private final EntityCommandBuffer commandBuffer;
+    // stores and moves the straight moving entities, null if the ECS core is disabled
+    private final EcsWorld ecsWorld;
     private ProjectileContainer projectileContainer;
     private Shooter shooter;
+    // the random numbers of the session
+    private final RandomService randomService;
+    private final SpatialQueryService spatialQueries;
+    private TrajectoryPredictor trajectoryPredictor;
 
     //Listeners
     private final RunningStateListener runningStateListener;
@@ -51,15 +63,18 @@ public class RunningMode {
     private final SessionLoadListener sessionLoadListener;
     private final SessionSaveListener sessionSaveListener;
     private final OnGameStateListener onGameStateListener;
+    private final CollisionHandler.OnCollisionListener onCollisionListener;
+    // player commands queued by the UI, executed by the game loop at the start of the next tick
+    private final Queue<GameCommand> inputCommands = new ConcurrentLinkedQueue<>();
     // Runnables
-    private ArrayList<GameRunnable> gameRunnables;
     private EntityGeneratorRunnable entityGeneratorRunnable;
     private boolean outOfEntities; // flags that the entity generator runnable has run out of entities to drop
 
-    // Threads
-    private Thread movementThread;
-    private Thread collisionThread;
-    private Thread entityGeneratorThread;
+    // Game loop
+    private TickEngine tickEngine;
+    private Thread gameLoopThread;
+    // the state of the game space at the end of the latest tick, read by the renderer
+    private volatile WorldSnapshot latestSnapshot;
 
     // Blender
     private final Blender blender;
@@ -68,11 +83,16 @@ public class RunningMode {
                        GameEntitiesListener gameEntitiesListener,
                        SessionLoadListener sessionLoadListener,
                        SessionSaveListener sessionSaveListener,
-                       OnGameStateListener onGameStateListener) {
+                       OnGameStateListener onGameStateListener,
+                       CollisionHandler.OnCollisionListener onCollisionListener) {
 
-        autonomousEntities = new CopyOnWriteArrayList<>();
+        autonomousEntities = new EntityRegistry();
         // Config
         Configuration config = Configuration.getInstance();
+        ecsWorld = config.isEcsEnabled() ? new EcsWorld() : null;
+        randomService = new RandomService(config.getSeed() != 0 ? config.getSeed() : RandomService.newSeed());
+        logger.info("[RunningMode] game seed: " + randomService.getSeed());
+        spatialQueries = new SpatialQueryService(config.getUnitL(), this::isRemoved);
         // States
         resumedState = new ResumedState(this);
         pausedState = new PausedState(this);
@@ -83,6 +103,7 @@ public class RunningMode {
         this.gameEntitiesListener = gameEntitiesListener;
         this.sessionLoadListener = sessionLoadListener;
         this.sessionSaveListener = sessionSaveListener;
+        this.commandBuffer = new EntityCommandBuffer(autonomousEntities, ecsWorld, gameEntitiesListener);
 
         // Shooter and Projectile Container
         this.projectileContainer = new ProjectileContainer(
@@ -94,28 +115,33 @@ public class RunningMode {
         this.blender = new Blender(this.projectileContainer);
         this.shooter = new Shooter(this);
         this.onGameStateListener = onGameStateListener;
+        this.onCollisionListener = onCollisionListener;
         initialize();
     }
 
     /**
-     * instantiates the threads and runnables. fills the list. sets "initialized" to true
+     * instantiates the tick engine and registers the runnables to their phases.
      */
     private void initialize() {
-        gameRunnables = new ArrayList<>();
+        tickEngine = new TickEngine(GameConstants.GAME_THREAD_DELAY);
 
-        GameRunnable movementRunnable = new MovementRunnable(this);
-        gameRunnables.add(movementRunnable);
+        tickEngine.register(TickEngine.Phase.INPUT, new InputRunnable(this));
+        tickEngine.register(TickEngine.Phase.MOVE, new MovementRunnable(this));
 
-        CollisionHandler collisionHandler = new CollisionHandler(this, new SoundHandler());
-        GameRunnable collisionRunnable = new CollisionRunnable(this, collisionHandler);
-        gameRunnables.add(collisionRunnable);
+        CollisionHandler collisionHandler = new CollisionHandler(this, onCollisionListener);
+        tickEngine.register(TickEngine.Phase.COLLIDE, new CollisionRunnable(this, collisionHandler));
+        trajectoryPredictor = new TrajectoryPredictor(spatialQueries, CollisionFilter.of(collisionHandler));
 
         entityGeneratorRunnable = new EntityGeneratorRunnable(this);
-        gameRunnables.add(entityGeneratorRunnable);
+        tickEngine.register(TickEngine.Phase.SPAWN, entityGeneratorRunnable);
 
-        movementThread = new Thread(movementRunnable);
-        collisionThread = new Thread(collisionRunnable);
-        entityGeneratorThread = new Thread(this.entityGeneratorRunnable);
+        tickEngine.register(TickEngine.Phase.COMMIT, new EntityCommitRunnable(this));
+
+        tickEngine.register(TickEngine.Phase.PUBLISH, new GameStatusRunnable(this));
+        tickEngine.register(TickEngine.Phase.PUBLISH, new SnapshotRunnable(this));
+        latestSnapshot = WorldSnapshot.capture(0, autonomousEntities, shooter);
+
+        gameLoopThread = new Thread(tickEngine);
 
         try {
             onGameStateListener.onGameStart();
@@ -125,18 +151,37 @@ public class RunningMode {
     }
 
     /**
-     * starts the Movement, collision, shooter, and EntityGenerator threads
+     * starts the game loop thread which ticks the movement, collision, entity generation and game status runnables.
      */
-    public void startThreads() {
-        movementThread.start();
-        collisionThread.start();
-        entityGeneratorThread.start();
+    public void startGameLoop() {
+        gameLoopThread.start();
     }
 
     // Shooter ////
 
     /**
-     * move shooter in a given direction.
+     * queues a player command to be executed at the start of the next tick. can be called from any thread.
+     * the game loop does not tick while the game is paused, so commands given while paused are dropped.
+     *
+     * @param command the command to be executed
+     */
+    public void submitCommand(GameCommand command) {
+        if (currentState == pausedState) {
+            logger.info("[RunningMode] ignoring " + command + " while the game is paused");
+            return;
+        }
+        inputCommands.add(command);
+    }
+
+    /**
+     * @return the oldest queued player command, or null if there is none
+     */
+    public GameCommand pollCommand() {
+        return inputCommands.poll();
+    }
+
+    /**
+     * move shooter in a given direction. must be called by the game loop, the UI submits a command instead.
      * @param direction
      */
     public void moveShooter(int direction) {
@@ -144,7 +189,7 @@ public class RunningMode {
     }
 
     /**
-     * rotate shooter in a given direction
+     * rotate shooter in a given direction. must be called by the game loop, the UI submits a command instead.
      * @param direction
      */
     public void rotateShooter(int direction) {
@@ -152,7 +197,7 @@ public class RunningMode {
     }
 
     /**
-     * Shoot entity at the tip of the Shooter
+     * Shoot entity at the tip of the Shooter. must be called by the game loop, the UI submits a command instead.
      */
     public void shootProjectile() {
         Projectile shotEntity = this.shooter.shoot();
@@ -172,7 +217,7 @@ public class RunningMode {
     }
 
     /**
-     * switch atom at the tip of the gun
+     * switch atom at the tip of the gun. must be called by the game loop, the UI submits a command instead.
      */
     public void switchAtom() {
         getShooter().switchAtom();
@@ -187,7 +232,8 @@ public class RunningMode {
     }
 
     /**
-     * apply a given shield on the atom at the tip of the gun
+     * apply a given shield on the atom at the tip of the gun. must be called by the game loop, the UI submits a
+     * command instead.
      * @param shieldType
      */
     public void applyShield(ShieldType shieldType) {
@@ -197,39 +243,75 @@ public class RunningMode {
     // Space Entities ////
 
     /**
-     * static so that all classes
-     *
-     * @return returns the list of autonomous entities
+     * @return returns the registry of autonomous entities
      */
-    public CopyOnWriteArrayList<AutonomousEntity> getAutonomousEntities() {
+    public EntityRegistry getAutonomousEntities() {
         return autonomousEntities;
     }
 
     /**
+     * queues an entity to be added to the game space. the entity enters the registry at the end of the current tick,
+     * so this can be called from any thread and while the entities are being iterated.
+     *
      * @param entity the entity to be added to the list of entities
      */
     public void addEntity(AutonomousEntity entity) {
-        gameEntitiesListener.onEntityAdd(entity);
-        autonomousEntities.add(entity);
+        commandBuffer.spawn(entity);
     }
 
     /**
-     *remove entity from the arraylist to be removed from the game view.
+     * queues an entity to be removed from the game view at the end of the current tick. removing an entity more than
+     * once in a tick has no further effect.
+     *
      * @param entity to be removed
      */
     public void removeEntity(AutonomousEntity entity) {
-        // TODO: change the gamerListener to removeEntity. Handle multiple entities by calling removeEntity on them one by one.
-        ArrayList<AutonomousEntity> tmp = new ArrayList<>();
-        tmp.add(entity);
-        autonomousEntities.remove(entity);
-        gameEntitiesListener.onEntitiesRemove(tmp);
+        commandBuffer.despawn(entity);
+    }
+
+    /**
+     * @param entity an entity in the game space
+     * @return true if the entity was removed during the current tick and leaves the game space at its end
+     */
+    public boolean isRemoved(AutonomousEntity entity) {
+        return commandBuffer.isDespawning(entity);
+    }
+
+    /**
+     * commits the entities added and removed during the tick. this is run by the game loop at the end of every tick.
+     */
+    public void commitEntityChanges() {
+        commandBuffer.commit();
+    }
+
+    /**
+     * publishes the state of the game space for the renderer. the snapshot is swapped in as a whole, so a reader
+     * always sees a complete tick.
+     *
+     * @param snapshot the snapshot taken at the end of a tick
+     */
+    public void publishSnapshot(WorldSnapshot snapshot) {
+        latestSnapshot = snapshot;
+    }
+
+    /**
+     * @return the snapshot of the latest tick
+     */
+    public WorldSnapshot getLatestSnapshot() {
+        return latestSnapshot;
+    }
+
+    /**
+     * @param superType a super type
+     * @return the number of entities of the given super type in the game space, including the ones added during the
+     * current tick
+     */
+    public int getEntityCount(SuperType superType) {
+        return autonomousEntities.count(superType) + commandBuffer.getPendingSpawnCount(superType);
     }
 
     public boolean noAtomsOnScreen() {
-        for (Entity entity : autonomousEntities)
-            if (entity.getSuperType() == SuperType.ATOM)
-                return false;
-        return true;
+        return getEntityCount(SuperType.ATOM) == 0;
     }
 
     /**
@@ -237,10 +319,9 @@ public class RunningMode {
      * @return true if there is no entities other than atoms and shooter on the screen.
      */
     public boolean noEntitiesOnScreen() {
-        for (Entity entity : autonomousEntities)
-            if (entity.getSuperType() != SuperType.ATOM && entity.getSuperType() != SuperType.SHOOTER)
-                return false;
-        return true;
+        return getEntityCount(SuperType.MOLECULE) == 0
+                && getEntityCount(SuperType.BLOCKER) == 0
+                && getEntityCount(SuperType.POWERUP) == 0;
     }
 
     public void setOutOfEntities() {
@@ -315,12 +396,23 @@ public class RunningMode {
 
         // update the game configuration
         Configuration.getInstance().reset(session.getConfigBundle());
+        // continue the random streams where the save left them, the saves made before they were saved get new ones
+        if (session.getRandomStates() != null)
+            randomService.restore(session.getSeed(), session.getRandomStates());
+        else
+            randomService.reseed(session.getSeed() != 0 ? session.getSeed() : RandomService.newSeed());
         // update the entities in the game view
+        if (ecsWorld != null)
+            ecsWorld.clear();
         this.autonomousEntities.clear();
-        this.autonomousEntities.addAll(session.getAtoms());
-        this.autonomousEntities.addAll(session.getBlockers());
-        this.autonomousEntities.addAll(session.getMolecules());
-        this.autonomousEntities.addAll(session.getPowerUps());
+        this.commandBuffer.clear();
+        session.getAtoms().forEach(autonomousEntities::add);
+        session.getBlockers().forEach(autonomousEntities::add);
+        session.getMolecules().forEach(autonomousEntities::add);
+        session.getPowerUps().forEach(autonomousEntities::add);
+        if (ecsWorld != null)
+            for (AutonomousEntity entity : autonomousEntities)
+                ecsWorld.attach(entity);
 
         // update the projectile containers
         this.projectileContainer = session.getProjectileContainer();
@@ -341,10 +433,11 @@ public class RunningMode {
         this.entityGeneratorRunnable.initializeMaps();
 
         // reflect the changes in the UI
+        publishSnapshot(WorldSnapshot.capture(tickEngine.getTickCount(), autonomousEntities, shooter));
         gameEntitiesListener.onGameReset();
-        for (AutonomousEntity entity : this.autonomousEntities) {
-            gameEntitiesListener.onEntityAdd(entity);
-        }
+        ArrayList<AutonomousEntity> loadedEntities = new ArrayList<>();
+        autonomousEntities.forEach(loadedEntities::add);
+        gameEntitiesListener.onEntitiesAdd(loadedEntities);
 
     }
 
@@ -356,11 +449,15 @@ public class RunningMode {
     }
 
     public void saveWithAdapter(IDatabase database) {
+        if (ecsWorld != null)
+            ecsWorld.syncToEntities();
         GameBundle.Builder builder = new GameBundle.Builder();
         builder.setPlayer(player).
                 setShooter(getShooter()).
                 setProjectileContainer(getProjectileContainer()).
-                setConfigBundle(Configuration.getInstance().getConfigBundle());
+                setConfigBundle(Configuration.getInstance().getConfigBundle()).
+                setSeed(randomService.getSeed()).
+                setRandomStates(randomService.getStates());
 
         getAutonomousEntities().forEach(entity -> entity.saveState(builder));
 
@@ -416,11 +513,11 @@ public class RunningMode {
     }
 
     /**
-     * Pauses/Resumes/Stops all runnables.
+     * Pauses/Resumes/Stops the game loop.
      */
     public void applyRunningState(int state) {
-        // set the state of game model threads
-        gameRunnables.forEach(runnable -> runnable.setRunnableState(state));
+        // set the state of the game loop
+        tickEngine.setState(state);
         // set the state of the UI
         runningStateListener.onRunningStateChanged(state);
     }
@@ -441,6 +538,8 @@ public class RunningMode {
      * call for the end of the game
      */
     public void endGame() {
+        if (tickEngine.getState() == GameConstants.GAME_STATE_STOP)
+            return; // the game is already over
         try {
             onGameStateListener.onGameOver();
         } catch (Exception e) {
@@ -456,6 +555,49 @@ public class RunningMode {
         return this.projectileContainer;
     }
 
+    public RandomService getRandomService() {
+        return randomService;
+    }
+
+    /**
+     * @return the spatial queries over the entities of the game space, as of the latest collision pass
+     */
+    public SpatialQueryService getSpatialQueries() {
+        return spatialQueries;
+    }
+
+    /**
+     * @return the predictions of the paths of the projectile on the tip of the shooter
+     */
+    public TrajectoryPredictor getTrajectoryPredictor() {
+        return trajectoryPredictor;
+    }
+
+    public TickEngine getTickEngine() {
+        return tickEngine;
+    }
+
+    /**
+     * slows the game down or speeds it up. all the game time (movement, timer, drops) is scaled.
+     *
+     * @param timeScale the game speed relative to normal speed, clamped to
+     *                  [{@link GameConstants#MIN_TIME_SCALE}, {@link GameConstants#MAX_TIME_SCALE}]
+     */
+    public void setTimeScale(double timeScale) {
+        tickEngine.setTimeScale(Math.max(GameConstants.MIN_TIME_SCALE, Math.min(GameConstants.MAX_TIME_SCALE, timeScale)));
+    }
+
+    public double getTimeScale() {
+        return tickEngine.getTimeScale();
+    }
+
+    /**
+     * @return the ECS core that moves the straight moving entities, or null if it is disabled
+     */
+    public EcsWorld getEcsWorld() {
+        return ecsWorld;
+    }
+
     public Blender getBlender() {
         return this.blender;
     }
@@ -47,7 +47,7 @@ public class ShieldHandler {
             case LOTA:
                 return new LotaShield(atom);
             case THETA:
-                return new ThetaShield(atom);
+                return new ThetaShield(atom, shooter.getRunningMode().getRandomService().get(RandomService.Subsystem.SHIELDS));
             case ZETA:
                 return new ZetaShield(atom);
         }
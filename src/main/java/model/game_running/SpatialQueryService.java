@@ -0,0 +1,230 @@
+package model.game_running;
+
+import model.game_entities.AutonomousEntity;
+import model.game_entities.enums.SuperType;
+import model.game_physics.broadphase.SpatialHash;
+import model.game_physics.hitbox.Hitbox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Answers the spatial questions about the entities of the game space: which entities are within a distance of a
+ * point, which entities are the nearest to a point, and which entity a ray hits first.
+ * <p>
+ * The queries run on a {@link SpatialHash} of the entities that the collision pass rebuilds every tick, so they see
+ * the positions at the collision pass of the latest tick, and they skip the entities removed since. The results are
+ * written to buffers given by the caller, so the queries do not allocate once the buffers are large enough. Like the
+ * rest of the game space, the queries must only be used by the game loop.
+ */
+public class SpatialQueryService {
+
+    private final SpatialHash<AutonomousEntity> index;
+    private final Predicate<AutonomousEntity> isRemoved;
+    // the candidates of the broadphase, and the distances of the nearest entities found so far
+    private final ArrayList<AutonomousEntity> candidates = new ArrayList<>();
+    private double[] distances = new double[8];
+
+    /**
+     * @param minimumCellSize the smallest cell size of the index
+     * @param isRemoved       tells whether an entity was removed from the game space during the current tick
+     */
+    public SpatialQueryService(double minimumCellSize, Predicate<AutonomousEntity> isRemoved) {
+        this.index = new SpatialHash<>(minimumCellSize);
+        this.isRemoved = isRemoved;
+    }
+
+    /**
+     * rebuilds the index from the entities of the game space. the bounding radius of every entity is grown by its
+     * movement since the previous collision pass, so the swept collisions find their pairs too.
+     *
+     * @param entities the entities of the game space
+     */
+    public void rebuild(Iterable<AutonomousEntity> entities) {
+        index.clear();
+        for (AutonomousEntity entity : entities) {
+            double x = entity.getCoordinates().getX(), y = entity.getCoordinates().getY();
+            double movement = Math.hypot(x - entity.getSweepStartX(), y - entity.getSweepStartY());
+            index.insert(entity, x, y, entity.getBoundingRadius() + movement);
+        }
+        index.build();
+    }
+
+    /**
+     * @return the index the queries run on. its insertion order is the order of the entities given to
+     * {@link #rebuild(Iterable)}.
+     */
+    public SpatialHash<AutonomousEntity> getIndex() {
+        return index;
+    }
+
+    /**
+     * finds the entities whose hitbox overlaps a circle.
+     *
+     * @param x      the x coordinate of the center of the circle
+     * @param y      the y coordinate of the center of the circle
+     * @param radius the radius of the circle
+     * @param out    cleared and filled with the entities, in no particular order
+     */
+    public void withinRadius(double x, double y, double radius, List<AutonomousEntity> out) {
+        out.clear();
+        index.queryRange(x, y, radius + index.getMaxRadius(), candidates);
+        for (AutonomousEntity entity : candidates)
+            // a circle that does not move touches the hitbox at the start of its movement if it overlaps it
+            if (!isRemoved.test(entity)
+                    && entity.getHitbox().sweepCircle(entity.getCoordinates(), radius, x, y, 0, 0) == 0)
+                out.add(entity);
+    }
+
+    /**
+     * finds the k entities of a super type whose centers are the nearest to a point. the search starts around the
+     * point and doubles its range until the k nearest entities are certainly found.
+     *
+     * @param x         the x coordinate of the point
+     * @param y         the y coordinate of the point
+     * @param superType the super type of the entities, or null for any super type
+     * @param k         the number of entities to find
+     * @param out       cleared and filled with the entities, the nearest first
+     * @return the number of entities found, less than k if there are not enough entities of the super type
+     */
+    public int nearest(double x, double y, SuperType superType, int k, List<AutonomousEntity> out) {
+        out.clear();
+        if (k <= 0 || index.size() == 0)
+            return 0;
+        if (distances.length < k)
+            distances = new double[k];
+        double range = index.getCellSize();
+        while (true) {
+            index.queryRange(x, y, range, candidates);
+            out.clear();
+            int found = 0;
+            for (AutonomousEntity entity : candidates) {
+                if (isRemoved.test(entity) || (superType != null && entity.getSuperType() != superType))
+                    continue;
+                double dx = entity.getCoordinates().getX() - x, dy = entity.getCoordinates().getY() - y;
+                found = insertNearest(entity, dx * dx + dy * dy, k, found, out);
+            }
+            // every entity within the range was a candidate, so the entities closer than the range are final
+            if (found == k && distances[k - 1] <= range * range)
+                return found;
+            if (candidates.size() == index.size())
+                return found;
+            range *= 2;
+        }
+    }
+
+    // inserts an entity into the sorted results, keeping at most k of them, and returns the new number of results
+    private int insertNearest(AutonomousEntity entity, double distance, int k, int found, List<AutonomousEntity> out) {
+        if (found == k && distance >= distances[k - 1])
+            return found;
+        int i = found == k ? k - 1 : found;
+        while (i > 0 && distances[i - 1] > distance) {
+            distances[i] = distances[i - 1];
+            i--;
+        }
+        distances[i] = distance;
+        if (found == k)
+            out.remove(k - 1);
+        out.add(i, entity);
+        return found == k ? k : found + 1;
+    }
+
+    /**
+     * finds the first entity of a super type whose hitbox a ray hits. the ray is walked in steps of one cell, and
+     * the walk stops at the first step that contains a hit.
+     *
+     * @param x           the x coordinate of the start of the ray
+     * @param y           the y coordinate of the start of the ray
+     * @param directionX  the x coordinate of the direction of the ray, which does not have to be normalized
+     * @param directionY  the y coordinate of the direction of the ray
+     * @param maxDistance the length of the ray
+     * @param superType   the super type of the entities, or null for any super type
+     * @param hit         filled with the entity hit and the distance to it
+     * @return true if an entity was hit
+     */
+    public boolean raycast(double x, double y, double directionX, double directionY, double maxDistance,
+                           SuperType superType, RayHit hit) {
+        return raycast(x, y, directionX, directionY, maxDistance, 0, superType, hit);
+    }
+
+    /**
+     * finds the first entity of a super type whose hitbox a circle moving along a ray touches, like
+     * {@link #raycast(double, double, double, double, double, SuperType, RayHit)} for a ray of the given radius.
+     *
+     * @param radius the radius of the circle
+     * @return true if an entity was hit
+     */
+    public boolean raycast(double x, double y, double directionX, double directionY, double maxDistance,
+                           double radius, SuperType superType, RayHit hit) {
+        return raycast(x, y, directionX, directionY, maxDistance, radius, superType, null, hit);
+    }
+
+    /**
+     * finds the first entity accepted by a filter whose hitbox a circle moving along a ray touches, like
+     * {@link #raycast(double, double, double, double, double, double, SuperType, RayHit)}. the entities the filter
+     * rejects do not stop the ray.
+     *
+     * @param filter tells whether the ray can hit an entity
+     * @return true if an entity was hit
+     */
+    public boolean raycast(double x, double y, double directionX, double directionY, double maxDistance,
+                           double radius, Predicate<AutonomousEntity> filter, RayHit hit) {
+        return raycast(x, y, directionX, directionY, maxDistance, radius, null, filter, hit);
+    }
+
+    private boolean raycast(double x, double y, double directionX, double directionY, double maxDistance,
+                            double radius, SuperType superType, Predicate<AutonomousEntity> filter, RayHit hit) {
+        hit.entity = null;
+        hit.distance = maxDistance;
+        double length = Math.hypot(directionX, directionY);
+        if (length == 0 || maxDistance <= 0 || index.size() == 0)
+            return false;
+        double rayX = directionX / length * maxDistance, rayY = directionY / length * maxDistance;
+        double step = index.getCellSize();
+        for (double start = 0; start < maxDistance; start += step) {
+            double end = Math.min(start + step, maxDistance);
+            double middle = (start + end) / 2 / maxDistance;
+            // an entity that touches this part of the ray has its center within its radius of it
+            index.queryRange(x + rayX * middle, y + rayY * middle,
+                    (end - start) / 2 + radius + index.getMaxRadius(), candidates);
+            for (AutonomousEntity entity : candidates) {
+                if (isRemoved.test(entity) || (superType != null && entity.getSuperType() != superType)
+                        || (filter != null && !filter.test(entity)))
+                    continue;
+                double time = entity.getHitbox().sweepCircle(entity.getCoordinates(), radius, x, y, rayX, rayY);
+                if (time != Hitbox.NO_IMPACT && time * maxDistance < hit.distance) {
+                    hit.entity = entity;
+                    hit.distance = time * maxDistance;
+                }
+            }
+            // an entity hit further along the ray than this part would not be hit first
+            if (hit.entity != null && hit.distance <= end)
+                return true;
+        }
+        return hit.entity != null;
+    }
+
+    /**
+     * the result of a {@link #raycast}, reused between queries.
+     */
+    public static final class RayHit {
+        private AutonomousEntity entity;
+        private double distance;
+
+        /**
+         * @return the entity hit, or null if the ray did not hit any entity
+         */
+        public AutonomousEntity getEntity() {
+            return entity;
+        }
+
+        /**
+         * @return the distance along the ray at which the ray, or the circle moving along it, touches the hitbox of
+         * the entity
+         */
+        public double getDistance() {
+            return distance;
+        }
+    }
+}
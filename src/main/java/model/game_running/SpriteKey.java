@@ -0,0 +1,41 @@
+package model.game_running;
+
+import model.game_entities.enums.EntityType;
+import model.game_entities.enums.MoleculeStructure;
+import model.game_entities.enums.SuperType;
+
+/**
+ * Packs the attributes that decide how an entity looks (super type, entity type and molecule structure) into a
+ * single int, so that the renderer can pick an image without touching the entity.
+ */
+public final class SpriteKey {
+
+    private SpriteKey() {
+    }//this class should not be initialized.
+
+    /**
+     * @param superType  the super type of the entity
+     * @param entityType the entity type, or null if the entity has none
+     * @param structure  the molecule structure, or null if the entity is not a molecule
+     * @return the sprite key of the given attributes
+     */
+    public static int of(SuperType superType, EntityType entityType, MoleculeStructure structure) {
+        int type = entityType == null ? 0 : entityType.getValue() + 1;
+        int structureValue = structure == null ? 0 : structure.ordinal() + 1;
+        return (superType.ordinal() << 8) | (type << 4) | structureValue;
+    }
+
+    public static SuperType getSuperType(int spriteKey) {
+        return SuperType.values()[spriteKey >>> 8];
+    }
+
+    public static EntityType getEntityType(int spriteKey) {
+        int type = (spriteKey >>> 4) & 0xF;
+        return type == 0 ? null : EntityType.forValue(type - 1);
+    }
+
+    public static MoleculeStructure getStructure(int spriteKey) {
+        int structureValue = spriteKey & 0xF;
+        return structureValue == 0 ? null : MoleculeStructure.values()[structureValue - 1];
+    }
+}
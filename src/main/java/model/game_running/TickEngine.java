@@ -0,0 +1,174 @@
+package model.game_running;
+
+import model.game_building.GameConstants;
+import model.game_running.runnables.GameRunnable;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the game model with a fixed time step. Real time is collected in an accumulator and consumed in steps of dt,
+ * and every step runs the registered runnables phase by phase (input, move, collide, spawn, commit, publish).
+ * Movement and collision therefore never interleave and every tick gets a full collision pass, regardless of the load.
+ */
+public class TickEngine implements Runnable {
+
+    /**
+     * The phases of a tick, in the order they are executed.
+     */
+    public enum Phase {
+        INPUT,
+        MOVE,
+        COLLIDE,
+        SPAWN,
+        COMMIT,
+        PUBLISH
+    }
+
+    private static final Logger logger = Logger.getLogger(TickEngine.class.getName());
+
+    private final EnumMap<Phase, List<GameRunnable>> phases;
+    private final double dt;
+    private final Object stateLock = new Object();
+    private volatile int state;
+    private volatile double timeScale = 1;
+    private long tickCount;
+
+    /**
+     * @param dt the fixed game time, in milliseconds, advanced by a single tick
+     */
+    public TickEngine(double dt) {
+        this.dt = dt;
+        this.state = GameConstants.GAME_STATE_RESUMED;
+        phases = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values())
+            phases.put(phase, new ArrayList<>());
+    }
+
+    /**
+     * registers a runnable to be ticked in the given phase. runnables of the same phase run in registration order.
+     *
+     * @param phase    the phase in which the runnable runs
+     * @param runnable the runnable to be ticked
+     */
+    public void register(Phase phase, GameRunnable runnable) {
+        phases.get(phase).add(runnable);
+    }
+
+    /**
+     * runs a single tick: every phase in order, and every runnable of a phase in registration order.
+     * the runnables are given dt scaled by the time scale, so a scaled tick advances the game by more or less game
+     * time without running more ticks.
+     */
+    public void tick() {
+        double scaledDt = dt * timeScale;
+        for (Phase phase : Phase.values())
+            for (GameRunnable runnable : phases.get(phase))
+                runnable.tick(scaledDt);
+        tickCount++;
+    }
+
+    /**
+     * runs the fixed time step loop until the engine is stopped.
+     * if the model falls behind, at most {@link GameConstants#MAX_CATCH_UP_TICKS} ticks are run back to back and the
+     * rest of the lag is dropped, so the game slows down instead of skipping ticks.
+     */
+    @Override
+    public void run() {
+        double accumulator = 0;
+        long previousTime = System.nanoTime();
+        while (state != GameConstants.GAME_STATE_STOP) {
+            if (awaitResume())
+                previousTime = System.nanoTime(); // the time spent paused is not game time.
+
+            long currentTime = System.nanoTime();
+            accumulator += (currentTime - previousTime) / 1e6;
+            previousTime = currentTime;
+            accumulator = Math.min(accumulator, dt * GameConstants.MAX_CATCH_UP_TICKS);
+
+            while (accumulator >= dt && state == GameConstants.GAME_STATE_RESUMED) {
+                tick();
+                accumulator -= dt;
+            }
+            LockSupport.parkNanos((long) ((dt - accumulator) * 1e6));
+        }
+        logger.info("[TickEngine] stopped after " + tickCount + " ticks");
+    }
+
+    /**
+     * runs ticks back to back on the calling thread, without waiting for real time, until the tick budget is used
+     * or the engine is stopped. this is used by the headless mode to simulate as fast as the CPU allows.
+     *
+     * @param maxTicks the maximum number of ticks to run
+     * @return the number of ticks that were run
+     */
+    public long runUnpaced(long maxTicks) {
+        long ticks = 0;
+        while (ticks < maxTicks && state == GameConstants.GAME_STATE_RESUMED) {
+            tick();
+            ticks++;
+        }
+        return ticks;
+    }
+
+    /**
+     * blocks the calling thread while the engine is paused.
+     *
+     * @return true if the engine was paused
+     */
+    private boolean awaitResume() {
+        boolean waited = false;
+        synchronized (stateLock) {
+            while (state == GameConstants.GAME_STATE_PAUSED) {
+                waited = true;
+                try {
+                    stateLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    state = GameConstants.GAME_STATE_STOP;
+                }
+            }
+        }
+        return waited;
+    }
+
+    /**
+     * Pauses/Resumes/Stops the engine. A stopped engine cannot be resumed.
+     *
+     * @param state one of the game state constants in {@link GameConstants}
+     */
+    public void setState(int state) {
+        synchronized (stateLock) {
+            if (this.state == GameConstants.GAME_STATE_STOP)
+                return;
+            this.state = state;
+            stateLock.notifyAll();
+        }
+    }
+
+    public int getState() {
+        return state;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public double getDt() {
+        return dt;
+    }
+
+    /**
+     * @param timeScale the game time advanced per real time, 1 for normal speed
+     */
+    public void setTimeScale(double timeScale) {
+        this.timeScale = timeScale;
+    }
+
+    public double getTimeScale() {
+        return timeScale;
+    }
+}
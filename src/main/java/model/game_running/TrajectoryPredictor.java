@@ -0,0 +1,234 @@
+package model.game_running;
+
+import model.game_building.Configuration;
+import model.game_building.GameConstants;
+import model.game_entities.AutonomousEntity;
+import model.game_entities.Projectile;
+import model.game_entities.Shooter;
+import model.game_physics.hitbox.CircularHitbox;
+import model.game_physics.hitbox.Hitbox;
+import services.utils.Coordinates;
+import services.utils.Geometry;
+import services.utils.Vector;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Predicts the path of the projectile on the tip of the shooter if it was shot at an angle, for the aim preview and
+ * for the players the game is played by without the UI.
+ * <p>
+ * The path is stepped the way the game moves a shot projectile: a tick moves it by its velocity, it is reflected off
+ * the side boundaries like in {@link model.game_running.runnables.CollisionRunnable} and in the boundary system of the
+ * ECS core, and it leaves the game at the end boundaries. This only depends on the shooter and its projectile, so the
+ * paths are cached by angle, quantized to {@link #ANGLE_QUANTUM} degrees, and the cache is cleared when the shooter
+ * moves or its projectile changes. The entities move every tick, so the first entity a path hits is found on every
+ * prediction, by a raycast along each segment of the cached path. Like in the collision pass, the projectile only
+ * hits the entities the {@link CollisionFilter} of the session accepts it colliding with, and passes through the
+ * others.
+ * <p>
+ * Like the {@link SpatialQueryService} the hits are found with, the predictions must only be used by the game loop.
+ */
+public class TrajectoryPredictor {
+
+    public static final double ANGLE_QUANTUM = 1;
+    private static final int MAX_STEPS = 10000;
+
+    private final SpatialQueryService spatialQueries;
+    private final CollisionFilter collisionFilter;
+    // the entities the projectile of the current prediction collides with
+    private final Predicate<AutonomousEntity> collides = this::collides;
+    private Projectile projectile;
+    private final SpatialQueryService.RayHit hit = new SpatialQueryService.RayHit();
+    private final Trajectory trajectory = new Trajectory();
+    // the cached paths as pairs of x and y coordinates, by quantized angle
+    private final double[][] paths = new double[(int) Math.round(360 / ANGLE_QUANTUM)][];
+    // the shooter and the projectile the cached paths were stepped for
+    private double shooterX = Double.NaN, shooterY;
+    private double projectileWidth, projectileHeight, projectileRotation, projectileSpeed;
+    private Class<?> projectileHitbox;
+    private double viewWidth, viewHeight;
+
+    /**
+     * @param spatialQueries  the queries the entities hit by the paths are found with
+     * @param collisionFilter the filter of the collision pass, which decides the entities the projectile hits
+     */
+    public TrajectoryPredictor(SpatialQueryService spatialQueries, CollisionFilter collisionFilter) {
+        this.spatialQueries = spatialQueries;
+        this.collisionFilter = collisionFilter;
+    }
+
+    /**
+     * @return the predicted path of the projectile at the current angle of the shooter
+     * @see #predict(Shooter, double)
+     */
+    public Trajectory predict(Shooter shooter) {
+        return predict(shooter, shooter.getAngle());
+    }
+
+    /**
+     * predicts the path of the projectile on the tip of the shooter if the shooter was rotated by an angle and shot.
+     *
+     * @param shooter the shooter
+     * @param angle   the rotation of the shooter, in degrees, quantized to {@link #ANGLE_QUANTUM} degrees
+     * @return the path, until it leaves the game view or hits an entity. the trajectory is reused by the next
+     * prediction, and is empty if the shooter has no projectile.
+     */
+    public Trajectory predict(Shooter shooter, double angle) {
+        trajectory.clear();
+        Projectile projectile = shooter.getCurrentProjectile();
+        if (projectile == null)
+            return trajectory;
+        if (hasChanged(shooter, projectile))
+            clearCache(shooter, projectile);
+
+        int index = (int) Math.floorMod(Math.round(angle / ANGLE_QUANTUM), (long) paths.length);
+        if (paths[index] == null) {
+            double quantized = index * ANGLE_QUANTUM;
+            paths[index] = stepPath(shooter, projectile, quantized > 180 ? quantized - 360 : quantized);
+        }
+        this.projectile = projectile;
+        clip(paths[index], projectile.getHitbox().getBoundingRadius());
+        this.projectile = null;
+        return trajectory;
+    }
+
+    private boolean hasChanged(Shooter shooter, Projectile projectile) {
+        Configuration config = Configuration.getInstance();
+        Hitbox hitbox = projectile.getHitbox();
+        return shooter.getCoordinates().getX() != shooterX || shooter.getCoordinates().getY() != shooterY
+                || hitbox.getClass() != projectileHitbox || hitbox.getWidth() != projectileWidth
+                || hitbox.getHeight() != projectileHeight || hitbox.getRotationDegree() != projectileRotation
+                || projectile.getSpeedPercentage() != projectileSpeed
+                || config.getGamePanelDimensions().width != viewWidth
+                || config.getGamePanelDimensions().height != viewHeight;
+    }
+
+    private void clearCache(Shooter shooter, Projectile projectile) {
+        Configuration config = Configuration.getInstance();
+        Hitbox hitbox = projectile.getHitbox();
+        shooterX = shooter.getCoordinates().getX();
+        shooterY = shooter.getCoordinates().getY();
+        projectileHitbox = hitbox.getClass();
+        projectileWidth = hitbox.getWidth();
+        projectileHeight = hitbox.getHeight();
+        projectileRotation = hitbox.getRotationDegree();
+        projectileSpeed = projectile.getSpeedPercentage();
+        viewWidth = config.getGamePanelDimensions().width;
+        viewHeight = config.getGamePanelDimensions().height;
+        Arrays.fill(paths, null);
+    }
+
+    // steps the path of the projectile shot at the angle, and returns its start, its reflections and its end
+    private double[] stepPath(Shooter shooter, Projectile projectile, double angle) {
+        Configuration config = Configuration.getInstance();
+        // like the path pattern of a shot atom, see PathPatternFactory#getAtomPathPattern(double) and Shooter#reload()
+        Vector velocity = new Vector(0, -config.getAtomSpeed()).rotateVector(angle);
+        double vx = velocity.getX() * projectile.getSpeedPercentage();
+        double vy = velocity.getY() * projectile.getSpeedPercentage();
+        // half the width of the bounds of the projectile, once it is rotated with the shooter
+        Hitbox hitbox = projectile.getHitbox();
+        double rotation = hitbox.getRotationDegree() + angle;
+        double extent = hitbox instanceof CircularHitbox ? hitbox.getHalfExtentX()
+                : hitbox.getWidth() / 2 * Math.abs(Geometry.cos(rotation))
+                + hitbox.getHeight() / 2 * Math.abs(Geometry.sin(rotation));
+
+        double width = config.getGamePanelDimensions().width;
+        double bottom = config.getGamePanelDimensions().height - config.getBaseHeight();
+        Coordinates start = shooter.getShootingCoords(angle);
+        double x = start.getX(), y = start.getY();
+        double[] points = new double[8];
+        int count = 0;
+        points[count++] = x;
+        points[count++] = y;
+        int sinceReflected = GameConstants.READY_TO_REFLECT;
+        for (int step = 0; step < MAX_STEPS; step++) {
+            x += vx;
+            y += vy;
+            sinceReflected++;
+            // the projectile is removed once it leaves the game view from an end boundary
+            if (y < 0 || y > bottom)
+                break;
+            if ((x + extent > width || x - extent < 0) && sinceReflected > GameConstants.REFLECTION_COOLDOWN) {
+                // reflecting off a vertical wall only flips the horizontal velocity
+                vx = -vx;
+                sinceReflected = 0;
+                if (count + 2 > points.length)
+                    points = Arrays.copyOf(points, points.length * 2);
+                points[count++] = x;
+                points[count++] = y;
+            }
+        }
+        points = Arrays.copyOf(points, count + 2);
+        points[count++] = x;
+        points[count] = y;
+        return points;
+    }
+
+    // like the collision pass, which tries the entities as the target and as the source of the collision
+    private boolean collides(AutonomousEntity entity) {
+        return collisionFilter.accepts(projectile, entity) || collisionFilter.accepts(entity, projectile);
+    }
+
+    // fills the trajectory with the path until the first entity the projectile would collide with
+    private void clip(double[] path, double radius) {
+        trajectory.add(path[0], path[1]);
+        for (int i = 2; i < path.length; i += 2) {
+            double x = path[i - 2], y = path[i - 1];
+            double dx = path[i] - x, dy = path[i + 1] - y;
+            double length = Math.hypot(dx, dy);
+            if (spatialQueries.raycast(x, y, dx, dy, length, radius, collides, hit)) {
+                trajectory.add(x + dx * hit.getDistance() / length, y + dy * hit.getDistance() / length);
+                trajectory.hitEntity = hit.getEntity();
+                return;
+            }
+            trajectory.add(path[i], path[i + 1]);
+        }
+    }
+
+    /**
+     * the result of a prediction: the polyline the center of the projectile follows, and the entity it hits at its
+     * end, if any. reused between predictions.
+     */
+    public static final class Trajectory {
+        private double[] points = new double[16];
+        private int pointCount;
+        private AutonomousEntity hitEntity;
+
+        private void clear() {
+            pointCount = 0;
+            hitEntity = null;
+        }
+
+        private void add(double x, double y) {
+            if (2 * pointCount + 2 > points.length)
+                points = Arrays.copyOf(points, points.length * 2);
+            points[2 * pointCount] = x;
+            points[2 * pointCount + 1] = y;
+            pointCount++;
+        }
+
+        /**
+         * @return the number of points of the polyline: its start, its reflections and its end
+         */
+        public int getPointCount() {
+            return pointCount;
+        }
+
+        public double getX(int point) {
+            return points[2 * point];
+        }
+
+        public double getY(int point) {
+            return points[2 * point + 1];
+        }
+
+        /**
+         * @return the entity the projectile collides with at the end of the polyline, or null if it leaves the game
+         * view
+         */
+        public AutonomousEntity getHitEntity() {
+            return hitEntity;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package model.game_running;
+
+import model.game_entities.AutonomousEntity;
+import model.game_entities.Projectile;
+import model.game_entities.Shooter;
+import model.game_entities.enums.SuperType;
+
+/**
+ * An immutable picture of the game space at the end of a tick. The entities are kept in primitive arrays
+ * (index i of every array describes the same entity), so the renderer can draw a complete and consistent frame
+ * without reading any state that the simulation mutates.
+ */
+public final class WorldSnapshot {
+
+    /**
+     * the sprite key of the shooter's projectile when the shooter has nothing to shoot.
+     */
+    public static final int NO_PROJECTILE = -1;
+
+    public static final WorldSnapshot EMPTY = new WorldSnapshot(0, 0, new long[0], new int[0], new float[0],
+            new float[0], new float[0], new float[0], new float[0], 0, 0, 0, NO_PROJECTILE, 0, 0, false);
+
+    private final long tick;
+    private final int size;
+    private final long[] ids;
+    private final int[] spriteKeys;
+    private final float[] xs, ys, rotations, widths, heights;
+    private final float shooterX, shooterY, shooterRotation;
+    private final int projectileSpriteKey;
+    private final float projectileWidth, projectileHeight;
+    private final boolean projectileShielded;
+
+    private WorldSnapshot(long tick, int size, long[] ids, int[] spriteKeys, float[] xs, float[] ys,
+                          float[] rotations, float[] widths, float[] heights,
+                          float shooterX, float shooterY, float shooterRotation,
+                          int projectileSpriteKey, float projectileWidth, float projectileHeight,
+                          boolean projectileShielded) {
+        this.tick = tick;
+        this.size = size;
+        this.ids = ids;
+        this.spriteKeys = spriteKeys;
+        this.xs = xs;
+        this.ys = ys;
+        this.rotations = rotations;
+        this.widths = widths;
+        this.heights = heights;
+        this.shooterX = shooterX;
+        this.shooterY = shooterY;
+        this.shooterRotation = shooterRotation;
+        this.projectileSpriteKey = projectileSpriteKey;
+        this.projectileWidth = projectileWidth;
+        this.projectileHeight = projectileHeight;
+        this.projectileShielded = projectileShielded;
+    }
+
+    /**
+     * copies the drawable state of the given entities and shooter into a new snapshot.
+     *
+     * @param tick     the tick at which the snapshot is taken
+     * @param entities the entities in the game space
+     * @param shooter  the shooter
+     * @return a snapshot of the given entities and shooter
+     */
+    public static WorldSnapshot capture(long tick, EntityRegistry entities, Shooter shooter) {
+        int size = entities.size();
+        long[] ids = new long[size];
+        int[] spriteKeys = new int[size];
+        float[] xs = new float[size];
+        float[] ys = new float[size];
+        float[] rotations = new float[size];
+        float[] widths = new float[size];
+        float[] heights = new float[size];
+        int i = 0;
+        for (AutonomousEntity entity : entities) {
+            ids[i] = entity.getId();
+            spriteKeys[i] = entity.getSpriteKey();
+            xs[i] = (float) entity.getCoordinates().getX();
+            ys[i] = (float) entity.getCoordinates().getY();
+            rotations[i] = (float) entity.getHitbox().getRotationDegree();
+            widths[i] = (float) entity.getHitbox().getWidth();
+            heights[i] = (float) entity.getHitbox().getHeight();
+            i++;
+        }
+        Projectile projectile = shooter.getCurrentProjectile();
+        return new WorldSnapshot(tick, size, ids, spriteKeys, xs, ys, rotations, widths, heights,
+                (float) shooter.getCoordinates().getX(),
+                (float) shooter.getCoordinates().getY(),
+                (float) shooter.getAngle(),
+                projectile == null ? NO_PROJECTILE : projectile.getSpriteKey(),
+                projectile == null ? 0 : (float) projectile.getHitbox().getWidth(),
+                projectile == null ? 0 : (float) projectile.getHitbox().getHeight(),
+                shooter.isAtomShielded());
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * @return the number of entities in the snapshot
+     */
+    public int size() {
+        return size;
+    }
+
+    public long getId(int index) {
+        return ids[index];
+    }
+
+    public int getSpriteKey(int index) {
+        return spriteKeys[index];
+    }
+
+    public SuperType getSuperType(int index) {
+        return SpriteKey.getSuperType(spriteKeys[index]);
+    }
+
+    public float getX(int index) {
+        return xs[index];
+    }
+
+    public float getY(int index) {
+        return ys[index];
+    }
+
+    public float getRotation(int index) {
+        return rotations[index];
+    }
+
+    public float getWidth(int index) {
+        return widths[index];
+    }
+
+    public float getHeight(int index) {
+        return heights[index];
+    }
+
+    public float getShooterX() {
+        return shooterX;
+    }
+
+    public float getShooterY() {
+        return shooterY;
+    }
+
+    public float getShooterRotation() {
+        return shooterRotation;
+    }
+
+    /**
+     * @return the sprite key of the projectile at the tip of the shooter, or {@link #NO_PROJECTILE}
+     */
+    public int getProjectileSpriteKey() {
+        return projectileSpriteKey;
+    }
+
+    public float getProjectileWidth() {
+        return projectileWidth;
+    }
+
+    public float getProjectileHeight() {
+        return projectileHeight;
+    }
+
+    public boolean isProjectileShielded() {
+        return projectileShielded;
+    }
+}
@@ -5,8 +5,16 @@ import model.game_entities.AutonomousEntity;
 import java.util.Collection;
 
 public interface GameEntitiesListener {
-    void onEntityAdd(AutonomousEntity entity);
+    /**
+     * called once per tick with all the entities that entered the game space during the tick.
+     * the collection is reused by the caller and is only valid during the call.
+     */
+    void onEntitiesAdd(Collection<AutonomousEntity> entities);
 
+    /**
+     * called once per tick with all the entities that left the game space during the tick.
+     * the collection is reused by the caller and is only valid during the call.
+     */
     void onEntitiesRemove(Collection<AutonomousEntity> entities);
 
     /**
@@ -1,71 +1,305 @@
 package model.game_running.runnables;
 
 import model.game_building.Configuration;
-import model.game_building.GameConstants;
 import model.game_entities.AutonomousEntity;
 import model.game_entities.Blocker;
+import model.game_entities.Entity;
+import model.game_entities.Projectile;
+import model.game_entities.enums.SuperType;
+import model.game_physics.broadphase.SpatialHash;
+import model.game_physics.hitbox.CircularHitbox;
+import model.game_physics.hitbox.Hitbox;
+import model.game_running.CollisionDispatcher;
+import model.game_running.CollisionFilter;
+import model.game_running.ContactBuffer;
 import model.game_running.CollisionVisitor;
 import model.game_running.RunningMode;
+import model.game_running.SpatialQueryService;
 import services.utils.Coordinates;
 import services.utils.Vector;
 
 import java.util.ArrayList;
-import java.util.concurrent.CountDownLatch;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * This runnable handles collisions between entities.
+ * <p>
+ * The entities are put in a spatial hash at the start of every pass, and every entity is only checked against the
+ * entities near it, so a pass is roughly linear in the number of entities instead of quadratic. The pairs whose
+ * collision has no effect are dropped by the collision filter before their geometry is tested.
+ * <p>
+ * Every unordered pair of entities is checked once, when the entity that comes first in the registry is visited. Both
+ * entities of the pair can be the source of a collision: the first entity is handled as the source before the second.
+ * <p>
+ * Projectiles with a circular hitbox can move further than their size in a tick, so their collisions are swept: the
+ * movement of both entities since the previous pass is tested, not only their current positions.
+ * <p>
+ * A pass has two phases. The detection phase only reads the game space and writes the contacts it finds to a
+ * {@link ContactBuffer}. The resolve phase then sorts the contacts, the earliest time of impact first, and hands them
+ * to the collision handler through a {@link CollisionDispatcher}, skipping the contacts of the entities removed by an
+ * earlier contact. The boundaries are checked after the contacts are resolved.
+ * <p>
+ * The detection phase first lists the candidate pairs of the broadphase, then tests their geometry. The tests are
+ * independent, so when there are at least {@link Configuration#getParallelCollisionThreshold()} pairs, the list is
+ * split into chunks that are tested on the common {@link ForkJoinPool}, each chunk into its own contact buffer. The
+ * chunk buffers are merged in the order of the chunks, so the contacts are the same as in a sequential pass.
  */
 public class CollisionRunnable extends GameRunnable {
 
     private final RunningMode runningMode;
     Configuration config;
-    private final CollisionVisitor collisionHandler;
-    private final CountDownLatch latch;
+    private final CollisionFilter collisionFilter;
+    private final CollisionDispatcher collisionDispatcher;
+    // the broadphase, rebuilt every tick, and the buffer its queries are written to
+    private final SpatialQueryService spatialQueries;
+    private final SpatialHash<AutonomousEntity> spatialHash;
+    private final ArrayList<AutonomousEntity> candidates;
+    // the contacts found by the detection phase of the current pass
+    private final ContactBuffer contacts;
+    // the candidate pairs of the current pass, whose geometry is tested by the narrowphase
+    private AutonomousEntity[] pairFirsts, pairSeconds;
+    private int pairCount;
+    // the parallel narrowphase: the pair count it is used from, 0 if never, and the contact buffers of its chunks
+    private final int parallelThreshold;
+    private ContactBuffer[] chunkContacts;
+    private static final int MIN_PAIRS_PER_CHUNK = 256;
+    // the normals the entities are reflected off the side boundaries with
+    private static final Vector RIGHT_WALL_NORMAL = new Vector(1, 0);
+    private static final Vector LEFT_WALL_NORMAL = new Vector(-1, 0);
 
     public CollisionRunnable(RunningMode runningMode, CollisionVisitor collisionHandler) {
         super();
         this.runningMode = runningMode;
-        this.latch = new CountDownLatch(0);
-        this.collisionHandler = collisionHandler;
+        this.collisionFilter = CollisionFilter.of(collisionHandler);
+        this.collisionDispatcher = CollisionDispatcher.of(collisionHandler);
         config = Configuration.getInstance();
+        spatialQueries = runningMode.getSpatialQueries();
+        spatialHash = spatialQueries.getIndex();
+        candidates = new ArrayList<>();
+        contacts = new ContactBuffer();
+        pairFirsts = new AutonomousEntity[64];
+        pairSeconds = new AutonomousEntity[64];
+        parallelThreshold = config.getParallelCollisionThreshold();
+        chunkContacts = new ContactBuffer[0];
     }
 
     @Override
-    public void run() {
-        running = true;
-        while (running) {
-            try {
-                latch.await(); // if the game is paused, this latch clogs this runnable.
-                for (AutonomousEntity sourceEntity : runningMode.getAutonomousEntities()) {
-                    for (AutonomousEntity targetEntity : runningMode.getAutonomousEntities()) {
-                        entityEntityCheck(sourceEntity, targetEntity);
-                    }
-                    // check if the entity collided with the shooter
-                    entityShooterCheck(sourceEntity);
-                    // check if the entity left the game view from and end boundary (top bottom)
-                    entityEndBoundaryCheck(sourceEntity);
-                    // check if the entity collided with a side boundary
-                    entitySideBoundaryCheck(sourceEntity);
+    public void tick(double dt) {
+        buildBroadphase();
+        detectContacts();
+        resolveContacts();
+        for (AutonomousEntity sourceEntity : runningMode.getAutonomousEntities()) {
+            if (runningMode.isRemoved(sourceEntity))
+                continue;
+            // check if the entity left the game view from and end boundary (top bottom)
+            entityEndBoundaryCheck(sourceEntity);
+            // check if the entity collided with a side boundary
+            entitySideBoundaryCheck(sourceEntity);
+        }
+        // the next pass sweeps the movement from here
+        for (AutonomousEntity entity : runningMode.getAutonomousEntities())
+            entity.markSweepStart();
+    }
+
+    /**
+     * puts the entities of the game space in the spatial hash. the entities do not move during the collision pass,
+     * and the entities added during the pass only enter the game space at the end of the tick.
+     */
+    private void buildBroadphase() {
+        spatialQueries.rebuild(runningMode.getAutonomousEntities());
+    }
+
+    /**
+     * the detection phase: finds the contacts between the entities, and between the entities and the shooter,
+     * without changing the game space.
+     */
+    private void detectContacts() {
+        contacts.clear();
+        pairCount = 0;
+        int index = 0;
+        for (AutonomousEntity sourceEntity : runningMode.getAutonomousEntities()) {
+            // an entity removed earlier in the tick does not collide anymore
+            if (!runningMode.isRemoved(sourceEntity)) {
+                SuperType superType = sourceEntity.getSuperType();
+                if (collisionFilter.acceptsAsSource(superType) || collisionFilter.acceptsAsTarget(superType)) {
+                    // the pairs with the entities before this one were listed when those were visited
+                    spatialHash.queryAfter(index, candidates);
+                    for (AutonomousEntity otherEntity : candidates)
+                        addCandidatePair(sourceEntity, otherEntity);
                 }
+                // check if the entity collided with the shooter
+                entityShooterCheck(sourceEntity);
+            }
+            index++;
+        }
+
+        if (parallelThreshold > 0 && pairCount >= parallelThreshold)
+            parallelNarrowphase();
+        else
+            checkPairs(0, pairCount, contacts);
+        Arrays.fill(pairFirsts, 0, pairCount, null);
+        Arrays.fill(pairSeconds, 0, pairCount, null);
+    }
+
+    private void addCandidatePair(AutonomousEntity first, AutonomousEntity second) {
+        if (runningMode.isRemoved(second))
+            return;
+        // the super types alone may already rule out both directions
+        SuperType firstType = first.getSuperType(), secondType = second.getSuperType();
+        if (!collisionFilter.accepts(secondType, firstType) && !collisionFilter.accepts(firstType, secondType))
+            return;
+        if (pairCount == pairFirsts.length) {
+            pairFirsts = Arrays.copyOf(pairFirsts, pairCount * 2);
+            pairSeconds = Arrays.copyOf(pairSeconds, pairCount * 2);
+        }
+        pairFirsts[pairCount] = first;
+        pairSeconds[pairCount] = second;
+        pairCount++;
+    }
+
+    /**
+     * the narrowphase of the candidate pairs from {@code from} to {@code to}, excluded. only reads the game space, so
+     * distinct ranges can be checked by distinct threads into distinct buffers.
+     */
+    private void checkPairs(int from, int to, ContactBuffer out) {
+        for (int i = from; i < to; i++)
+            entityPairCheck(pairFirsts[i], pairSeconds[i], out);
+    }
+
+    /**
+     * checks the candidate pairs in chunks on the common fork join pool, then merges the contacts of the chunks in
+     * order. the lazily computed bounds and rotations the tests read were computed by the broadphase, before the
+     * tasks are forked.
+     */
+    private void parallelNarrowphase() {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int chunks = Math.max(1, Math.min(pairCount / MIN_PAIRS_PER_CHUNK, pool.getParallelism() * 4));
+        if (chunkContacts.length < chunks) {
+            int previous = chunkContacts.length;
+            chunkContacts = Arrays.copyOf(chunkContacts, chunks);
+            for (int chunk = previous; chunk < chunks; chunk++)
+                chunkContacts[chunk] = new ContactBuffer();
+        }
+        pool.invoke(new NarrowphaseTask(0, chunks, chunks));
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            contacts.addAll(chunkContacts[chunk]);
+            chunkContacts[chunk].clear();
+        }
+    }
 
-                // TODO make the collision delay more than the movement delay
-                Thread.sleep(GameConstants.GAME_THREAD_DELAY);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
+    /**
+     * checks the pairs of a range of chunks, splitting the range in two until a single chunk is left.
+     */
+    private final class NarrowphaseTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int fromChunk, toChunk, chunks;
+
+        NarrowphaseTask(int fromChunk, int toChunk, int chunks) {
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.chunks = chunks;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk == 1) {
+                int from = (int) ((long) pairCount * fromChunk / chunks);
+                int to = (int) ((long) pairCount * toChunk / chunks);
+                checkPairs(from, to, chunkContacts[fromChunk]);
+                return;
             }
+            int middle = (fromChunk + toChunk) >>> 1;
+            invokeAll(new NarrowphaseTask(fromChunk, middle, chunks), new NarrowphaseTask(middle, toChunk, chunks));
+        }
+    }
+
+    /**
+     * the resolve phase: hands the contacts to the collision handler in the order of the contact buffer. a contact
+     * is skipped if one of its entities was removed by an earlier contact, or if the collision does not have an
+     * effect anymore.
+     */
+    private void resolveContacts() {
+        contacts.sort();
+        for (int i = 0; i < contacts.size(); i++) {
+            ContactBuffer.Contact contact = contacts.get(i);
+            AutonomousEntity source = contact.getSource();
+            Entity target = contact.getTarget();
+            if (runningMode.isRemoved(source)
+                    || (target instanceof AutonomousEntity && runningMode.isRemoved((AutonomousEntity) target)))
+                continue;
+            if (collisionFilter.accepts(target, source))
+                collisionDispatcher.dispatch(source, target);
         }
+        contacts.clear();
+    }
+
+    /**
+     * checks the collisions of an unordered pair of entities, first with the first entity as the source, then with the
+     * second entity as the source. the geometry is tested by the source, so a blocker tests its own hitbox, and a
+     * direction is only tested if the filter accepts it.
+     */
+    private void entityPairCheck(AutonomousEntity first, AutonomousEntity second, ContactBuffer out) {
+        entityEntityCheck(first, second, out);
+        entityEntityCheck(second, first, out);
     }
 
-    private void entityEntityCheck(AutonomousEntity sourceEntity, AutonomousEntity targetEntity) {
-        if (sourceEntity == targetEntity) //don't collision check an entity with itself
+    private void entityEntityCheck(AutonomousEntity sourceEntity, AutonomousEntity targetEntity, ContactBuffer out) {
+        if (!collisionFilter.accepts(targetEntity, sourceEntity))
             return;
-        if (sourceEntity.isCollidedWith(targetEntity))
-            sourceEntity.acceptCollision(collisionHandler, targetEntity);
+        if (isSwept(sourceEntity) || isSwept(targetEntity)) {
+            double time = timeOfImpact(sourceEntity, targetEntity);
+            if (time != Hitbox.NO_IMPACT)
+                out.add(ContactBuffer.Kind.ENTITY, sourceEntity, targetEntity, time);
+        } else if (sourceEntity.isCollidedWith(targetEntity)) {
+            out.add(ContactBuffer.Kind.ENTITY, sourceEntity, targetEntity, 1);
+        }
+    }
+
+    private static boolean isSwept(AutonomousEntity entity) {
+        return entity instanceof Projectile && entity.getHitbox() instanceof CircularHitbox;
+    }
+
+    /**
+     * sweeps the circle of the projectile, moving relative to the other entity, against the hitbox of the other
+     * entity at its current position. the hitboxes are the ones {@link model.game_entities.Entity#isCollidedWith}
+     * tests: the collision hitbox of the source and the hitbox of the target.
+     *
+     * @return the fraction of the tick after which the entities first touch, or {@link Hitbox#NO_IMPACT}
+     */
+    private double timeOfImpact(AutonomousEntity sourceEntity, AutonomousEntity targetEntity) {
+        AutonomousEntity moving, other;
+        Hitbox circle, otherHitbox;
+        if (isSwept(targetEntity)) {
+            moving = targetEntity;
+            circle = targetEntity.getHitbox();
+            other = sourceEntity;
+            otherHitbox = sourceEntity.getCollisionHitbox();
+        } else {
+            moving = sourceEntity;
+            circle = sourceEntity.getCollisionHitbox();
+            other = targetEntity;
+            otherHitbox = targetEntity.getHitbox();
+        }
+        if (!(circle instanceof CircularHitbox))
+            return sourceEntity.isCollidedWith(targetEntity) ? 1 : Hitbox.NO_IMPACT;
+
+        Coordinates otherCenter = other.getCoordinates();
+        double otherDx = otherCenter.getX() - other.getSweepStartX();
+        double otherDy = otherCenter.getY() - other.getSweepStartY();
+        // the start of the movement relative to the other entity, placed around its current position
+        double startX = moving.getSweepStartX() + otherDx;
+        double startY = moving.getSweepStartY() + otherDy;
+        double dx = moving.getCoordinates().getX() - moving.getSweepStartX() - otherDx;
+        double dy = moving.getCoordinates().getY() - moving.getSweepStartY() - otherDy;
+        return otherHitbox.sweepCircle(otherCenter, ((CircularHitbox) circle).getRadius(), startX, startY, dx, dy);
     }
 
     private void entityShooterCheck(AutonomousEntity sourceEntity) {
-        if (sourceEntity.isCollidedWith(runningMode.getShooter()))
-            sourceEntity.acceptCollision(collisionHandler, runningMode.getShooter());
+        if (collisionFilter.accepts(runningMode.getShooter(), sourceEntity)
+                && sourceEntity.isCollidedWith(runningMode.getShooter()))
+            contacts.add(ContactBuffer.Kind.SHOOTER, sourceEntity, runningMode.getShooter(), 1);
     }
 
     private void entityEndBoundaryCheck(AutonomousEntity sourceEntity) {
@@ -75,16 +309,17 @@ public class CollisionRunnable extends GameRunnable {
     }
 
     private void entitySideBoundaryCheck(AutonomousEntity sourceEntity) {
-        ArrayList<Coordinates> coords = sourceEntity.getBoundaryPoints();
-        for (Coordinates coord : coords) {
-            if (coord.getX() > config.getGamePanelDimensions().width) {
-                sourceEntity.getPathPattern().reflect(new Vector(new Coordinates(1, 0)));
-                GameRunnable.logger.debug("[CollisionRunnable] entity collided with the left boarder");
-            }
-            if (coord.getX() < 0) {
-                sourceEntity.getPathPattern().reflect(new Vector(new Coordinates(-1, 0)));
-                GameRunnable.logger.debug("[CollisionRunnable] entity collided with the right boarder");
-            }
+        // the entities of the ECS core are reflected by its boundary system
+        if (runningMode.getEcsWorld() != null && runningMode.getEcsWorld().isAttached(sourceEntity))
+            return;
+        // the bounding box touches the hitbox at its leftmost and rightmost points
+        if (sourceEntity.getMaxX() > config.getGamePanelDimensions().width) {
+            sourceEntity.getPathPattern().reflect(RIGHT_WALL_NORMAL);
+            GameRunnable.logger.debug("[CollisionRunnable] entity collided with the left boarder");
+        }
+        if (sourceEntity.getMinX() < 0) {
+            sourceEntity.getPathPattern().reflect(LEFT_WALL_NORMAL);
+            GameRunnable.logger.debug("[CollisionRunnable] entity collided with the right boarder");
         }
     }
 
@@ -93,14 +328,18 @@ public class CollisionRunnable extends GameRunnable {
     }
 
     public void BlockerBoundaryBehavior(Blocker blocker) {
-        if (blocker.isCollidedWithExplodingHitbox(runningMode.getShooter())) {
-            blocker.acceptCollision(collisionHandler, runningMode.getShooter());
+        if (collisionFilter.accepts(runningMode.getShooter(), blocker)
+                && blocker.isCollidedWithExplodingHitbox(runningMode.getShooter())) {
+            collisionDispatcher.dispatch(blocker, runningMode.getShooter());
         }
-        for (AutonomousEntity entity : runningMode.getAutonomousEntities()) {
-            if (blocker.isCollidedWithExplodingHitbox(entity))
-                blocker.acceptCollision(collisionHandler, entity);
+        // the boundaries are checked after the contacts are detected and resolved, so the candidate buffer is free
+        spatialQueries.withinRadius(blocker.getCoordinates().getX(), blocker.getCoordinates().getY(),
+                blocker.getExplodingHitbox().getBoundingRadius(), candidates);
+        for (AutonomousEntity entity : candidates) {
+            if (!runningMode.isRemoved(entity) && collisionFilter.accepts(entity, blocker)
+                    && blocker.isCollidedWithExplodingHitbox(entity))
+                collisionDispatcher.dispatch(blocker, entity);
         }
         runningMode.removeEntity(blocker);
     }
-
 }
@@ -0,0 +1,21 @@
+package model.game_running.runnables;
+
+import model.game_running.RunningMode;
+
+/**
+ * This runnable commits the entities that were added and removed during the tick to the game space.
+ */
+public class EntityCommitRunnable extends GameRunnable {
+
+    private final RunningMode runningMode;
+
+    public EntityCommitRunnable(RunningMode runningMode) {
+        super();
+        this.runningMode = runningMode;
+    }
+
+    @Override
+    public void tick(double dt) {
+        runningMode.commitEntityChanges();
+    }
+}
@@ -10,6 +10,7 @@ import model.game_entities.enums.EntityType;
 import model.game_entities.factories.BlockerFactory;
 import model.game_entities.factories.MoleculeFactory;
 import model.game_entities.factories.PowerupFactory;
+import model.game_running.RandomService;
 import model.game_running.RunningMode;
 import org.apache.log4j.Logger;
 import services.utils.Coordinates;
@@ -24,11 +25,16 @@ import java.util.stream.Stream;
 public class EntityGeneratorRunnable extends GameRunnable {
     private Map<EntityType, Integer> moleculeCountPerType, blockerCountPerType, powerUpCountPerType;
     private final RunningMode runningMode;
+    private final Random random;
+    private double timeSinceLastDrop; // game time, in milliseconds, since the last entity was dropped
+    private boolean outOfEntities;
     private static final Logger logger = Logger.getLogger(EntityGeneratorRunnable.class.getName());
 
     public EntityGeneratorRunnable(RunningMode runningMode) {
         super();
         this.runningMode = runningMode;
+        this.random = runningMode.getRandomService().get(RandomService.Subsystem.SPAWN);
+        this.timeSinceLastDrop = Configuration.getInstance().getDropRate(); // the first entity is dropped immediately
         initializeMaps();
     }
 
@@ -36,6 +42,7 @@ public class EntityGeneratorRunnable extends GameRunnable {
      * fills the counting maps for molecules, blockers, power-ups
      */
     public void initializeMaps() {
+        outOfEntities = false;
         //fill molecule count map
         moleculeCountPerType = new HashMap<>();
         moleculeCountPerType.put(EntityType.ALPHA, Configuration.getInstance().getNumAlphaMolecules());
@@ -59,33 +66,31 @@ public class EntityGeneratorRunnable extends GameRunnable {
     }
 
     @Override
-    public void run() {
-        running = true;
-        while (running) {
-            try {
-                latch.await(); // if the game is paused, this latch clogs this runnable.
-                List<Integer> randomTypes = new ArrayList<>();
-                if (moleculeCountPerType.values().stream().reduce(0, Integer::sum) > 0)
-                    randomTypes.add(0);
-                if (blockerCountPerType.values().stream().reduce(0, Integer::sum) > 0)
-                    randomTypes.add(1);
-                if (powerUpCountPerType.values().stream().reduce(0, Integer::sum) > 0)
-                    randomTypes.add(2);
-
-                Collections.shuffle(randomTypes);
-                if (randomTypes.isEmpty()) {
-                    logger.info("[EntityGeneratorRunnable] OUT OF ENTITIES TO DROP");
-                    runningMode.setOutOfEntities();
-                    break;
-                } else {
-                    AutonomousEntity entity = GetRandomEntity(randomTypes.get(0));
-                    this.runningMode.addEntity(entity);
-                    //sleep before adding new objects
-                    Thread.sleep(Configuration.getInstance().getDropRate());
-                }
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
+    public void tick(double dt) {
+        if (outOfEntities)
+            return;
+        // drop a new entity every drop rate milliseconds of game time
+        timeSinceLastDrop += dt;
+        if (timeSinceLastDrop < Configuration.getInstance().getDropRate())
+            return;
+        timeSinceLastDrop -= Configuration.getInstance().getDropRate();
+
+        List<Integer> randomTypes = new ArrayList<>();
+        if (moleculeCountPerType.values().stream().reduce(0, Integer::sum) > 0)
+            randomTypes.add(0);
+        if (blockerCountPerType.values().stream().reduce(0, Integer::sum) > 0)
+            randomTypes.add(1);
+        if (powerUpCountPerType.values().stream().reduce(0, Integer::sum) > 0)
+            randomTypes.add(2);
+
+        Collections.shuffle(randomTypes, random);
+        if (randomTypes.isEmpty()) {
+            logger.info("[EntityGeneratorRunnable] OUT OF ENTITIES TO DROP");
+            runningMode.setOutOfEntities();
+            outOfEntities = true;
+        } else {
+            AutonomousEntity entity = GetRandomEntity(randomTypes.get(0));
+            this.runningMode.addEntity(entity);
         }
     }
 
@@ -112,14 +117,14 @@ public class EntityGeneratorRunnable extends GameRunnable {
         List<Integer> randomTypes = Stream.of(0, 1, 2, 3)
                 .filter(c -> blockerCountPerType.get(EntityType.forValue(c)) > 0)
                 .collect(Collectors.toList());
-        Collections.shuffle(randomTypes);
+        Collections.shuffle(randomTypes, random);
 
         if (randomTypes.isEmpty())
             return null; //no more blockers
 
         double l = GameConstants.BLOCKER_RADIUS * Configuration.getInstance().getUnitL();
         double r = Configuration.getInstance().getGamePanelDimensions().getWidth() - GameConstants.BLOCKER_RADIUS * Configuration.getInstance().getUnitL();
-        double x_coord = l + Math.random() * (r - l);
+        double x_coord = l + random.nextDouble() * (r - l);
         logger.info("[ObjectGeneratorRunnable] generating a blocker at coordinates " + new Coordinates(x_coord, 0) + " ]");
 
         Blocker blocker = BlockerFactory.getInstance().getBlocker(EntityType.forValue(randomTypes.get(0)));
@@ -137,14 +142,14 @@ public class EntityGeneratorRunnable extends GameRunnable {
         List<Integer> randomTypes = Stream.of(0, 1, 2, 3)
                 .filter(c -> powerUpCountPerType.get(EntityType.forValue(c)) > 0)
                 .collect(Collectors.toList());
-        Collections.shuffle(randomTypes);
+        Collections.shuffle(randomTypes, random);
 
         if (randomTypes.isEmpty())
             return null; //no more powerups
 
         double l = GameConstants.POWERUP_RADIUS * Configuration.getInstance().getUnitL();
         double r = Configuration.getInstance().getGamePanelDimensions().getWidth() - GameConstants.POWERUP_RADIUS * Configuration.getInstance().getUnitL();
-        double x_coord = l + Math.random() * (r - l);
+        double x_coord = l + random.nextDouble() * (r - l);
         logger.info("[ObjectGenerator: generating a powerup at coordinates " + new Coordinates(x_coord, 0) + " ]");
 
         Powerup powerup = PowerupFactory.getInstance().getPowerup(EntityType.forValue(randomTypes.get(0)));
@@ -162,14 +167,14 @@ public class EntityGeneratorRunnable extends GameRunnable {
         List<Integer> randomTypes = Stream.of(0, 1, 2, 3)
                 .filter(c -> moleculeCountPerType.get(EntityType.forValue(c)) > 0)
                 .collect(Collectors.toList());
-        Collections.shuffle(randomTypes);
+        Collections.shuffle(randomTypes, random);
 
         if (randomTypes.isEmpty())
             return null; //no more power-ups
 
         double l = GameConstants.MOLECULE_RADIUS * Configuration.getInstance().getUnitL();
         double r = Configuration.getInstance().getGamePanelDimensions().getWidth() - GameConstants.MOLECULE_RADIUS * Configuration.getInstance().getUnitL();
-        double x_coord = l + Math.random() * (r - l);
+        double x_coord = l + random.nextDouble() * (r - l);
         logger.info("[ObjectGenerator: generating a molecule at coordinates " + new Coordinates(x_coord, 0) + " ]");
 
         Molecule molecule = MoleculeFactory.getInstance().getMolecule(EntityType.forValue(randomTypes.get(0)));
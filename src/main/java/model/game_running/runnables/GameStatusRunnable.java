@@ -0,0 +1,28 @@
+package model.game_running.runnables;
+
+import model.game_running.RunningMode;
+
+/**
+ * This runnable advances the game timer and ends the game once it is finished.
+ */
+public class GameStatusRunnable extends GameRunnable {
+
+    private final RunningMode runningMode;
+    private double pendingMillis; // the fraction of a millisecond not yet passed to the timer
+
+    public GameStatusRunnable(RunningMode runningMode) {
+        super();
+        this.runningMode = runningMode;
+    }
+
+    @Override
+    public void tick(double dt) {
+        pendingMillis += dt;
+        int elapsedMillis = (int) pendingMillis;
+        pendingMillis -= elapsedMillis;
+        runningMode.updateTimer(elapsedMillis);
+
+        if (runningMode.isGameFinished())
+            runningMode.endGame();
+    }
+}
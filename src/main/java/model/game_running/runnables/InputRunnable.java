@@ -0,0 +1,53 @@
+package model.game_running.runnables;
+
+import model.game_building.GameConstants;
+import model.game_running.GameCommand;
+import model.game_running.RunningMode;
+
+/**
+ * This runnable executes the player commands queued since the previous tick, at the start of the tick, so the shooter
+ * and the projectile container are only changed by the game loop. Shots are limited to one per shooter delay of game
+ * time; a shot requested earlier is dropped.
+ */
+public class InputRunnable extends GameRunnable {
+
+    private final RunningMode runningMode;
+    private double timeSinceLastShot; // game time, in milliseconds, since the last shot
+
+    public InputRunnable(RunningMode runningMode) {
+        super();
+        this.runningMode = runningMode;
+        this.timeSinceLastShot = GameConstants.DEFAULT_SHOOTER_DELAY; // the first shot is not delayed
+    }
+
+    @Override
+    public void tick(double dt) {
+        timeSinceLastShot += dt;
+        GameCommand command;
+        while ((command = runningMode.pollCommand()) != null)
+            execute(command);
+    }
+
+    private void execute(GameCommand command) {
+        switch (command.getType()) {
+            case SHOOT:
+                if (timeSinceLastShot < GameConstants.DEFAULT_SHOOTER_DELAY)
+                    return;
+                timeSinceLastShot = 0;
+                runningMode.shootProjectile();
+                break;
+            case SWITCH_ATOM:
+                runningMode.switchAtom();
+                break;
+            case MOVE_SHOOTER:
+                runningMode.moveShooter(command.getArgument());
+                break;
+            case ROTATE_SHOOTER:
+                runningMode.rotateShooter(command.getArgument());
+                break;
+            case APPLY_SHIELD:
+                runningMode.applyShield(command.getShieldType());
+                break;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package model.game_running.runnables;
 
-import model.game_building.GameConstants;
+import model.game_building.Configuration;
+import model.game_ecs.EcsWorld;
 import model.game_entities.AutonomousEntity;
 import model.game_running.RunningMode;
 
@@ -18,20 +19,15 @@ public class MovementRunnable extends GameRunnable {
     }
 
     @Override
-    public void run() {
-        running = true; //this will be set to false from somewhere else (when the game ends).
-        while (running) {
-            try {
-                latch.await(); // if the game is paused, this latch clogs this runnable.
-                // move all entities in the space
-                runningMode.getShooter().move();
-                for (AutonomousEntity entity : runningMode.getAutonomousEntities())
-                    entity.move();
-
-                Thread.sleep(GameConstants.GAME_THREAD_DELAY);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }
+    public void tick(double dt) {
+        // move all entities in the space
+        runningMode.getShooter().move(dt);
+        EcsWorld ecsWorld = runningMode.getEcsWorld();
+        for (AutonomousEntity entity : runningMode.getAutonomousEntities())
+            if (ecsWorld == null || !ecsWorld.isAttached(entity))
+                entity.move(dt);
+        // the straight moving entities are moved, spun and reflected by the ECS systems
+        if (ecsWorld != null)
+            ecsWorld.update(dt, Configuration.getInstance().getGamePanelDimensions().width);
     }
 }
@@ -0,0 +1,23 @@
+package model.game_running.runnables;
+
+import model.game_running.RunningMode;
+import model.game_running.WorldSnapshot;
+
+/**
+ * This runnable publishes a snapshot of the game space at the end of every tick.
+ */
+public class SnapshotRunnable extends GameRunnable {
+
+    private final RunningMode runningMode;
+
+    public SnapshotRunnable(RunningMode runningMode) {
+        super();
+        this.runningMode = runningMode;
+    }
+
+    @Override
+    public void tick(double dt) {
+        runningMode.publishSnapshot(WorldSnapshot.capture(runningMode.getTickEngine().getTickCount(),
+                runningMode.getAutonomousEntities(), runningMode.getShooter()));
+    }
+}
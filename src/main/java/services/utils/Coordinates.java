@@ -46,11 +46,11 @@ public class Coordinates {
 
     @Override
     public String toString() {
-        return "( " + X + ", " + Y + ")";
+        return "( " + getX() + ", " + getY() + ")";
     }
 
     @JsonIgnore
     public Point getPoint() {
-        return new Point((int) X, (int) Y);
+        return new Point((int) getX(), (int) getY());
     }
 }
@@ -0,0 +1,117 @@
+package services.utils;
+
+/**
+ * Geometry on primitive doubles, for the code that runs for every entity on every tick.
+ * <p>
+ * Unlike {@link MathUtils}, {@link Vector} and {@link Velocity}, nothing here allocates: the methods take and return
+ * doubles, or write their result into {@link Coordinates} owned by the caller. A rotation is given by the cosine and
+ * the sine of its angle, so a rotation applied to many points only computes them once, see {@link #cos(double)} and
+ * {@link #sin(double)}.
+ */
+public final class Geometry {
+
+    // the cosine and the sine of 0, 90, 180 and 270 degrees
+    private static final double[] QUARTER_COS = {1, 0, -1, 0};
+    private static final double[] QUARTER_SIN = {0, 1, 0, -1};
+
+    private Geometry() {
+    }
+
+    /**
+     * @param degrees an angle in degrees
+     * @return the cosine of the angle, exact for the multiples of 90 degrees
+     */
+    public static double cos(double degrees) {
+        if (degrees % 90 == 0)
+            return QUARTER_COS[quarterOf(degrees)];
+        return Math.cos(Math.toRadians(degrees));
+    }
+
+    /**
+     * @param degrees an angle in degrees
+     * @return the sine of the angle, exact for the multiples of 90 degrees
+     */
+    public static double sin(double degrees) {
+        if (degrees % 90 == 0)
+            return QUARTER_SIN[quarterOf(degrees)];
+        return Math.sin(Math.toRadians(degrees));
+    }
+
+    // the number of quarter turns of a multiple of 90 degrees, between 0 and 3
+    private static int quarterOf(double degrees) {
+        return (int) Math.floorMod((long) (degrees / 90), 4L);
+    }
+
+    /**
+     * @return the x coordinate of the point (x, y) rotated around the origin
+     */
+    public static double rotateX(double x, double y, double cos, double sin) {
+        return x * cos - y * sin;
+    }
+
+    /**
+     * @return the y coordinate of the point (x, y) rotated around the origin
+     */
+    public static double rotateY(double x, double y, double cos, double sin) {
+        return x * sin + y * cos;
+    }
+
+    /**
+     * rotates a point around a center.
+     *
+     * @param out set to the rotated point, may be the coordinates the point was read from
+     */
+    public static void rotate(double x, double y, double centerX, double centerY, double cos, double sin,
+                              Coordinates out) {
+        double dx = x - centerX, dy = y - centerY;
+        out.setX(rotateX(dx, dy, cos, sin) + centerX);
+        out.setY(rotateY(dx, dy, cos, sin) + centerY);
+    }
+
+    public static double dot(double ax, double ay, double bx, double by) {
+        return ax * bx + ay * by;
+    }
+
+    public static double distanceSquared(double x1, double y1, double x2, double y2) {
+        double dx = x1 - x2, dy = y1 - y2;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * @return the x component of the vector (vx, vy) reflected off a surface with the unit normal (nx, ny)
+     */
+    public static double reflectX(double vx, double vy, double nx, double ny) {
+        return vx - 2 * dot(vx, vy, nx, ny) * nx;
+    }
+
+    /**
+     * @return the y component of the vector (vx, vy) reflected off a surface with the unit normal (nx, ny)
+     */
+    public static double reflectY(double vx, double vy, double nx, double ny) {
+        return vy - 2 * dot(vx, vy, nx, ny) * ny;
+    }
+
+    /**
+     * @return true if the point is inside the circle or on its boundary. a circle of radius 0 contains no point.
+     */
+    public static boolean isWithinCircle(double x, double y, double centerX, double centerY, double radius) {
+        return radius != 0 && distanceSquared(x, y, centerX, centerY) <= radius * radius;
+    }
+
+    /**
+     * checks if a point is inside a rotated box or on its boundary.
+     *
+     * @param halfWidth  half the width of the box, along its x axis before the rotation
+     * @param halfHeight half the height of the box, along its y axis before the rotation
+     * @param cos        the cosine of the rotation of the box
+     * @param sin        the sine of the rotation of the box
+     */
+    public static boolean isWithinBox(double x, double y, double centerX, double centerY,
+                                      double halfWidth, double halfHeight, double cos, double sin) {
+        double dx = x - centerX, dy = y - centerY;
+        // the point in the frame of the box, rotated back by the rotation of the box
+        double localX = rotateX(dx, dy, cos, -sin);
+        double localY = rotateY(dx, dy, cos, -sin);
+        return Math.abs(localX) <= halfWidth && Math.abs(localY) <= halfHeight;
+    }
+}
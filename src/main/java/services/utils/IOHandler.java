@@ -60,6 +60,16 @@ public class IOHandler {
         return YAMLMapper.readValue(new File(System.getProperty("user.dir") + "/" + directory + "/" + fileName + ".yaml"), tClass);
     }
 
+    /**
+     * Returns an Object that is loaded from the given YAML file
+     *
+     * @param file the YAML file to be read.
+     * @return a new object read from the YAML file
+     */
+    public static <T> T readFromYaml(File file, Class<T> tClass) throws IOException {
+        return YAMLMapper.readValue(file, tClass);
+    }
+
     /**
      * Returns an Object that is loaded from the YAML file with the given name
      *
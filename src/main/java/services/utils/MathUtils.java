@@ -18,13 +18,10 @@ public class MathUtils {
      * @return a new Coordinates object with the rotated x and y.
      */
     public static Coordinates applyRotation(double angle, Coordinates rotationCenter, Coordinates coordinates) {
-        angle = Math.toRadians(angle);
-        Vector vector = new Vector(new Coordinates((coordinates.getX() - rotationCenter.getX()), (coordinates.getY() - rotationCenter.getY())));
-
-        double rotatedX = (float) (cos(angle) * vector.getX() - sin(angle) * vector.getY()) + rotationCenter.getX();
-        double rotatedY = (float) (sin(angle) * vector.getX() + cos(angle) * vector.getY()) + rotationCenter.getY();
-
-        return new Coordinates(rotatedX, rotatedY);
+        Coordinates rotated = new Coordinates();
+        Geometry.rotate(coordinates.getX(), coordinates.getY(), rotationCenter.getX(), rotationCenter.getY(),
+                Geometry.cos(angle), Geometry.sin(angle), rotated);
+        return rotated;
     }
 
     /**
@@ -81,17 +78,8 @@ public class MathUtils {
         if (centerCoordinates == null || point == null)
             throw new NullPointerException("MathUtils.isWithinCircle");
 
-        double x = point.getX();
-        double y = point.getY();
-
-        double x_0 = centerCoordinates.getX();
-        double y_0 = centerCoordinates.getY();
-
-        // If the radius is zero nothing can be inside the circle
-        if (radius == 0)
-            return false;
-
-        return pow((x - x_0), 2) + pow((y - y_0), 2) <= pow(radius, 2);
+        return Geometry.isWithinCircle(point.getX(), point.getY(), centerCoordinates.getX(), centerCoordinates.getY(),
+                radius);
     }
 
     /**
@@ -271,34 +259,30 @@ public class MathUtils {
      * @return The distance between two given points.
      */
     public static double distanceBetween(Coordinates firstPoint, Coordinates secondPoint) {
-        double newX = Math.abs(firstPoint.getX() - secondPoint.getX());
-        double newY = Math.abs(firstPoint.getY() - secondPoint.getY());
-
-        return Math.abs(Math.sqrt((Math.pow(newX, 2) + Math.pow(newY, 2))));
+        return Math.sqrt(Geometry.distanceSquared(firstPoint.getX(), firstPoint.getY(),
+                secondPoint.getX(), secondPoint.getY()));
     }
 
     /**
      * Given an array of integers, returns a random element from this array.
      *
-     * @param array array of integers.
+     * @param array  array of integers.
+     * @param random the random numbers to choose with.
      * @return a random element from the given array.
      */
-    public static int chooseFrom(int[] array) {
-        Random random = new Random();
-        int randomIndex = random.nextInt(array.length);
-        return array[randomIndex];
+    public static int chooseFrom(int[] array, Random random) {
+        return array[random.nextInt(array.length)];
     }
 
     /**
      * Given an array of doubles, returns a random element from this array.
      *
-     * @param array array of doubles.
+     * @param array  array of doubles.
+     * @param random the random numbers to choose with.
      * @return a random element from the given array.
      */
-    public static double chooseFrom(double[] array) {
-        Random random = new Random();
-        int randomIndex = random.nextInt(array.length);
-        return array[randomIndex];
+    public static double chooseFrom(double[] array, Random random) {
+        return array[random.nextInt(array.length)];
     }
 
     /**
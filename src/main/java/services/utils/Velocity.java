@@ -35,8 +35,13 @@ public class Velocity {
         return velocityVector;
     }
 
+    /**
+     * @param n the unit normal of the surface
+     * @return the velocity reflected off the surface
+     */
     public Velocity reflect(Vector n){
-        return new Velocity(n.scale(n.dot(getVelocityVector()) * 2).subtract(getVelocityVector()).reverse());
+        double xv = getXv(), yv = getYv();
+        return new Velocity(Geometry.reflectX(xv, yv, n.getX(), n.getY()), Geometry.reflectY(xv, yv, n.getX(), n.getY()));
     }
 
     @Override
@@ -1,22 +1,21 @@
 package ui.movable_drawables;
 
-import model.game_entities.Atom;
-import services.utils.Coordinates;
-import services.utils.MathUtils;
+import model.game_running.WorldSnapshot;
 
 import java.awt.*;
 
 /**
- * This class is responsible for drawing an Atom given the Atom entity in the constructor
+ * This class is responsible for drawing the Atoms of a given sprite key
  */
 public class AtomDrawer implements Drawable {
 
-    private final Atom atom;
     private final Image atomImage;
+    private final int width, height;
 
-    public AtomDrawer(Atom atom) {
-        this.atom = atom;
-        this.atomImage = ImageResources.get(atom);
+    public AtomDrawer(int spriteKey, int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.atomImage = ImageResources.get(spriteKey, width, height);
     }
 
     /**
@@ -24,13 +23,8 @@ public class AtomDrawer implements Drawable {
      * @param g Graphics instance passed to be used in drawing
      */
     @Override
-    public void draw(Graphics g) {
-        Coordinates drawingCoordinates = MathUtils.drawingCoordinates(atom.getCoordinates(),
-                atom.getHitbox().getWidth(),
-                atom.getHitbox().getHeight());
-
-        g.drawImage(atomImage, drawingCoordinates.getPoint().x, drawingCoordinates.getPoint().y, null);
-
+    public void draw(Graphics g, double x, double y, double rotation) {
+        g.drawImage(atomImage, (int) (x - width / 2.0), (int) (y - height / 2.0), null);
     }
 
     /**
@@ -38,15 +32,11 @@ public class AtomDrawer implements Drawable {
      * @param g Graphics instance passed to be used in drawing
      */
     @Override
-    public void drawHitbox(Graphics g) {
-        Coordinates drawingCoordinates = MathUtils.drawingCoordinates(atom.getCoordinates(),
-                atom.getHitbox().getWidth(),
-                atom.getHitbox().getHeight());
-
+    public void drawHitbox(Graphics g, WorldSnapshot snapshot, int index) {
         g.drawOval(
-                drawingCoordinates.getPoint().x,
-                drawingCoordinates.getPoint().y,
-                (int) atom.getHitbox().getWidth(),
-                (int) atom.getHitbox().getHeight());
+                (int) (snapshot.getX(index) - width / 2.0),
+                (int) (snapshot.getY(index) - height / 2.0),
+                width,
+                height);
     }
 }
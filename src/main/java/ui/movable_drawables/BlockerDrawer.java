@@ -1,23 +1,31 @@
 package ui.movable_drawables;
 
 import model.game_building.Configuration;
-import model.game_entities.Blocker;
-import services.utils.Coordinates;
-import services.utils.MathUtils;
+import model.game_building.GameConstants;
+import model.game_running.WorldSnapshot;
 
 import java.awt.*;
 
 /**
- * This class is responsible for drawing an Blocker given the Blocker entity in the constructor
+ * This class is responsible for drawing the Blockers of a given sprite key
  */
 public class BlockerDrawer implements Drawable {
 
-    private final Blocker blocker;
     private final Image blockerImage;
-
-    public BlockerDrawer(Blocker blocker) {
-        this.blocker = blocker;
-        this.blockerImage = ImageResources.get(blocker);
+    private final int width, height;
+    private final int imageWidth, imageHeight;
+
+    public BlockerDrawer(int spriteKey, int width, int height) {
+        this.width = width;
+        this.height = height;
+        if (Configuration.getInstance().isDiscoTheme()) {
+            this.imageWidth = 2 * width;
+            this.imageHeight = 2 * height;
+        } else {
+            this.imageWidth = width;
+            this.imageHeight = height;
+        }
+        this.blockerImage = ImageResources.get(spriteKey, imageWidth, imageHeight);
     }
 
     /**
@@ -25,56 +33,29 @@ public class BlockerDrawer implements Drawable {
      * @param g Graphics instance passed to be used in drawing
      */
     @Override
-    public void draw(Graphics g) {
-        Coordinates drawingCoordinates;
-        if (Configuration.getInstance().isDiscoTheme())
-
-            drawingCoordinates = MathUtils.drawingCoordinates(blocker.getCoordinates(),
-                    2 * blocker.getHitbox().getWidth(),
-                    2 * blocker.getHitbox().getHeight());
-        else
-            drawingCoordinates = MathUtils.drawingCoordinates(blocker.getCoordinates(),
-                    blocker.getHitbox().getWidth(),
-                    blocker.getHitbox().getHeight());
-
-        g.drawImage(blockerImage, drawingCoordinates.getPoint().x, drawingCoordinates.getPoint().y, null);
+    public void draw(Graphics g, double x, double y, double rotation) {
+        g.drawImage(blockerImage, (int) (x - imageWidth / 2.0), (int) (y - imageHeight / 2.0), null);
     }
 
     /**
-     * draw a hit box around the atom on the game view
+     * draw the hit box, the blocking range and the explosion range around the blocker on the game view
      * @param g Graphics instance passed to be used in drawing
      */
     @Override
-    public void drawHitbox(Graphics g) {
-        Coordinates drawingCoordinates = MathUtils.drawingCoordinates(blocker.getCoordinates(),
-                blocker.getHitbox().getWidth(),
-                blocker.getHitbox().getHeight());
-
-        Coordinates drawingCoordinates1 = MathUtils.drawingCoordinates(blocker.getCoordinates(),
-                blocker.getBlockingHitbox().getWidth(),
-                blocker.getBlockingHitbox().getHeight());
-
-        Coordinates drawingCoordinates2 = MathUtils.drawingCoordinates(blocker.getCoordinates(),
-                blocker.getExplodingHitbox().getWidth(),
-                blocker.getExplodingHitbox().getHeight());
-
-        g.drawOval(
-                drawingCoordinates.getPoint().x,
-                drawingCoordinates.getPoint().y,
-                (int) blocker.getHitbox().getWidth(),
-                (int) blocker.getHitbox().getHeight());
-
-        g.drawOval(
-                drawingCoordinates1.getPoint().x,
-                drawingCoordinates1.getPoint().y,
-                (int) blocker.getBlockingHitbox().getWidth(),
-                (int) blocker.getBlockingHitbox().getHeight());
+    public void drawHitbox(Graphics g, WorldSnapshot snapshot, int index) {
+        drawCircle(g, snapshot, index, width, height);
+        double blockingScale = GameConstants.BLOCKER_BLOCKING_RADIUS / GameConstants.BLOCKER_RADIUS;
+        drawCircle(g, snapshot, index, width * blockingScale, height * blockingScale);
+        double explosionScale = GameConstants.BLOCKER_EXPLOSION_RADIUS / GameConstants.BLOCKER_RADIUS;
+        drawCircle(g, snapshot, index, width * explosionScale, height * explosionScale);
+    }
 
+    private void drawCircle(Graphics g, WorldSnapshot snapshot, int index, double width, double height) {
         g.drawOval(
-                drawingCoordinates2.getPoint().x,
-                drawingCoordinates2.getPoint().y,
-                (int) blocker.getExplodingHitbox().getWidth(),
-                (int) blocker.getExplodingHitbox().getHeight());
+                (int) (snapshot.getX(index) - width / 2),
+                (int) (snapshot.getY(index) - height / 2),
+                (int) width,
+                (int) height);
     }
 
 }
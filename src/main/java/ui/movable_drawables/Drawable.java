@@ -1,21 +1,43 @@
 package ui.movable_drawables;
 
+import model.game_running.WorldSnapshot;
+
 import java.awt.*;
 
+/**
+ * Draws one kind of entity from a {@link WorldSnapshot}. A drawable holds only the image of its kind, so a single
+ * instance is shared by every entity that looks the same.
+ */
 public interface Drawable {
 
     /**
-     * Draws objects in the game space
+     * Draws an entity in the game space
+     *
+     * @param g        Graphics instance passed to be used in drawing
+     * @param x        the x coordinate of the center of the entity
+     * @param y        the y coordinate of the center of the entity
+     * @param rotation the rotation of the entity, in degrees
+     */
+    void draw(Graphics g, double x, double y, double rotation);
+
+    /**
+     * Draws an entity of the snapshot in the game space
      *
-     * @param g Graphics instance passed to be used in drawing
+     * @param g        Graphics instance passed to be used in drawing
+     * @param snapshot the snapshot to draw from
+     * @param index    the index of the entity in the snapshot
      */
-    void draw(Graphics g);
+    default void draw(Graphics g, WorldSnapshot snapshot, int index) {
+        draw(g, snapshot.getX(index), snapshot.getY(index), snapshot.getRotation(index));
+    }
 
     /**
-     * Draws the hitbox of the entity in the game space
+     * Draws the hitbox of an entity of the snapshot in the game space
      *
-     * @param g Graphics instance passed to be used in drawing
+     * @param g        Graphics instance passed to be used in drawing
+     * @param snapshot the snapshot to draw from
+     * @param index    the index of the entity in the snapshot
      */
-    default void drawHitbox(Graphics g) {
+    default void drawHitbox(Graphics g, WorldSnapshot snapshot, int index) {
     }
 }
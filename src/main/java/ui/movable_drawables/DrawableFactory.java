@@ -1,25 +1,25 @@
 package ui.movable_drawables;
 
-import model.game_entities.*;
+import model.game_running.SpriteKey;
 
 public class DrawableFactory {
 
     /**
-     * @param entity an entity instance that will use draw to draw itself
-     * @return a drawable for the entity given
+     * @param spriteKey the sprite key of the entities that will be drawn, see {@link SpriteKey}
+     * @param width     the width of the entities
+     * @param height    the height of the entities
+     * @return a drawable for the entities with the given sprite key and dimensions
      */
-    public static Drawable get(Entity entity) {
-        switch (entity.getSuperType()) {
+    public static Drawable get(int spriteKey, int width, int height) {
+        switch (SpriteKey.getSuperType(spriteKey)) {
             case MOLECULE:
-                return new MoleculeDrawer((Molecule) entity);
+                return new MoleculeDrawer(spriteKey, width, height);
             case ATOM:
-                return new AtomDrawer((Atom) entity);
+                return new AtomDrawer(spriteKey, width, height);
             case BLOCKER:
-                return new BlockerDrawer((Blocker) entity);
-            case SHOOTER:
-                return new ShooterDrawer((Shooter) entity);
+                return new BlockerDrawer(spriteKey, width, height);
             case POWERUP:
-                return new PowerupDrawer((Powerup) entity);
+                return new PowerupDrawer(spriteKey, width, height);
             default:
                 throw new IllegalArgumentException("Entity type is not correct");
         }
@@ -1,12 +1,10 @@
 package ui.movable_drawables;
 
 import model.game_building.Configuration;
-import model.game_entities.AutonomousEntity;
-import model.game_entities.Entity;
-import model.game_entities.Molecule;
 import model.game_entities.enums.EntityType;
 import model.game_entities.enums.ShieldType;
 import model.game_entities.enums.SuperType;
+import model.game_running.SpriteKey;
 import org.apache.log4j.Logger;
 
 import javax.imageio.ImageIO;
@@ -26,39 +24,26 @@ public class ImageResources {
     private static final Logger logger = Logger.getLogger("ImageResources");
 
     /**
-     * @param entity the entity that needs an image to draw itself
+     * @param spriteKey the sprite key of the entities that need an image to draw themselves, see {@link SpriteKey}
+     * @param width     the width of the image after scaling
+     * @param height    the height of the image after scaling
      * @return the corresponding image with the specified dimensions
      */
-    public static Image get(Entity entity) {
-        int width = (int) entity.getHitbox().getWidth();
-        int height = (int) entity.getHitbox().getHeight();
-
-        switch (entity.getSuperType()) {
-            //Entity is a Blocker, atom, powerup, or molecule, return the corresponding image
+    public static Image get(int spriteKey, int width, int height) {
+        SuperType superType = SpriteKey.getSuperType(spriteKey);
+        switch (superType) {
+            //Entity is a Blocker, atom, or powerup, return the corresponding image
             case ATOM:
             case POWERUP:
-                AutonomousEntity a = (AutonomousEntity) entity;
-                return getImage(a.getSuperType() + "/" + a.getEntityType() + ".png", width, height);
-
             case BLOCKER:
-                AutonomousEntity b = (AutonomousEntity) entity;
-                if (config.isDiscoTheme())
-                    return getImage(b.getSuperType() + "/" + b.getEntityType() + ".png", 2 * width, 2 * height);
-                else
-                    return getImage(b.getSuperType() + "/" + b.getEntityType() + ".png", width, height);
-
+                return getImage(superType + "/" + SpriteKey.getEntityType(spriteKey) + ".png", width, height);
 
             case MOLECULE:
-                Molecule m = (Molecule) entity;
-                return getImage(m.getSuperType() + "/" + m.getEntityType() + m.getStructure() + ".png", width, height);
-
-            //Entity is a Shooter, return shooter image
-            case SHOOTER:
-                return getImage("shooter.png", width, height);
+                return getImage(superType + "/" + SpriteKey.getEntityType(spriteKey) + SpriteKey.getStructure(spriteKey) + ".png", width, height);
 
             //A default black image will be returned in case of any error
             default:
-                logger.error("Error: ImageResources::get :" + entity.toString() + ", " + width + ", " + height);
+                logger.error("Error: ImageResources::get :" + superType + ", " + width + ", " + height);
                 return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
         }
     }
@@ -1,24 +1,26 @@
 package ui.movable_drawables;
 
-import model.game_entities.Molecule;
 import model.game_entities.enums.MoleculeStructure;
-import services.utils.Coordinates;
-import services.utils.MathUtils;
+import model.game_running.SpriteKey;
+import model.game_running.WorldSnapshot;
 
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 
 /**
- * This class is responsible for drawing a Molecule given a Molecule entity in the constructor
+ * This class is responsible for drawing the Molecules of a given sprite key
  */
 public class MoleculeDrawer implements Drawable {
 
-    private final Molecule molecule;
     private final Image moleculeImage;
-
-    public MoleculeDrawer(Molecule molecule) {
-        this.molecule = molecule;
-        this.moleculeImage = ImageResources.get(molecule);
+    private final MoleculeStructure structure;
+    private final int width, height;
+
+    public MoleculeDrawer(int spriteKey, int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.structure = SpriteKey.getStructure(spriteKey);
+        this.moleculeImage = ImageResources.get(spriteKey, width, height);
     }
 
     /**
@@ -26,14 +28,12 @@ public class MoleculeDrawer implements Drawable {
      * @param g Graphics instance passed to be used in drawing
      */
     @Override
-    public void draw(Graphics g) {
+    public void draw(Graphics g, double x, double y, double rotation) {
         // rotate the molecule
         Graphics2D g2d = (Graphics2D) g;
         AffineTransform old = g2d.getTransform();
-        g2d.rotate(Math.toRadians(molecule.getRotationDegree()), molecule.getCoordinates().getPoint().x, molecule.getCoordinates().getPoint().y);
-        Coordinates drawingCoordinates = MathUtils.drawingCoordinates(molecule.getCoordinates(),
-                molecule.getHitbox().getWidth(), molecule.getHitbox().getHeight());
-        g2d.drawImage(moleculeImage, drawingCoordinates.getPoint().x, drawingCoordinates.getPoint().y, null);
+        g2d.rotate(Math.toRadians(rotation), (int) x, (int) y);
+        g2d.drawImage(moleculeImage, (int) (x - width / 2.0), (int) (y - height / 2.0), null);
         g2d.setTransform(old);
 
     }
@@ -43,22 +43,13 @@ public class MoleculeDrawer implements Drawable {
      * @param g Graphics instance passed to be used in drawing
      */
     @Override
-    public void drawHitbox(Graphics g) {
-        Coordinates drawingCoordinates = MathUtils.drawingCoordinates(molecule.getCoordinates(),
-                molecule.getHitbox().getWidth(),
-                molecule.getHitbox().getHeight());
+    public void drawHitbox(Graphics g, WorldSnapshot snapshot, int index) {
+        int x = (int) (snapshot.getX(index) - width / 2.0);
+        int y = (int) (snapshot.getY(index) - height / 2.0);
 
-        if (molecule.getStructure() == MoleculeStructure.CIRCULAR)
-            g.drawOval(
-                    drawingCoordinates.getPoint().x,
-                    drawingCoordinates.getPoint().y,
-                    (int) molecule.getHitbox().getWidth(),
-                    (int) molecule.getHitbox().getHeight());
+        if (structure == MoleculeStructure.CIRCULAR)
+            g.drawOval(x, y, width, height);
         else
-            g.drawRect(
-                    drawingCoordinates.getPoint().x,
-                    drawingCoordinates.getPoint().y,
-                    (int) molecule.getHitbox().getWidth(),
-                    (int) molecule.getHitbox().getHeight());
+            g.drawRect(x, y, width, height);
     }
 }
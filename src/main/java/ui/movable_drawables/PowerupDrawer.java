@@ -1,24 +1,23 @@
 package ui.movable_drawables;
 
-import model.game_entities.Powerup;
-import services.utils.Coordinates;
-import services.utils.MathUtils;
+import model.game_running.WorldSnapshot;
 
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 
 
 /**
- * This class is responsible for drawing a Powerup given a Powerup entity in the constructor
+ * This class is responsible for drawing the Powerups of a given sprite key
  */
 public class PowerupDrawer implements Drawable {
 
-    private final Powerup powerup;
     private final Image powerupImage;
+    private final int width, height;
 
-    public PowerupDrawer(Powerup powerup) {
-        this.powerup = powerup;
-        this.powerupImage = ImageResources.get(powerup);
+    public PowerupDrawer(int spriteKey, int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.powerupImage = ImageResources.get(spriteKey, width, height);
     }
 
     /**
@@ -26,18 +25,12 @@ public class PowerupDrawer implements Drawable {
      * @param g Graphics instance passed to be used in drawing
      */
     @Override
-    public void draw(Graphics g) {
+    public void draw(Graphics g, double x, double y, double rotation) {
         Graphics2D g2d = (Graphics2D) g;
         AffineTransform old = g2d.getTransform();
 
-        g2d.rotate(Math.toRadians(powerup.getHitbox().getRotationDegree()),
-                (int) powerup.getCoordinates().getX(),
-                (int) powerup.getCoordinates().getY());
-
-        Coordinates drawingCoordinates = MathUtils.drawingCoordinates(powerup.getCoordinates(),
-                powerup.getHitbox().getWidth(),
-                powerup.getHitbox().getHeight());
-        g2d.drawImage(powerupImage, drawingCoordinates.getPoint().x, drawingCoordinates.getPoint().y, null);
+        g2d.rotate(Math.toRadians(rotation), (int) x, (int) y);
+        g2d.drawImage(powerupImage, (int) (x - width / 2.0), (int) (y - height / 2.0), null);
 
         g2d.setTransform(old);
     }
@@ -47,16 +40,12 @@ public class PowerupDrawer implements Drawable {
      * @param g Graphics instance passed to be used in drawing
      */
     @Override
-    public void drawHitbox(Graphics g) {
-        Coordinates drawingCoordinates = MathUtils.drawingCoordinates(powerup.getCoordinates(),
-                powerup.getHitbox().getWidth(),
-                powerup.getHitbox().getHeight());
-
+    public void drawHitbox(Graphics g, WorldSnapshot snapshot, int index) {
         g.drawOval(
-                drawingCoordinates.getPoint().x,
-                drawingCoordinates.getPoint().y,
-                (int) powerup.getHitbox().getWidth(),
-                (int) powerup.getHitbox().getHeight());
+                (int) (snapshot.getX(index) - width / 2.0),
+                (int) (snapshot.getY(index) - height / 2.0),
+                width,
+                height);
     }
 
 }
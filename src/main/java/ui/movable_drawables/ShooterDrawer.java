@@ -2,12 +2,11 @@ package ui.movable_drawables;
 
 import model.game_building.Configuration;
 import model.game_building.GameConstants;
-import model.game_entities.Projectile;
 import model.game_entities.Shooter;
 import model.game_entities.enums.EntityType;
+import model.game_running.SpriteKey;
+import model.game_running.WorldSnapshot;
 import model.game_running.listeners.ShooterEventListener;
-import services.utils.Coordinates;
-import services.utils.MathUtils;
 
 import java.awt.*;
 import java.awt.geom.AffineTransform;
@@ -15,11 +14,12 @@ import java.util.Timer;
 import java.util.TimerTask;
 
 /**
- * This class is responsible for drawing the Shooter given the Shooter entity in the constructor
+ * This class is responsible for drawing the Shooter given the Shooter entity in the constructor.
+ * the shooter entity is only read for its dimensions, its state is drawn from the world snapshots
  */
-public class ShooterDrawer implements Drawable, ShooterEventListener {
+public class ShooterDrawer implements ShooterEventListener {
 
-    private final Shooter shooter;
+    private final int width, height;
     private final Image shooterBase;
     private final Image shooterImageGif, shootingAnim;
     private final Image belt, beltAnim;
@@ -28,10 +28,13 @@ public class ShooterDrawer implements Drawable, ShooterEventListener {
     private Image currentBeltImg;
     private Image currentImg;
     private Image[] shieldsImages;
+    private Drawable projectileDrawer;
+    private int projectileDrawerKey;
 
     public ShooterDrawer(Shooter shooter) {
-        this.shooter = shooter;
-        this.shooter.setShooterListener(this);
+        this.width = (int) shooter.getHitbox().getWidth();
+        this.height = (int) shooter.getHitbox().getHeight();
+        shooter.setShooterListener(this);
         this.config = Configuration.getInstance();
         this.shooterBase = ImageResources.get("shooter_base", (int) (shooter.getHitbox().getHeight() * 1.5), (int) shooter.getHitbox().getHeight());
         this.shooterImageGif = ImageResources.getGif("shooter", (int) shooter.getHitbox().getWidth(), (int) shooter.getHitbox().getHeight());
@@ -53,20 +56,14 @@ public class ShooterDrawer implements Drawable, ShooterEventListener {
     /**
      * draw shooter on the game view
      * @param g Graphics instance passed to be used in drawing
+     * @param snapshot the snapshot to draw the shooter from
      */
-    @Override
-    public void draw(Graphics g) {
+    public void draw(Graphics g, WorldSnapshot snapshot) {
         Graphics2D g2d = (Graphics2D) g;
         AffineTransform old = g2d.getTransform();
 
-        Projectile projectile = shooter.getCurrentProjectile();
-
-        //get drawing coordinates of shooter
-        Coordinates drawingCoordinates = MathUtils.drawingCoordinates(
-                shooter.getCoordinates(),
-                shooter.getHitbox().getWidth(),
-                shooter.getHitbox().getHeight());
-
+        double x = snapshot.getShooterX();
+        double y = snapshot.getShooterY();
 
         //draw base if the theme is disco theme
         if (config.isDiscoTheme()) {
@@ -74,48 +71,36 @@ public class ShooterDrawer implements Drawable, ShooterEventListener {
             g.drawImage(currentBeltImg, (int) (0.2 * config.getUnitL()), (int) (config.getGameHeight() - config.getUnitL() * 0.45), null);
 
             g2d.drawImage(shooterBase,
-                    (int) (shooter.getCoordinates().getX() - 0.5 * shooterBase.getWidth(null)),
+                    (int) (x - 0.5 * shooterBase.getWidth(null)),
                     (int) (config.getGameHeight() - config.getUnitL() * 1.25),
                     null);
         }
 
         //rotate the graphics according to shooter angle
-        g2d.rotate(Math.toRadians(
-                shooter.getAngle()),
-                (shooter.getCoordinates().getPoint().x),
-                (int) (shooter.getCoordinates().getPoint().y + shooter.getHitbox().getHeight() * 0.25));
+        g2d.rotate(Math.toRadians(snapshot.getShooterRotation()), (int) x, (int) (y + height * 0.25));
 
         //draw shooter image
-        g2d.drawImage(
-                currentImg,
-                drawingCoordinates.getPoint().x,
-                drawingCoordinates.getPoint().y,
-                null);
+        g2d.drawImage(currentImg, (int) (x - width / 2.0), (int) (y - height / 2.0), null);
 
         //draw projectile
-        if (projectile != null) {
-            Coordinates projectileCoordinates = MathUtils.drawingCoordinates(
-                    shooter.getCoordinates(),
-                    0, projectile.getHitbox().getHeight() + shooter.getHitbox().getHeight());
-            projectile.setCoordinates(projectileCoordinates);
+        int projectileKey = snapshot.getProjectileSpriteKey();
+        if (projectileKey != WorldSnapshot.NO_PROJECTILE) {
+            int projectileWidth = (int) snapshot.getProjectileWidth();
+            int projectileHeight = (int) snapshot.getProjectileHeight();
+            double projectileY = y - (projectileHeight + height) / 2.0;
 
             //draw the atom on tip of the shooter
-            DrawableFactory.get(projectile).draw(g2d);
+            getProjectileDrawer(projectileKey, projectileWidth, projectileHeight).draw(g2d, x, projectileY, 0);
 
             //draw shield on top of the atom
-            if (shooter.isAtomShielded()) {
+            if (snapshot.isProjectileShielded()) {
                 if (shieldsImages == null)
-                    setShieldsImages((int) projectile.getHitbox().getWidth());
-
-                Coordinates shieldDrawingCoordinates = MathUtils.drawingCoordinates(
-                        projectile.getCoordinates(),
-                        projectile.getHitbox().getWidth(),
-                        projectile.getHitbox().getHeight());
+                    setShieldsImages(projectileWidth);
 
                 g.drawImage(
-                        shieldsImages[projectile.getEntityType().getValue()],
-                        shieldDrawingCoordinates.getPoint().x,
-                        shieldDrawingCoordinates.getPoint().y,
+                        shieldsImages[SpriteKey.getEntityType(projectileKey).getValue()],
+                        (int) (x - projectileWidth / 2.0),
+                        (int) (projectileY - projectileHeight / 2.0),
                         null);
             }
         }
@@ -123,20 +108,29 @@ public class ShooterDrawer implements Drawable, ShooterEventListener {
         g2d.setTransform(old);
     }
 
+    /**
+     * @return the drawable of the projectile at the tip of the shooter, which is only created again when the
+     * projectile changes
+     */
+    private Drawable getProjectileDrawer(int spriteKey, int width, int height) {
+        if (projectileDrawer == null || spriteKey != projectileDrawerKey) {
+            projectileDrawer = DrawableFactory.get(spriteKey, width, height);
+            projectileDrawerKey = spriteKey;
+        }
+        return projectileDrawer;
+    }
+
     /**
      * draw a hit box around the shooter on the game view
      * @param g Graphics instance passed to be used in drawing
+     * @param snapshot the snapshot to draw the shooter from
      */
-    public void drawHitbox(Graphics g) {
-        Coordinates drawingCoordinates = MathUtils.drawingCoordinates(shooter.getCoordinates(),
-                shooter.getHitbox().getWidth(),
-                shooter.getHitbox().getHeight());
-
+    public void drawHitbox(Graphics g, WorldSnapshot snapshot) {
         g.drawRect(
-                drawingCoordinates.getPoint().x,
-                drawingCoordinates.getPoint().y,
-                (int) shooter.getHitbox().getWidth(),
-                (int) shooter.getHitbox().getHeight());
+                (int) (snapshot.getShooterX() - width / 2.0),
+                (int) (snapshot.getShooterY() - height / 2.0),
+                width,
+                height);
     }
 
     @Override
@@ -1,31 +1,36 @@
 package ui.windows;
 
 import model.game_building.Configuration;
-import model.game_entities.AutonomousEntity;
 import model.game_running.GameCommandListener;
 import model.game_running.RunningMode;
+import model.game_running.WorldSnapshot;
 import ui.movable_drawables.Drawable;
+import ui.movable_drawables.DrawableFactory;
 import ui.movable_drawables.ImageResources;
 import ui.movable_drawables.ShooterDrawer;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.HashMap;
 import java.util.Map;
 
 public class GamePanel extends JPanel {
     RunningMode runningMode;
     GameCommandListener commandListener;
-    private Map<AutonomousEntity, Drawable> drawableMap;
+    // drawables are shared by all the entities that look the same, keyed by sprite key and dimensions
+    private final Map<Long, Drawable> drawables;
     ShooterDrawer shooterDrawer;
     Graphics graphics;
     private boolean showPausedIndicator;
+    private boolean showEntities;
 
-    public GamePanel(RunningMode runningMode, Map<AutonomousEntity, Drawable> drawableMap) {
+    public GamePanel(RunningMode runningMode) {
         this.setPreferredSize(Configuration.getInstance().getGamePanelDimensions());
         this.runningMode = runningMode;
         this.setFocusable(true);
         this.requestFocusInWindow();
-        this.drawableMap = drawableMap;
+        this.drawables = new HashMap<>();
+        this.showEntities = true;
         this.setOpaque(false);
         this.shooterDrawer = new ShooterDrawer(runningMode.getShooter());
         this.commandListener = new GameCommandListener(this.runningMode);
@@ -37,26 +42,47 @@ public class GamePanel extends JPanel {
     }
 
 
-    public void reset(Map<AutonomousEntity, Drawable> drawableMap) {
-        this.drawableMap = drawableMap;
+    public void reset() {
+        this.drawables.clear();
+        this.showEntities = true;
         this.shooterDrawer = new ShooterDrawer(runningMode.getShooter());
     }
 
+    /**
+     * draws the latest snapshot published by the running mode. the snapshot is read once, so the whole frame shows
+     * the same tick.
+     */
     @Override
     public void paint(Graphics g) {
         graphics = g;
         super.paintComponents(g);
-        shooterDrawer.draw(g);
-        //shooterDrawer.drawHitbox(g);
-        drawableMap.values().forEach(drawable -> {
-            drawable.draw(g);
-            //for demonstration, draw the hitboxes of the entities
-            //drawable.drawHitbox(g);
-
-            if (showPausedIndicator) {
-                drawIndicator(g);
+        WorldSnapshot snapshot = runningMode.getLatestSnapshot();
+        shooterDrawer.draw(g, snapshot);
+        //shooterDrawer.drawHitbox(g, snapshot);
+        if (showEntities) {
+            for (int i = 0; i < snapshot.size(); i++) {
+                Drawable drawable = getDrawable(snapshot, i);
+                drawable.draw(g, snapshot, i);
+                //for demonstration, draw the hitboxes of the entities
+                //drawable.drawHitbox(g, snapshot, i);
             }
-        });
+        }
+
+        if (showPausedIndicator) {
+            drawIndicator(g);
+        }
+    }
+
+    private Drawable getDrawable(WorldSnapshot snapshot, int index) {
+        int width = (int) snapshot.getWidth(index);
+        int height = (int) snapshot.getHeight(index);
+        long key = ((long) snapshot.getSpriteKey(index) << 32) | ((long) width << 16) | height;
+        Drawable drawable = drawables.get(key);
+        if (drawable == null) {
+            drawable = DrawableFactory.get(snapshot.getSpriteKey(index), width, height);
+            drawables.put(key, drawable);
+        }
+        return drawable;
     }
 
     private void drawIndicator(Graphics g) {
@@ -69,4 +95,8 @@ public class GamePanel extends JPanel {
     public void showPauseIndicator(boolean show) {
         showPausedIndicator = show;
     }
+
+    public void showEntities(boolean show) {
+        showEntities = show;
+    }
 }
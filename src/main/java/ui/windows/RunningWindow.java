@@ -20,15 +20,11 @@ import org.apache.log4j.Logger;
 import services.database.IDatabase;
 import services.database.MongoDBAdapter;
 import services.utils.SoundHandler;
-import ui.movable_drawables.Drawable;
-import ui.movable_drawables.DrawableFactory;
 import ui.movable_drawables.ImageResources;
 
 import javax.swing.*;
 import java.awt.*;
 import java.util.Collection;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 
 /**
@@ -43,7 +39,6 @@ public class RunningWindow extends JFrame implements RunningStateListener, GameE
     private Configuration config;
     private Image background;
     private final Image background_gameOver;
-    private final Map<AutonomousEntity, Drawable> drawableMap;
     private final SessionLoadWindow sessionLoadWindow;
     private final SessionSaveWindow saveSessionWindow;
     private CountDownLatch pauseLatch;
@@ -51,17 +46,17 @@ public class RunningWindow extends JFrame implements RunningStateListener, GameE
 
     public RunningWindow(String title) { // TODO: CLEAN: maybe move panel to a separate class.
         super(title);
-        drawableMap = new ConcurrentHashMap<>(); // concurrent so that it supports concurrent addition and deletion.
         this.config = Configuration.getInstance();
         this.setSize(config.getRunningWindowDimension());
         this.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
         this.sessionLoadWindow = new SessionLoadWindow(this);
         this.saveSessionWindow = new SessionSaveWindow(this);
+        SoundHandler soundHandler = new SoundHandler();
         this.runningMode = new RunningMode(this, this, sessionLoadWindow,
-                saveSessionWindow, new SoundHandler());
+                saveSessionWindow, soundHandler, soundHandler);
         logger.info("in running window" + runningMode.getBlender());
         BlenderWindow blenderWindow = new BlenderWindow(runningMode); // Window that implements the blending listener for the observer pattern
-        gameContentPanel = new GamePanel(this.runningMode, drawableMap);
+        gameContentPanel = new GamePanel(this.runningMode);
         statisticsPanel = new StatisticsPanel(this.runningMode);
         Player player = new Player("player", statisticsPanel); //todo: change temp username
         this.runningMode.setPlayer(player);
@@ -108,12 +103,12 @@ public class RunningWindow extends JFrame implements RunningStateListener, GameE
     }
 
     /**
-     * starts the the game loop (drawing, movement, and collision checks)
+     * starts the the game loop (movement, collision checks, and entity generation) and the drawing loop
      */
     private void start() {
         running = true; // this will be made false somewhere else (when health or time are over)
         pauseLatch = new CountDownLatch(0);
-        runningMode.startThreads();
+        runningMode.startGameLoop();
         startDrawingThread();
     }
 
@@ -122,9 +117,7 @@ public class RunningWindow extends JFrame implements RunningStateListener, GameE
             while (running) {
                 try {
                     pauseLatch.await();
-                    runningMode.updateTimer(GameConstants.GAME_THREAD_DELAY);
                     repaint();
-                    if (runningMode.isGameFinished()) runningMode.endGame();
                     Thread.sleep(GameConstants.GAME_THREAD_DELAY);
                 } catch (InterruptedException ex) {
                     ex.printStackTrace();
@@ -165,27 +158,24 @@ public class RunningWindow extends JFrame implements RunningStateListener, GameE
     @Override
     public void onGameOver() {
         unregisterInputListeners();
-        drawableMap.clear();
+        gameContentPanel.showEntities(false);
         background = background_gameOver;
         this.running = false;
     }
 
+    // entities are drawn from the snapshots of the running mode, so the window does not keep track of them.
     @Override
-    public void onEntityAdd(AutonomousEntity entity) {
-        drawableMap.put(entity, DrawableFactory.get(entity));
+    public void onEntitiesAdd(Collection<AutonomousEntity> entities) {
     }
 
     @Override
     public void onEntitiesRemove(Collection<AutonomousEntity> entities) {
-        for (AutonomousEntity entity : entities)
-            drawableMap.remove(entity);
     }
 
     @Override
     public void onGameReset() {
-        drawableMap.clear();
         this.config = Configuration.getInstance();
-        this.gameContentPanel.reset(drawableMap);
+        this.gameContentPanel.reset();
         this.statisticsPanel.onProjectileCountChange();
         this.statisticsPanel.onShieldsCountChange();
         invalidate();
@@ -5,6 +5,7 @@ import model.game_building.GameConstants;
 import model.game_entities.enums.EntityType;
 import model.game_entities.enums.ShieldType;
 import model.game_entities.enums.SuperType;
+import model.game_running.GameCommand;
 import model.game_running.ProjectileContainer;
 import model.game_running.RunningMode;
 import model.game_running.ShieldHandler;
@@ -543,7 +544,7 @@ public class StatisticsPanel extends JPanel implements GameStatisticsListener {
             @Override
             public void mouseClicked(MouseEvent e) {
                 super.mouseClicked(e);
-                runningMode.applyShield(ShieldType.ETA);
+                runningMode.submitCommand(GameCommand.applyShield(ShieldType.ETA));
             }
 
             @Override
@@ -562,7 +563,7 @@ public class StatisticsPanel extends JPanel implements GameStatisticsListener {
             @Override
             public void mouseClicked(MouseEvent e) {
                 super.mouseClicked(e);
-                runningMode.applyShield(ShieldType.LOTA);
+                runningMode.submitCommand(GameCommand.applyShield(ShieldType.LOTA));
             }
 
             @Override
@@ -581,7 +582,7 @@ public class StatisticsPanel extends JPanel implements GameStatisticsListener {
             @Override
             public void mouseClicked(MouseEvent e) {
                 super.mouseClicked(e);
-                runningMode.applyShield(ShieldType.THETA);
+                runningMode.submitCommand(GameCommand.applyShield(ShieldType.THETA));
             }
 
             @Override
@@ -600,7 +601,7 @@ public class StatisticsPanel extends JPanel implements GameStatisticsListener {
             @Override
             public void mouseClicked(MouseEvent e) {
                 super.mouseClicked(e);
-                runningMode.applyShield(ShieldType.ZETA);
+                runningMode.submitCommand(GameCommand.applyShield(ShieldType.ZETA));
             }
 
             @Override
@@ -0,0 +1,63 @@
+package model;
+
+import model.game_building.ConfigBundle;
+import model.game_building.Configuration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Replaces the game configuration for a test and restores the replaced one afterwards, so the tests that need a
+ * configuration do not leak it into the tests that expect none. {@link #restore()} must be called after each test
+ * that called {@link #set(ConfigBundle)}.
+ */
+public final class TestConfiguration {
+
+    private ConfigBundle previousBundle;
+    private boolean replaced;
+
+    /**
+     * @param count the number of every type of atom, powerup, blocker, molecule and shield
+     * @param unitL the unit length of the game view
+     * @return a configuration without the linear and spinning options, on the easiest difficulty
+     */
+    public static ConfigBundle bundle(int count, double unitL) {
+        return bundle(count, unitL, false, 1);
+    }
+
+    /**
+     * @param count      the number of every type of atom, powerup, blocker, molecule and shield
+     * @param unitL      the unit length of the game view
+     * @param options    whether the alpha and beta molecules are linear and spinning
+     * @param difficulty the difficulty of the game
+     * @return the configuration
+     */
+    public static ConfigBundle bundle(int count, double unitL, boolean options, int difficulty) {
+        ArrayList<Integer> counts = new ArrayList<>(Arrays.asList(count, count, count, count));
+        return new ConfigBundle(counts, counts, counts, counts, counts, unitL, options, options, options, options,
+                difficulty, "DISCO");
+    }
+
+    /**
+     * replaces the game configuration, the first replacement remembers the configuration to restore.
+     *
+     * @param bundle the configuration of the test
+     */
+    public void set(ConfigBundle bundle) {
+        if (!replaced) {
+            previousBundle = Configuration.getInstance().getConfigBundle();
+            replaced = true;
+        }
+        Configuration.getInstance().reset(bundle);
+    }
+
+    /**
+     * restores the configuration that was replaced, if any.
+     */
+    public void restore() {
+        if (!replaced)
+            return;
+        Configuration.getInstance().reset(previousBundle);
+        replaced = false;
+    }
+}
@@ -0,0 +1,82 @@
+package model;
+
+import model.game_entities.Atom;
+import model.game_entities.Blocker;
+import model.game_entities.Molecule;
+import model.game_entities.Powerup;
+import model.game_entities.enums.EntityType;
+import model.game_physics.hitbox.CircularHitbox;
+import model.game_physics.hitbox.Hitbox;
+import model.game_physics.path_patterns.StraightPattern;
+import services.utils.Coordinates;
+import services.utils.Velocity;
+
+/**
+ * Creates the entities the tests are run on. The entities move in a straight line, and the ones without a velocity
+ * stand still.
+ */
+public final class TestEntities {
+
+    private TestEntities() {
+    }
+
+    /**
+     * @return an alpha atom with a hitbox of radius 1 that stands still at the origin
+     */
+    public static Atom atom() {
+        return atom(0, 0);
+    }
+
+    /**
+     * @return an alpha atom with a hitbox of radius 1 that stands still at the given coordinates
+     */
+    public static Atom atom(double x, double y) {
+        return atom(x, y, 0, 0);
+    }
+
+    /**
+     * @return an alpha atom with a hitbox of radius 1 that moves by the given velocity
+     */
+    public static Atom atom(double x, double y, double xv, double yv) {
+        return atom(new Coordinates(x, y), new CircularHitbox(1), new Velocity(xv, yv), EntityType.ALPHA);
+    }
+
+    /**
+     * @param coords   the coordinates of the atom, which its path pattern moves in place
+     * @param hitbox   the hitbox of the atom
+     * @param velocity the velocity of the atom, per movement step
+     * @param type     the type of the atom
+     * @return an atom with a speed percentage of 1, one proton and one neutron
+     */
+    public static Atom atom(Coordinates coords, Hitbox hitbox, Velocity velocity, EntityType type) {
+        return new Atom(coords, hitbox, new StraightPattern(coords, velocity), type, 1.0, 1, 1);
+    }
+
+    /**
+     * @return a molecule that stands still at the given coordinates, with a circular hitbox of the given radius
+     */
+    public static Molecule molecule(double x, double y, double radius, EntityType type) {
+        Coordinates coords = new Coordinates(x, y);
+        return new Molecule(coords, new CircularHitbox(radius), new StraightPattern(coords, new Velocity(0, 0)), type,
+                null);
+    }
+
+    /**
+     * @return a blocker that stands still at the given coordinates, whose hitboxes are circles of the given radius.
+     * the blocker reads its radii from the configuration
+     */
+    public static Blocker blocker(double x, double y, double radius, EntityType type) {
+        Coordinates coords = new Coordinates(x, y);
+        return new Blocker(coords, new CircularHitbox(radius), new CircularHitbox(radius), new CircularHitbox(radius),
+                new StraightPattern(coords, new Velocity(0, 0)), type);
+    }
+
+    /**
+     * @return a falling powerup that stands still at the given coordinates, with a circular hitbox of the given radius
+     */
+    public static Powerup powerup(double x, double y, double radius, EntityType type) {
+        Coordinates coords = new Coordinates(x, y);
+        return new Powerup(coords, new CircularHitbox(radius), new StraightPattern(coords, new Velocity(0, 0)), type,
+                true);
+    }
+}
@@ -0,0 +1,82 @@
+package model.game_ecs;
+
+import model.TestEntities;
+import model.game_building.GameConstants;
+import model.game_entities.Atom;
+import model.game_physics.path_patterns.StraightPattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.utils.Coordinates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EcsWorldTest {
+    EcsWorld world;
+    double delta = 0.00001;
+
+    @BeforeEach
+    void initializeVariables() {
+        world = new EcsWorld();
+    }
+
+    @Test
+    void attachedEntityMovesLikeItsPathPattern() {
+        Atom moved = TestEntities.atom(50, 50, 1.5, -2);
+        Atom attached = TestEntities.atom(50, 50, 1.5, -2);
+        assertTrue(world.attach(attached));
+        assertTrue(world.isAttached(attached));
+        assertFalse(world.isAttached(moved));
+
+        for (int i = 0; i < 10; i++) {
+            moved.move(GameConstants.MOVEMENT_STEP);
+            world.update(GameConstants.MOVEMENT_STEP, 1000);
+        }
+        assertEquals(moved.getCoordinates().getX(), attached.getCoordinates().getX(), delta);
+        assertEquals(moved.getCoordinates().getY(), attached.getCoordinates().getY(), delta);
+    }
+
+    @Test
+    void entityIsReflectedOffTheSideBoundary() {
+        Atom atom = TestEntities.atom(8, 50, 1, 0);
+        world.attach(atom);
+        world.update(GameConstants.MOVEMENT_STEP, 9.5); // the right edge of the atom passes x = 9.5
+        world.update(GameConstants.MOVEMENT_STEP, 9.5);
+        assertEquals(8, atom.getCoordinates().getX(), delta);
+
+        // the path pattern of the attached atom predicts its path after the reflection
+        Coordinates predicted = atom.getPathPattern().positionAt(atom.getCoordinates(), 3);
+        for (int i = 0; i < 3; i++)
+            world.update(GameConstants.MOVEMENT_STEP, 9.5);
+        assertTrue(world.isAttached(atom));
+        assertEquals(predicted.getX(), atom.getCoordinates().getX(), delta);
+        assertEquals(predicted.getY(), atom.getCoordinates().getY(), delta);
+    }
+
+    @Test
+    void detachingWritesTheStateBackToTheEntity() {
+        Atom atom = TestEntities.atom(8, 50, 1, 0);
+        world.attach(atom);
+        world.update(GameConstants.MOVEMENT_STEP, 9.5);
+        world.detach(atom);
+
+        assertFalse(world.isAttached(atom));
+        assertFalse(atom.getCoordinates() instanceof PositionView);
+        assertEquals(9, atom.getCoordinates().getX(), delta);
+        assertEquals(-1, ((StraightPattern) atom.getPathPattern()).getInitialVelocity().getXv(), delta);
+        assertEquals(0, world.size());
+    }
+
+    @Test
+    void removingARowKeepsTheOtherViewsValid() {
+        Atom first = TestEntities.atom(0, 0, 1, 0);
+        Atom second = TestEntities.atom(100, 100, 0, 1);
+        world.attach(first);
+        world.attach(second);
+        world.detach(first);
+        world.update(GameConstants.MOVEMENT_STEP, 1000);
+
+        assertTrue(world.isAttached(second));
+        assertEquals(100, second.getCoordinates().getX(), delta);
+        assertEquals(101, second.getCoordinates().getY(), delta);
+    }
+}
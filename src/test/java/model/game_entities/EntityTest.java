@@ -0,0 +1,46 @@
+package model.game_entities;
+
+import model.TestEntities;
+import model.game_entities.enums.EntityType;
+import model.game_physics.hitbox.RectangularHitbox;
+import org.junit.jupiter.api.Test;
+import services.utils.Coordinates;
+import services.utils.Velocity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityTest {
+
+    private Atom newAtom(Coordinates coords) {
+        return TestEntities.atom(coords, new RectangularHitbox(4, 2), new Velocity(0, 0), EntityType.ALPHA);
+    }
+
+    @Test
+    void boundsFollowMovesAndRotations() {
+        Atom atom = newAtom(new Coordinates(10, 10));
+        assertEquals(8, atom.getMinX(), 1e-9);
+        assertEquals(12, atom.getMaxX(), 1e-9);
+        assertEquals(9, atom.getMinY(), 1e-9);
+
+        atom.setCoordinates(new Coordinates(20, 10));
+        assertEquals(18, atom.getMinX(), 1e-9);
+        assertEquals(22, atom.getMaxX(), 1e-9);
+
+        atom.getHitbox().rotate(90);
+        assertEquals(19, atom.getMinX(), 1e-9);
+        assertEquals(8, atom.getMinY(), 1e-9);
+    }
+
+    @Test
+    void boundaryPointsAreCachedUntilTheEntityMoves() {
+        Coordinates coords = new Coordinates(10, 10);
+        Atom atom = newAtom(coords);
+        assertSame(atom.getBoundaryPoints(), atom.getBoundaryPoints());
+
+        // a change in place is only seen after the bounds are invalidated
+        coords.setX(30);
+        assertEquals(12, atom.getMaxX(), 1e-9);
+        atom.invalidateBounds();
+        assertEquals(32, atom.getMaxX(), 1e-9);
+    }
+}
@@ -11,6 +11,8 @@ import org.junit.jupiter.api.Test;
 import services.utils.Coordinates;
 import services.utils.Velocity;
 
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class ShieldedAtomsSpeedTest {
@@ -18,6 +20,7 @@ public class ShieldedAtomsSpeedTest {
     Hitbox hitbox;
     PathPattern pathPattern;
     double delta = 0.00001;
+    Random random = new Random(42);
 
 
     @BeforeEach
@@ -165,28 +168,28 @@ public class ShieldedAtomsSpeedTest {
         assertEquals(atom3.getSpeedPercentage(), 1.0, delta);
         assertEquals(atom4.getSpeedPercentage(), 1.0, delta);
 
-        atom1 = new ThetaShield(atom1);
-        atom2 = new ThetaShield(atom2);
-        atom3 = new ThetaShield(atom3);
-        atom4 = new ThetaShield(atom4);
+        atom1 = new ThetaShield(atom1, random);
+        atom2 = new ThetaShield(atom2, random);
+        atom3 = new ThetaShield(atom3, random);
+        atom4 = new ThetaShield(atom4, random);
         assertEquals(atom1.getSpeedPercentage(), 0.91, delta);
         assertEquals(atom2.getSpeedPercentage(), 0.91, delta);
         assertEquals(atom3.getSpeedPercentage(), 0.91, delta);
         assertEquals(atom4.getSpeedPercentage(), 0.91, delta);
 
-        atom1 = new ThetaShield(atom1);
-        atom2 = new ThetaShield(atom2);
-        atom3 = new ThetaShield(atom3);
-        atom4 = new ThetaShield(atom4);
+        atom1 = new ThetaShield(atom1, random);
+        atom2 = new ThetaShield(atom2, random);
+        atom3 = new ThetaShield(atom3, random);
+        atom4 = new ThetaShield(atom4, random);
         assertEquals(atom1.getSpeedPercentage(), 0.8281, delta);
         assertEquals(atom2.getSpeedPercentage(), 0.8281, delta);
         assertEquals(atom3.getSpeedPercentage(), 0.8281, delta);
         assertEquals(atom4.getSpeedPercentage(), 0.8281, delta);
 
-        atom1 = new ThetaShield(atom1);
-        atom2 = new ThetaShield(atom2);
-        atom3 = new ThetaShield(atom3);
-        atom4 = new ThetaShield(atom4);
+        atom1 = new ThetaShield(atom1, random);
+        atom2 = new ThetaShield(atom2, random);
+        atom3 = new ThetaShield(atom3, random);
+        atom4 = new ThetaShield(atom4, random);
         assertEquals(atom1.getSpeedPercentage(), 0.753571, delta);
         assertEquals(atom2.getSpeedPercentage(), 0.753571, delta);
         assertEquals(atom3.getSpeedPercentage(), 0.753571, delta);
@@ -12,6 +12,8 @@ import services.utils.Coordinates;
 import services.utils.MathUtils;
 import services.utils.Velocity;
 
+import java.util.Random;
+
 import static model.game_building.GameConstants.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -26,6 +28,7 @@ public class ShieldsEfficiencyTest {
     double efficiency1, efficiency2, efficiency3, efficiency4;
     int numberOfP1, numberOfP2, numberOfP3, numberOfP4;
     int numberOfN1, numberOfN2, numberOfN3, numberOfN4;
+    Random random = new Random(42);
 
     @BeforeEach
     void initializeVariables() {
@@ -48,10 +51,10 @@ public class ShieldsEfficiencyTest {
         int[] GAMMA_NEUTRON_VALUES = {29, 32, 33};
         int[] SIGMA_NEUTRON_VALUES = {63, 64, 67};
 
-        numberOfN1 = MathUtils.chooseFrom(ALPHA_NEUTRON_VALUES);
-        numberOfN2 = MathUtils.chooseFrom(BETA_NEUTRON_VALUES);
-        numberOfN3 = MathUtils.chooseFrom(GAMMA_NEUTRON_VALUES);
-        numberOfN4 = MathUtils.chooseFrom(SIGMA_NEUTRON_VALUES);
+        numberOfN1 = MathUtils.chooseFrom(ALPHA_NEUTRON_VALUES, random);
+        numberOfN2 = MathUtils.chooseFrom(BETA_NEUTRON_VALUES, random);
+        numberOfN3 = MathUtils.chooseFrom(GAMMA_NEUTRON_VALUES, random);
+        numberOfN4 = MathUtils.chooseFrom(SIGMA_NEUTRON_VALUES, random);
 
         efficiency1 = alphaEfficiency(numberOfN1);
         efficiency2 = betaEfficiency(numberOfN2);
@@ -166,10 +169,10 @@ public class ShieldsEfficiencyTest {
         double oldeff3 = atom3.getEfficiency();
         double oldeff4 = atom4.getEfficiency();
 
-        atom1 = new ThetaShield(atom1);
-        atom2 = new ThetaShield(atom2);
-        atom3 = new ThetaShield(atom3);
-        atom4 = new ThetaShield(atom4);
+        atom1 = new ThetaShield(atom1, random);
+        atom2 = new ThetaShield(atom2, random);
+        atom3 = new ThetaShield(atom3, random);
+        atom4 = new ThetaShield(atom4, random);
 
         assertTrue(
                 atom1.getEfficiency() == oldeff1 * (1 + (1 - oldeff1) * 0.05) ||
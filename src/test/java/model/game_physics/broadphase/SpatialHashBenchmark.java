@@ -0,0 +1,83 @@
+package model.game_physics.broadphase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures a broadphase pass (rebuild and one query per item) at growing item counts, against the pairwise pass it
+ * replaced. The density of the items is kept constant, like a game space that is filled with more entities of the same
+ * size, so a linear broadphase takes a constant time per item.
+ * usage: SpatialHashBenchmark [max items]
+ */
+public class SpatialHashBenchmark {
+
+    private static final double RADIUS = 22.5; // a molecule at the default unit length
+    private static final double AREA_PER_ITEM = 100 * 100;
+    private static final int PASSES = 20;
+
+    public static void main(String[] args) {
+        int maxItems = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        System.out.printf("%8s %16s %16s %12s%n", "items", "hash ns/item", "pairwise ns/item", "candidates");
+        for (int items = 100; items <= maxItems; items *= 2)
+            run(items);
+        if (Integer.bitCount(maxItems / 100) != 1)
+            run(maxItems);
+    }
+
+    private static void run(int items) {
+        Random random = new Random(items);
+        double side = Math.sqrt(items * AREA_PER_ITEM);
+        double[] xs = new double[items], ys = new double[items];
+        for (int i = 0; i < items; i++) {
+            xs[i] = random.nextDouble() * side;
+            ys[i] = random.nextDouble() * side;
+        }
+
+        SpatialHash<Integer> hash = new SpatialHash<>(RADIUS);
+        List<Integer> candidates = new ArrayList<>();
+        long candidateCount = 0;
+        // warm up, then measure
+        for (int pass = 0; pass < 2 * PASSES; pass++) {
+            if (pass == PASSES)
+                candidateCount = 0;
+            candidateCount += hashPass(hash, xs, ys, candidates);
+        }
+        long start = System.nanoTime();
+        for (int pass = 0; pass < PASSES; pass++)
+            hashPass(hash, xs, ys, candidates);
+        double hashNanos = (System.nanoTime() - start) / (double) PASSES / items;
+
+        // the pairwise pass is quadratic, it is measured once per size above a few thousand items
+        int pairwisePasses = items <= 2000 ? PASSES : 1;
+        pairwisePass(xs, ys);
+        start = System.nanoTime();
+        for (int pass = 0; pass < pairwisePasses; pass++)
+            pairwisePass(xs, ys);
+        double pairwiseNanos = (System.nanoTime() - start) / (double) pairwisePasses / items;
+
+        System.out.printf("%8d %16.1f %16.1f %12d%n", items, hashNanos, pairwiseNanos, candidateCount / PASSES);
+    }
+
+    private static long hashPass(SpatialHash<Integer> hash, double[] xs, double[] ys, List<Integer> candidates) {
+        hash.clear();
+        for (int i = 0; i < xs.length; i++)
+            hash.insert(i, xs[i], ys[i], RADIUS);
+        hash.build();
+        long found = 0;
+        for (int i = 0; i < xs.length; i++) {
+            hash.query(xs[i], ys[i], candidates);
+            found += candidates.size();
+        }
+        return found;
+    }
+
+    private static long pairwisePass(double[] xs, double[] ys) {
+        long found = 0;
+        for (int i = 0; i < xs.length; i++)
+            for (int j = 0; j < xs.length; j++)
+                if (Math.hypot(xs[i] - xs[j], ys[i] - ys[j]) <= 2 * RADIUS)
+                    found++;
+        return found;
+    }
+}
@@ -0,0 +1,94 @@
+package model.game_physics.broadphase;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialHashTest {
+
+    @Test
+    void queryFindsEveryOverlappingItem() {
+        Random random = new Random(3);
+        int count = 500;
+        double[] xs = new double[count], ys = new double[count], radii = new double[count];
+        SpatialHash<Integer> hash = new SpatialHash<>(1);
+        for (int i = 0; i < count; i++) {
+            // some items are outside the game space, on the negative side
+            xs[i] = random.nextDouble() * 1000 - 100;
+            ys[i] = random.nextDouble() * 1000 - 100;
+            radii[i] = 1 + random.nextDouble() * 20;
+            hash.insert(i, xs[i], ys[i], radii[i]);
+        }
+        hash.build();
+
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            hash.query(xs[i], ys[i], candidates);
+            assertTrue(candidates.contains(i));
+            for (int j = 0; j < count; j++)
+                if (Math.hypot(xs[i] - xs[j], ys[i] - ys[j]) <= radii[i] + radii[j])
+                    assertTrue(candidates.contains(j), i + " overlaps " + j);
+        }
+    }
+
+    @Test
+    void queryAfterFindsEveryOverlappingPairOnce() {
+        Random random = new Random(5);
+        int count = 300;
+        double[] xs = new double[count], ys = new double[count], radii = new double[count];
+        SpatialHash<Integer> hash = new SpatialHash<>(1);
+        for (int i = 0; i < count; i++) {
+            xs[i] = random.nextDouble() * 500;
+            ys[i] = random.nextDouble() * 500;
+            radii[i] = 1 + random.nextDouble() * 20;
+            hash.insert(i, xs[i], ys[i], radii[i]);
+        }
+        hash.build();
+
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            hash.queryAfter(i, candidates);
+            for (int j : candidates)
+                assertTrue(j > i);
+            for (int j = i + 1; j < count; j++)
+                if (Math.hypot(xs[i] - xs[j], ys[i] - ys[j]) <= radii[i] + radii[j])
+                    assertTrue(candidates.contains(j), i + " overlaps " + j);
+        }
+    }
+
+    @Test
+    void queryReturnsEachItemOnce() {
+        SpatialHash<String> hash = new SpatialHash<>(10);
+        hash.insert("a", 0, 0, 5);
+        hash.insert("b", 3, 3, 5);
+        hash.insert("far", 500, 500, 5);
+        hash.build();
+
+        List<String> candidates = new ArrayList<>();
+        hash.query(1, 1, candidates);
+        assertEquals(2, candidates.size());
+        assertTrue(candidates.contains("a"));
+        assertTrue(candidates.contains("b"));
+    }
+
+    @Test
+    void clearAndRebuildForgetsTheOldItems() {
+        SpatialHash<String> hash = new SpatialHash<>(10);
+        hash.insert("old", 0, 0, 5);
+        hash.build();
+        hash.clear();
+        hash.insert("new", 100, 100, 5);
+        hash.build();
+
+        List<String> candidates = new ArrayList<>();
+        hash.query(0, 0, candidates);
+        assertTrue(candidates.isEmpty());
+        hash.query(100, 100, candidates);
+        assertEquals(1, candidates.size());
+        assertEquals(1, hash.size());
+    }
+}
@@ -27,4 +27,45 @@ class CircularHitboxTest {
         assertTrue(rectHitbox.isInside(ownerCoordinates, point));
     }
 
-}
\ No newline at end of file
+    @Test
+    void overlapsCircle() {
+        CircularHitbox first = new CircularHitbox(2);
+        CircularHitbox second = new CircularHitbox(1);
+
+        assertTrue(first.overlaps(new Coordinates(0, 0), second, new Coordinates(3, 0)));
+        assertFalse(first.overlaps(new Coordinates(0, 0), second, new Coordinates(2.2, 2.2)));
+        // a circle inside the other one overlaps it, although none of its boundary is inside
+        assertTrue(new CircularHitbox(10).overlaps(new Coordinates(0, 0), second, new Coordinates(1, 1)));
+        assertTrue(second.overlaps(new Coordinates(1, 1), new CircularHitbox(10), new Coordinates(0, 0)));
+    }
+
+    @Test
+    void overlapsRectangle() {
+        CircularHitbox circle = new CircularHitbox(1);
+        RectangularHitbox rectangle = new RectangularHitbox(4, 2);
+
+        // next to an edge, and just off a corner
+        assertTrue(circle.overlaps(new Coordinates(0, 1.9), rectangle, new Coordinates(0, 0)));
+        assertFalse(circle.overlaps(new Coordinates(2.8, 1.8), rectangle, new Coordinates(0, 0)));
+        assertFalse(rectangle.overlaps(new Coordinates(0, 0), circle, new Coordinates(2.8, 1.8)));
+
+        // rotated by 90 degrees the rectangle is 2 wide and 4 high
+        rectangle.rotate(90);
+        assertFalse(circle.overlaps(new Coordinates(2.5, 0), rectangle, new Coordinates(0, 0)));
+        assertTrue(circle.overlaps(new Coordinates(0, 2.5), rectangle, new Coordinates(0, 0)));
+    }
+
+    @Test
+    void sweepCircleFindsTheFirstContact() {
+        CircularHitbox circle = new CircularHitbox(1);
+        Coordinates center = new Coordinates(0, 0);
+
+        // a circle of radius 1 moving from x = -10 to x = 10 passes through without overlapping at either end
+        assertFalse(circle.overlaps(center, new CircularHitbox(1), new Coordinates(10, 0)));
+        assertEquals(0.4, circle.sweepCircle(center, 1, -10, 0, 20, 0), 1e-9);
+        // overlapping at the start, passing by, and stopping short
+        assertEquals(0, circle.sweepCircle(center, 1, 1, 0, 20, 0));
+        assertEquals(Hitbox.NO_IMPACT, circle.sweepCircle(center, 1, -10, 2.5, 20, 0));
+        assertEquals(Hitbox.NO_IMPACT, circle.sweepCircle(center, 1, -10, 0, 5, 0));
+    }
+}
@@ -37,4 +37,37 @@ class RectangularHitboxTest {
         Coordinates entity2Coords = new Coordinates(0,2);
         RectangularHitbox rectHitbox2 = new RectangularHitbox(4, 2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void overlapsRectangle() {
+        RectangularHitbox first = new RectangularHitbox(4, 2);
+        RectangularHitbox second = new RectangularHitbox(4, 2);
+
+        assertTrue(first.overlaps(new Coordinates(0, 0), second, new Coordinates(0, 1.9)));
+        assertFalse(first.overlaps(new Coordinates(0, 0), second, new Coordinates(0, 2.1)));
+        assertFalse(first.overlaps(new Coordinates(0, 0), second, new Coordinates(4.1, 0)));
+
+        // turned by 45 degrees the corner of the second one reaches (2 + 1) / sqrt(2) ~ 2.12 below its center
+        second.rotate(45);
+        assertTrue(first.overlaps(new Coordinates(0, 0), second, new Coordinates(0, 3.1)));
+        assertFalse(first.overlaps(new Coordinates(0, 0), second, new Coordinates(0, 3.3)));
+        // the second one sits on the side of the first one, off its corner
+        assertFalse(first.overlaps(new Coordinates(0, 0), second, new Coordinates(3.6, 2.6)));
+    }
+
+    @Test
+    void sweepCircleFindsTheFirstContact() {
+        RectangularHitbox rectangle = new RectangularHitbox(4, 2);
+        Coordinates center = new Coordinates(0, 0);
+
+        // hits the top edge after moving 9 - 1 - 1 = 7 of 20
+        assertEquals(0.35, rectangle.sweepCircle(center, 1, 0, 9, 0, -20), 1e-9);
+        // passes the corner (2, 1) diagonally at a distance above the radius, then at a distance below it
+        assertEquals(Hitbox.NO_IMPACT, rectangle.sweepCircle(center, 1, 0, 5, 5, -5));
+        assertTrue(rectangle.sweepCircle(center, 1, 0, 4, 4, -4) < 1);
+
+        // rotated by 90 degrees the rectangle is 2 wide and 4 high, so its top edge is at y = 2
+        rectangle.rotate(90);
+        assertEquals(0.3, rectangle.sweepCircle(center, 1, 0, 9, 0, -20), 1e-9);
+    }
+}
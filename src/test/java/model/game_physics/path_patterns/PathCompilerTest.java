@@ -0,0 +1,59 @@
+package model.game_physics.path_patterns;
+
+import org.junit.jupiter.api.Test;
+import services.utils.Coordinates;
+import services.utils.Vector;
+import services.utils.Velocity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathCompilerTest {
+
+    @Test
+    void compiledPathMovesLikeTheTree() {
+        // the first pattern has no iterations, so the composite pattern starts from the second one
+        ArrayList<PathPattern> patterns = new ArrayList<>(Arrays.asList(new StraightPattern(new Velocity(3, 1)),
+                new StraightPattern(new Velocity(-1, 2)), new StraightPattern(new Velocity(0.5, 0.5))));
+        CompositePattern tree = new CompositePattern(patterns, new ArrayList<>(Arrays.asList(0, 4, 7)));
+        PathCursor cursor = new PathCursor(PathCompiler.compile("composite", tree));
+        tree.setCurrentCoords(new Coordinates(0, 0));
+        tree.getCurrentPattern().setCurrentCoords(new Coordinates(0, 0));
+        cursor.setCurrentCoords(new Coordinates(0, 0));
+
+        for (int tick = 0; tick < 200; tick++) {
+            if (tick % 9 == 4) {
+                tree.reflect(new Vector(-1, 0));
+                cursor.reflect(new Vector(-1, 0));
+            }
+            Coordinates expected = tree.nextPosition();
+            Coordinates actual = cursor.nextPosition();
+            assertEquals(expected.getX(), actual.getX(), 1e-9, "at tick " + tick);
+            assertEquals(expected.getY(), actual.getY(), 1e-9, "at tick " + tick);
+        }
+    }
+
+    @Test
+    void ratioPatternsBecomeStages() {
+        RatioPattern tree = new RatioPattern(Arrays.asList(new StraightPattern(new Velocity(0, 1)),
+                new ZigzagPatten(new Velocity(1, 1), 5)), Arrays.asList(0.25, 0.75));
+        PathDefinition definition = PathCompiler.compile("ratio", tree);
+        assertEquals(2, definition.getStageCount());
+        assertEquals(0.75, definition.getStageRatio(1));
+        assertEquals(0, definition.getPhaseSteps(definition.getFirstPhase(0)));
+        int phase = definition.getFirstPhase(1);
+        assertEquals(5, definition.getPhaseSteps(phase));
+        assertEquals(-1, definition.getXVelocity(definition.getNextPhase(1, phase)));
+        assertEquals(phase, definition.getNextPhase(1, definition.getNextPhase(1, phase)));
+    }
+
+    @Test
+    void patternsThatSwitchOnCoordinatesAreRejected() {
+        StraightPattern first = new StraightPattern(new Coordinates(0, 0), new Velocity(0, 1));
+        StraightPattern second = new StraightPattern(new Coordinates(0, 5), new Velocity(1, 0));
+        SequentialCompositePattern tree = new SequentialCompositePattern(new ArrayList<>(Arrays.asList(first, second)));
+        assertThrows(IllegalArgumentException.class, () -> PathCompiler.compile("sequential", tree));
+    }
+}
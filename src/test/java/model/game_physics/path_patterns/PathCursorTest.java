@@ -0,0 +1,92 @@
+package model.game_physics.path_patterns;
+
+import model.TestConfiguration;
+import model.game_building.Configuration;
+import model.game_building.GameConstants;
+import model.game_entities.enums.EntityType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.utils.Coordinates;
+import services.utils.IOHandler;
+import services.utils.Vector;
+import services.utils.Velocity;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathCursorTest {
+
+    private final TestConfiguration configuration = new TestConfiguration();
+
+    // the paths are measured in the height of the view, which needs a configuration with a positive unit length
+    @BeforeEach
+    void setUp() {
+        configuration.set(TestConfiguration.bundle(4, 1.2, true, 2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        configuration.restore();
+    }
+
+    @Test
+    void cursorMovesLikeThePatternTree() {
+        double speed = Configuration.getInstance().getStraightPatternSpeed();
+        Velocity zigZag = new Velocity(new Vector(0, Configuration.getInstance().getZigZagPatternSpeed())
+                .rotateVector(GameConstants.ZIGZAG_SPEED_ANGLE));
+        RatioPattern tree = new RatioPattern(Arrays.asList(new StraightPattern(new Velocity(0, speed)),
+                new ZigzagPatten(zigZag, GameConstants.FPS)), Arrays.asList(0.25, 0.75));
+        PathCursor cursor = new PathCursor(PathPatternFactory.getInstance().getDefinition(EntityType.BETA.name()));
+        tree.setCurrentCoords(new Coordinates(100, 1));
+        cursor.setCurrentCoords(new Coordinates(100, 1));
+
+        // through both stages once, the entities leave the view before they get back to the first stage
+        for (int tick = 0; tick == 0 || cursor.getStage() != 0; tick++) {
+            // reflections in both stages, some of them within the cooldown of the previous one
+            if (tick % 37 == 0 || tick % 37 == 2) {
+                tree.reflect(new Vector(1, 0));
+                cursor.reflect(new Vector(1, 0));
+            }
+            Coordinates expected = tree.nextPosition();
+            Coordinates actual = cursor.nextPosition();
+            assertEquals(expected, actual, "at tick " + tick);
+        }
+    }
+
+    @Test
+    void entitiesShareTheDefinitionOfTheirType() {
+        PathCursor first = (PathCursor) PathPatternFactory.getInstance().getMoleculePathPattern(EntityType.ALPHA);
+        PathCursor second = (PathCursor) PathPatternFactory.getInstance().getBlockerPathPattern(EntityType.ALPHA);
+        assertNotSame(first, second);
+        assertSame(first.getDefinition(), second.getDefinition());
+    }
+
+    @Test
+    void positionAtMatchesTheSteps() {
+        PathCursor cursor = new PathCursor(PathPatternFactory.getInstance().getDefinition(EntityType.GAMMA.name()));
+        // off the top of the view, so that the stages do not end on a step, where the rounding of the steps decides
+        Coordinates origin = new Coordinates(50, 0.01);
+        cursor.setCurrentCoords(new Coordinates(50, 0.01));
+        for (int tick = 1; tick <= 1000; tick++) {
+            Coordinates stepped = cursor.nextPosition();
+            Coordinates position = cursor.positionAt(origin, tick);
+            assertEquals(stepped.getX(), position.getX(), 1e-6, "at tick " + tick);
+            assertEquals(stepped.getY(), position.getY(), 1e-6);
+        }
+    }
+
+    @Test
+    void cursorIsSavedWithTheNameOfItsDefinition() throws Exception {
+        PathCursor cursor = new PathCursor(PathPatternFactory.getInstance().getDefinition(EntityType.ALPHA.name()));
+        cursor.setCurrentCoords(new Coordinates(10, 10));
+        for (int tick = 0; tick < GameConstants.FPS + 5; tick++)
+            cursor.nextPosition();
+        cursor.reflect(new Vector(-1, 0));
+
+        PathPattern loaded = IOHandler.readFromYamlString(IOHandler.getYAMLRepresentation(cursor), PathPattern.class);
+        assertSame(cursor.getDefinition(), ((PathCursor) loaded).getDefinition());
+        assertEquals(cursor.nextPosition(), loaded.nextPosition());
+    }
+}
@@ -1,9 +1,12 @@
 package model.game_physics.path_patterns;
 
+import model.game_building.Configuration;
 import org.junit.jupiter.api.Test;
 import services.utils.Coordinates;
 import services.utils.Velocity;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class PathPatternTest {
@@ -50,4 +53,28 @@ class PathPatternTest {
 
         // additional tests are found in StraightPatternTest and ZigzagPatternTest
     }
-}
\ No newline at end of file
+
+    @Test
+    void ratioPatternPositionAtMatchesTheSteps() {
+        double height = Configuration.getInstance().getGamePanelDimensions().height;
+        PathPattern straight = new StraightPattern(new Velocity(0, 3));
+        PathPattern zigzag = new ZigzagPatten(new Velocity(1, 2), 4);
+        RatioPattern pattern = new RatioPattern(Arrays.asList(straight, zigzag), Arrays.asList(0.25, 0.75));
+        Coordinates origin = new Coordinates(100, 1);
+        pattern.setCurrentCoords(new Coordinates(100, 1));
+
+        // far enough to go through both patterns and back to the straight one
+        int ticks = (int) (height / 2) + 50;
+        Coordinates[] stepped = new Coordinates[ticks + 1];
+        for (int tick = 1; tick <= ticks; tick++) {
+            Coordinates position = pattern.nextPosition();
+            stepped[tick] = new Coordinates(position.getX(), position.getY());
+        }
+        // asked out of order, so the later ticks are found from the switches kept by the earlier calls
+        for (int tick : new int[]{ticks, 1, ticks / 3, ticks / 2, ticks - 1}) {
+            Coordinates position = pattern.positionAt(origin, tick);
+            assertEquals(stepped[tick].getX(), position.getX(), 1e-9);
+            assertEquals(stepped[tick].getY(), position.getY(), 1e-9);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package model.game_physics.path_patterns;
 
+import model.game_building.GameConstants;
 import org.apache.log4j.BasicConfigurator;
 import org.junit.jupiter.api.Test;
 import services.utils.Coordinates;
@@ -28,6 +29,29 @@ class StraightPatternTest {
 
     }
 
+    @Test
+    void nextPositionWithDt() {
+        Coordinates coords = new Coordinates(1, 1);
+        StraightPattern pattern = new StraightPattern(coords, new Velocity(2, 3));
+
+        // a quarter step moves a quarter of the velocity
+        coords = pattern.nextPosition(GameConstants.MOVEMENT_STEP / 4);
+        assertEquals(coords, new Coordinates(1.5, 1.75));
+
+        // the remaining three quarters and then 8 steps at once
+        pattern.nextPosition(GameConstants.MOVEMENT_STEP * 3 / 4);
+        coords = pattern.nextPosition(GameConstants.MOVEMENT_STEP * 8);
+        assertEquals(coords, new Coordinates(19, 28));
+    }
+
+    @Test
+    void positionAt() {
+        StraightPattern pattern = new StraightPattern(new Coordinates(1, 1), new Velocity(2, 3));
+        assertEquals(new Coordinates(25, 37), pattern.positionAt(new Coordinates(1, 1), 12));
+        // the pattern itself does not move
+        assertEquals(new Coordinates(1, 1), pattern.getCurrentCoords());
+    }
+
     @Test
     void reflect(){
         // create a StraightPattern
@@ -1,5 +1,6 @@
 package model.game_physics.path_patterns;
 
+import model.game_building.GameConstants;
 import org.apache.log4j.BasicConfigurator;
 import org.junit.jupiter.api.Test;
 import services.utils.Coordinates;
@@ -90,4 +91,32 @@ class ZigzagPattenTest {
         // second step in left diagonal
         assertEquals(zigzag.nextPosition(), new Coordinates(-2, 10));
     }
-}
\ No newline at end of file
+
+    @Test
+    void zigZagWithDtCrossingAPatternSwitch() {
+        Coordinates initCoords = new Coordinates(0,0);
+        ZigzagPatten zigzag = new ZigzagPatten(new Velocity(1, 1), new Velocity(-2, 2), 2, 3);
+        zigzag.setCurrentCoords(initCoords);
+
+        // half a step in the right diagonal
+        assertEquals(zigzag.nextPosition(GameConstants.MOVEMENT_STEP / 2), new Coordinates(0.5, 0.5));
+        // two steps: one and a half in the right diagonal, then half a step in the left diagonal
+        assertEquals(zigzag.nextPosition(GameConstants.MOVEMENT_STEP * 2), new Coordinates(1, 3));
+        // the rest of the left diagonal and a step in the right diagonal, like the whole steps
+        assertEquals(zigzag.nextPosition(GameConstants.MOVEMENT_STEP * 3.5), new Coordinates(-3, 9));
+    }
+
+    @Test
+    void positionAtMatchesTheSteps() {
+        ZigzagPatten zigzag = new ZigzagPatten(new Velocity(1, 1), new Velocity(-2, 2), 2, 3);
+        zigzag.setCurrentCoords(new Coordinates(5, 0));
+        Coordinates origin = new Coordinates(5, 0);
+
+        for (int tick = 1; tick <= 23; tick++) {
+            Coordinates stepped = zigzag.nextPosition();
+            assertEquals(stepped, zigzag.positionAt(origin, tick));
+        }
+        // 2000 whole cycles of 5 steps move by (-4, 8) each
+        assertEquals(new Coordinates(5 - 8000 + 1, 16001), zigzag.positionAt(origin, 10001));
+    }
+}
@@ -0,0 +1,68 @@
+package model.game_running;
+
+import model.TestConfiguration;
+import model.TestEntities;
+import model.game_entities.*;
+import model.game_entities.enums.EntityType;
+import model.game_entities.enums.SuperType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollisionDispatcherTest {
+
+    @Test
+    void dispatchCallsTheHandlerOfTheTargetAndTheSource() {
+        List<Entity> calls = new ArrayList<>();
+        CollisionDispatcher dispatcher = new CollisionDispatcher();
+        dispatcher.register(SuperType.ATOM, SuperType.ATOM, (first, second) -> {
+            calls.add(first);
+            calls.add(second);
+        });
+        Atom source = TestEntities.atom(), target = TestEntities.atom();
+
+        dispatcher.dispatch(source, target);
+        assertEquals(2, calls.size());
+        assertSame(target, calls.get(0));
+        assertSame(source, calls.get(1));
+    }
+
+    @Test
+    void dispatcherOfAVisitorMatchesTheDoubleDispatch() {
+        TestConfiguration configuration = new TestConfiguration();
+        configuration.set(TestConfiguration.bundle(1, 90.0)); // the blockers and the shooter read it
+        try {
+            // an entity of every super type that has one, the shields are not entities
+            Shooter shooter = new HeadlessRunner().getRunningMode().getShooter();
+            List<Entity> entities = Arrays.asList(TestEntities.atom(),
+                    TestEntities.molecule(0, 0, 1, EntityType.ALPHA), TestEntities.blocker(0, 0, 1, EntityType.ALPHA),
+                    TestEntities.powerup(0, 0, 1, EntityType.ALPHA), shooter);
+            EnumSet<SuperType> covered = EnumSet.noneOf(SuperType.class);
+            entities.forEach(entity -> covered.add(entity.getSuperType()));
+            assertEquals(EnumSet.complementOf(EnumSet.of(SuperType.SHIELD)), covered);
+
+            RecordingVisitor visitor = new RecordingVisitor();
+            CollisionDispatcher dispatcher = CollisionDispatcher.of(visitor);
+            for (Entity source : entities) {
+                for (Entity target : entities) {
+                    source.acceptCollision(visitor, target);
+                    dispatcher.dispatch(source, target);
+                    List<RecordingVisitor.Call> calls = visitor.getCalls();
+                    assertEquals(2, calls.size(), source.getSuperType() + " on " + target.getSuperType());
+                    assertEquals(calls.get(0), calls.get(1));
+                    // the target is passed first
+                    assertSame(target, calls.get(1).getFirst());
+                    assertSame(source, calls.get(1).getSecond());
+                    calls.clear();
+                }
+            }
+        } finally {
+            configuration.restore();
+        }
+    }
+}
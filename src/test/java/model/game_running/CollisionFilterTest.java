@@ -0,0 +1,43 @@
+package model.game_running;
+
+import model.game_entities.enums.SuperType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollisionFilterTest {
+
+    @Test
+    void onlyRegisteredPairsAreAccepted() {
+        CollisionFilter filter = new CollisionFilter();
+        filter.register(SuperType.ATOM, SuperType.MOLECULE);
+
+        assertTrue(filter.accepts(SuperType.ATOM, SuperType.MOLECULE));
+        assertFalse(filter.accepts(SuperType.MOLECULE, SuperType.ATOM));
+        assertFalse(filter.accepts(SuperType.ATOM, SuperType.ATOM));
+        assertTrue(filter.acceptsAsSource(SuperType.MOLECULE));
+        assertFalse(filter.acceptsAsSource(SuperType.ATOM));
+    }
+
+    @Test
+    void predicatesOnlyNarrowRegisteredPairs() {
+        CollisionFilter filter = new CollisionFilter();
+        assertThrows(IllegalStateException.class,
+                () -> filter.require(SuperType.ATOM, SuperType.MOLECULE, (first, second) -> true));
+        filter.register(SuperType.ATOM, SuperType.MOLECULE);
+        filter.require(SuperType.ATOM, SuperType.MOLECULE, (first, second) -> false);
+        assertTrue(filter.accepts(SuperType.ATOM, SuperType.MOLECULE));
+    }
+
+    @Test
+    void filterOfTheHandlerFollowsItsOverriddenMethods() {
+        CollisionFilter filter = CollisionFilter.of(new CollisionHandler(null, null));
+
+        assertTrue(filter.accepts(SuperType.ATOM, SuperType.MOLECULE));
+        assertTrue(filter.accepts(SuperType.ATOM, SuperType.BLOCKER));
+        assertTrue(filter.accepts(SuperType.SHOOTER, SuperType.POWERUP));
+        assertFalse(filter.accepts(SuperType.MOLECULE, SuperType.MOLECULE));
+        assertFalse(filter.accepts(SuperType.POWERUP, SuperType.MOLECULE));
+        assertFalse(filter.acceptsAsSource(SuperType.ATOM));
+    }
+}
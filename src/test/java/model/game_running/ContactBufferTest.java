@@ -0,0 +1,61 @@
+package model.game_running;
+
+import model.TestEntities;
+import model.game_entities.Atom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContactBufferTest {
+
+    private static Atom newAtom(long id) {
+        Atom atom = TestEntities.atom();
+        atom.setId(id);
+        return atom;
+    }
+
+    @Test
+    void sortOrdersByTimeThenKindThenIds() {
+        Atom first = newAtom(1), second = newAtom(2), third = newAtom(3);
+        ContactBuffer buffer = new ContactBuffer();
+        buffer.add(ContactBuffer.Kind.SHOOTER, first, second, 1);
+        buffer.add(ContactBuffer.Kind.ENTITY, third, first, 1);
+        buffer.add(ContactBuffer.Kind.ENTITY, second, third, 1);
+        buffer.add(ContactBuffer.Kind.ENTITY, third, second, 0.5);
+        buffer.sort();
+
+        assertEquals(0.5, buffer.get(0).getTime());
+        assertSame(second, buffer.get(1).getSource());
+        assertSame(third, buffer.get(2).getSource());
+        assertEquals(ContactBuffer.Kind.SHOOTER, buffer.get(3).getKind());
+    }
+
+    @Test
+    void clearReusesTheContacts() {
+        ContactBuffer buffer = new ContactBuffer();
+        for (int i = 0; i < 40; i++)
+            buffer.add(ContactBuffer.Kind.ENTITY, newAtom(i), newAtom(i + 1), 1);
+        ContactBuffer.Contact contact = buffer.get(0);
+        buffer.clear();
+        assertEquals(0, buffer.size());
+        assertNull(contact.getSource());
+
+        buffer.add(ContactBuffer.Kind.ENTITY, newAtom(7), newAtom(8), 1);
+        assertSame(contact, buffer.get(0));
+        assertEquals(7, buffer.get(0).getSourceId());
+    }
+
+    @Test
+    void addAllAppendsInOrder() {
+        ContactBuffer chunk = new ContactBuffer();
+        chunk.add(ContactBuffer.Kind.ENTITY, newAtom(5), newAtom(6), 0.25);
+        chunk.add(ContactBuffer.Kind.SHOOTER, newAtom(4), newAtom(6), 1);
+        ContactBuffer merged = new ContactBuffer();
+        merged.add(ContactBuffer.Kind.ENTITY, newAtom(1), newAtom(2), 1);
+        merged.addAll(chunk);
+
+        assertEquals(3, merged.size());
+        assertEquals(5, merged.get(1).getSourceId());
+        assertEquals(ContactBuffer.Kind.SHOOTER, merged.get(2).getKind());
+    }
+}
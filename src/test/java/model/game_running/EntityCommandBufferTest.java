@@ -0,0 +1,85 @@
+package model.game_running;
+
+import model.TestEntities;
+import model.game_entities.Atom;
+import model.game_entities.AutonomousEntity;
+import model.game_running.listeners.GameEntitiesListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityCommandBufferTest {
+    EntityRegistry registry;
+    EntityCommandBuffer buffer;
+    List<List<AutonomousEntity>> addBatches;
+    List<List<AutonomousEntity>> removeBatches;
+
+    @BeforeEach
+    void initializeVariables() {
+        registry = new EntityRegistry();
+        addBatches = new ArrayList<>();
+        removeBatches = new ArrayList<>();
+        buffer = new EntityCommandBuffer(registry, null, new GameEntitiesListener() {
+            @Override
+            public void onEntitiesAdd(Collection<AutonomousEntity> entities) {
+                addBatches.add(new ArrayList<>(entities));
+            }
+
+            @Override
+            public void onEntitiesRemove(Collection<AutonomousEntity> entities) {
+                removeBatches.add(new ArrayList<>(entities));
+            }
+
+            @Override
+            public void onGameReset() {
+            }
+        });
+    }
+
+    @Test
+    void spawnsEnterTheRegistryOnCommitInOneBatch() {
+        Atom first = TestEntities.atom();
+        Atom second = TestEntities.atom();
+        buffer.spawn(first);
+        buffer.spawn(second);
+        assertTrue(registry.isEmpty());
+
+        buffer.commit();
+        assertEquals(2, registry.size());
+        assertEquals(1, addBatches.size());
+        assertEquals(2, addBatches.get(0).size());
+        assertTrue(removeBatches.isEmpty());
+    }
+
+    @Test
+    void doubleDespawnIsRemovedAndReportedOnce() {
+        Atom atom = TestEntities.atom();
+        Atom other = TestEntities.atom();
+        registry.add(atom);
+        registry.add(other);
+
+        assertTrue(buffer.despawn(atom));
+        assertFalse(buffer.despawn(atom));
+        assertTrue(buffer.isDespawning(atom));
+        assertTrue(registry.contains(atom)); // nothing changes before the commit
+
+        buffer.commit();
+        assertFalse(registry.contains(atom));
+        assertTrue(registry.contains(other));
+        assertFalse(buffer.isDespawning(atom));
+        assertEquals(1, removeBatches.size());
+        assertEquals(1, removeBatches.get(0).size());
+    }
+
+    @Test
+    void emptyCommitDoesNotNotify() {
+        buffer.commit();
+        assertTrue(addBatches.isEmpty());
+        assertTrue(removeBatches.isEmpty());
+    }
+}
@@ -0,0 +1,109 @@
+package model.game_running;
+
+import model.TestEntities;
+import model.game_entities.Atom;
+import model.game_entities.AutonomousEntity;
+import model.game_entities.enums.EntityType;
+import model.game_entities.enums.SuperType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityRegistryTest {
+    EntityRegistry registry;
+
+    @BeforeEach
+    void initializeVariables() {
+        registry = new EntityRegistry();
+    }
+
+    @Test
+    void addAssignsIdsThatFindTheEntity() {
+        Atom first = TestEntities.atom();
+        Atom second = TestEntities.atom();
+        long firstId = registry.add(first);
+        long secondId = registry.add(second);
+
+        assertNotEquals(firstId, secondId);
+        assertEquals(firstId, first.getId());
+        assertSame(first, registry.get(firstId));
+        assertSame(second, registry.get(secondId));
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    void removedIdIsNotReusedBySlotReuse() {
+        Atom first = TestEntities.atom();
+        long firstId = registry.add(first);
+        assertTrue(registry.remove(first));
+        assertFalse(registry.remove(first));
+
+        Atom second = TestEntities.atom();
+        long secondId = registry.add(second);
+        assertEquals((int) firstId, (int) secondId); // the slot is reused
+        assertNotEquals(firstId, secondId);
+        assertNull(registry.get(firstId));
+        assertSame(second, registry.get(secondId));
+        assertFalse(registry.contains(first));
+    }
+
+    @Test
+    void iterationSkipsEntitiesRemovedDuringIt() {
+        List<Atom> atoms = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Atom atom = TestEntities.atom();
+            atoms.add(atom);
+            registry.add(atom);
+        }
+
+        List<AutonomousEntity> visited = new ArrayList<>();
+        for (AutonomousEntity entity : registry) {
+            visited.add(entity);
+            // remove the entity ahead of the current one
+            int next = atoms.indexOf(entity) + 1;
+            if (next < atoms.size())
+                registry.remove(atoms.get(next));
+        }
+
+        assertEquals(50, visited.size());
+        assertEquals(50, registry.size());
+        for (int i = 0; i < atoms.size(); i += 2)
+            assertSame(atoms.get(i), visited.get(i / 2));
+    }
+
+    @Test
+    void clearInvalidatesAllIds() {
+        Atom atom = TestEntities.atom();
+        long id = registry.add(atom);
+        registry.clear();
+
+        assertTrue(registry.isEmpty());
+        assertNull(registry.get(id));
+        assertFalse(registry.iterator().hasNext());
+    }
+
+    @Test
+    void countsFollowAddsRemovesAndClear() {
+        Atom first = TestEntities.atom();
+        Atom second = TestEntities.atom();
+        registry.add(first);
+        registry.add(second);
+        assertEquals(2, registry.count(SuperType.ATOM));
+        assertEquals(2, registry.count(SuperType.ATOM, EntityType.ALPHA));
+        assertEquals(0, registry.count(SuperType.ATOM, EntityType.BETA));
+        assertEquals(0, registry.count(SuperType.MOLECULE));
+
+        registry.remove(first);
+        registry.remove(first);
+        assertEquals(1, registry.count(SuperType.ATOM));
+        assertEquals(1, registry.count(SuperType.ATOM, EntityType.ALPHA));
+
+        registry.clear();
+        assertEquals(0, registry.count(SuperType.ATOM));
+        assertEquals(0, registry.count(SuperType.ATOM, EntityType.ALPHA));
+    }
+}
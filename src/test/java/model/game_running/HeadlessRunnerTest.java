@@ -0,0 +1,110 @@
+package model.game_running;
+
+import model.TestConfiguration;
+import model.game_building.ConfigBundle;
+import model.game_entities.AutonomousEntity;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeadlessRunnerTest {
+
+    private static final long TICK_BUDGET = 300;
+    private static final long SEED = 12345;
+
+    /**
+     * runs a headless game on a fixed configuration and returns its summary.
+     */
+    public static class Run implements Supplier<String> {
+        @Override
+        public String get() {
+            return play(TICK_BUDGET, false).getSummary();
+        }
+    }
+
+    // plays a game on a fixed configuration and seed
+    private static HeadlessRunner play(long tickBudget, boolean ecsEnabled) {
+        TestConfiguration configuration = new TestConfiguration();
+        ConfigBundle bundle = TestConfiguration.bundle(100, 90.0);
+        bundle.setSeed(SEED);
+        bundle.setEcsEnabled(ecsEnabled);
+        configuration.set(bundle);
+        try {
+            HeadlessRunner runner = new HeadlessRunner();
+            runner.run(tickBudget);
+            return runner;
+        } finally {
+            configuration.restore();
+        }
+    }
+
+    // the score, the tick count and the positions of the entities of a game
+    private static String describe(HeadlessRunner runner) {
+        StringBuilder description = new StringBuilder(String.format("score: %.2f, ticks: %d",
+                runner.getScore(), runner.getTicks()));
+        for (AutonomousEntity entity : runner.getRunningMode().getAutonomousEntities())
+            description.append(String.format("%n%s at %.9f, %.9f", entity, entity.getCoordinates().getX(),
+                    entity.getCoordinates().getY()));
+        return description.toString();
+    }
+
+    @Test
+    void runEndsAfterTheTickBudget() {
+        HeadlessRunner runner = play(TICK_BUDGET, false);
+        assertFalse(runner.getRunningMode().isGameFinished());
+        assertEquals(TICK_BUDGET, runner.getTicks());
+        assertTrue(runner.getScore() >= 0);
+        String summary = runner.getSummary();
+        assertTrue(summary.startsWith("score: "), summary);
+        assertTrue(summary.contains("ticks: " + TICK_BUDGET + ","), summary);
+        // the same seed replays the same game
+        assertEquals(describe(runner), describe(play(TICK_BUDGET, false)));
+    }
+
+    @Test
+    void ecsCorePlaysTheSameGame() {
+        // long enough for the atoms to be reflected off the side boundaries
+        assertEquals(describe(play(10 * TICK_BUDGET, false)), describe(play(10 * TICK_BUDGET, true)));
+    }
+
+    @Test
+    void runLoadsNoUserInterfaceClass() throws Exception {
+        // the game is run again by a class loader of its own, which refuses the classes of the user interface
+        String[] classPath = System.getProperty("java.class.path").split(File.pathSeparator);
+        URL[] urls = new URL[classPath.length];
+        for (int i = 0; i < classPath.length; i++)
+            urls[i] = toURL(classPath[i]);
+        ArrayList<String> refused = new ArrayList<>();
+        try (URLClassLoader loader = new URLClassLoader(urls, ClassLoader.getSystemClassLoader().getParent()) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                if (name.startsWith("ui.")) {
+                    refused.add(name);
+                    throw new ClassNotFoundException(name);
+                }
+                return super.loadClass(name, resolve);
+            }
+        }) {
+            Class<?> run = Class.forName(Run.class.getName(), true, loader);
+            assertNotSame(Run.class, run);
+            Supplier<?> supplier = (Supplier<?>) run.getDeclaredConstructor().newInstance();
+            assertNotNull(supplier.get());
+        }
+        assertEquals(new ArrayList<String>(), refused);
+    }
+
+    private static URL toURL(String path) {
+        try {
+            return new File(path).toURI().toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(path, e);
+        }
+    }
+}
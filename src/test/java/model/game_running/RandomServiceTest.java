@@ -0,0 +1,69 @@
+package model.game_running;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomServiceTest {
+
+    @Test
+    void sameSeedReplaysTheSameNumbers() {
+        RandomService first = new RandomService(42);
+        RandomService second = new RandomService(42);
+        for (RandomService.Subsystem subsystem : RandomService.Subsystem.values())
+            for (int i = 0; i < 10; i++)
+                assertEquals(first.get(subsystem).nextLong(), second.get(subsystem).nextLong());
+    }
+
+    @Test
+    void streamsAreIndependent() {
+        RandomService service = new RandomService(42);
+        long expected = new RandomService(42).get(RandomService.Subsystem.SPAWN).nextLong();
+
+        // drawing from another stream does not change what the spawn stream draws
+        for (int i = 0; i < 100; i++)
+            service.get(RandomService.Subsystem.ATOM_CHOICE).nextInt(4);
+        assertEquals(expected, service.get(RandomService.Subsystem.SPAWN).nextLong());
+        assertNotEquals(new RandomService(42).get(RandomService.Subsystem.NEUTRONS).nextLong(), expected);
+    }
+
+    @Test
+    void reseedRestartsTheStreamsInPlace() {
+        RandomService service = new RandomService(1);
+        Random spawn = service.get(RandomService.Subsystem.SPAWN);
+        long expected = new RandomService(7).get(RandomService.Subsystem.SPAWN).nextLong();
+
+        spawn.nextLong();
+        service.reseed(7);
+        assertEquals(7, service.getSeed());
+        assertSame(spawn, service.get(RandomService.Subsystem.SPAWN));
+        assertEquals(expected, spawn.nextLong());
+    }
+
+    @Test
+    void restoredStreamsContinueWhereTheyWereSaved() {
+        RandomService service = new RandomService(42);
+        for (RandomService.Subsystem subsystem : RandomService.Subsystem.values())
+            service.get(subsystem).nextInt(100);
+        long[] states = service.getStates();
+        RandomService restored = new RandomService(7);
+        restored.restore(42, states);
+
+        assertEquals(42, restored.getSeed());
+        for (RandomService.Subsystem subsystem : RandomService.Subsystem.values())
+            for (int i = 0; i < 10; i++)
+                assertEquals(service.get(subsystem).nextDouble(), restored.get(subsystem).nextDouble());
+        assertThrows(IllegalArgumentException.class, () -> restored.restore(42, new long[1]));
+    }
+
+    @Test
+    void streamsDrawLikeJavaRandom() {
+        Random expected = new Random(5);
+        Random stream = new RandomService(0).get(RandomService.Subsystem.SPAWN);
+        stream.setSeed(5);
+        for (int i = 0; i < 10; i++)
+            assertEquals(expected.nextLong(), stream.nextLong());
+    }
+}
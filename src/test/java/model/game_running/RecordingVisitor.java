@@ -0,0 +1,210 @@
+package model.game_running;
+
+import model.game_entities.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A collision visitor that handles every pair of entity classes by recording the call, so the filter of the visitor
+ * accepts every pair. {@link #onCollision(Entity, Entity)} can be overridden to react to the collisions.
+ */
+public class RecordingVisitor implements CollisionVisitor {
+
+    private final List<Call> calls = new ArrayList<>();
+
+    /**
+     * @return the handleCollision calls, in the order they were made
+     */
+    public List<Call> getCalls() {
+        return calls;
+    }
+
+    /**
+     * called after a collision is recorded.
+     *
+     * @param first  the first argument of the handleCollision call
+     * @param second the second argument of the handleCollision call
+     */
+    protected void onCollision(Entity first, Entity second) {
+    }
+
+    private void record(String method, Entity first, Entity second) {
+        calls.add(new Call(method, first, second));
+        onCollision(first, second);
+    }
+
+    @Override
+    public void handleCollision(Atom atom1, Atom atom2) {
+        record("Atom, Atom", atom1, atom2);
+    }
+
+    @Override
+    public void handleCollision(Atom atom, Molecule molecule) {
+        record("Atom, Molecule", atom, molecule);
+    }
+
+    @Override
+    public void handleCollision(Atom atom, Blocker blocker) {
+        record("Atom, Blocker", atom, blocker);
+    }
+
+    @Override
+    public void handleCollision(Atom atom, Powerup powerup) {
+        record("Atom, Powerup", atom, powerup);
+    }
+
+    @Override
+    public void handleCollision(Atom atom, Shooter shooter) {
+        record("Atom, Shooter", atom, shooter);
+    }
+
+    @Override
+    public void handleCollision(Molecule molecule, Atom atom) {
+        record("Molecule, Atom", molecule, atom);
+    }
+
+    @Override
+    public void handleCollision(Molecule molecule1, Molecule molecule2) {
+        record("Molecule, Molecule", molecule1, molecule2);
+    }
+
+    @Override
+    public void handleCollision(Molecule molecule, Blocker blocker) {
+        record("Molecule, Blocker", molecule, blocker);
+    }
+
+    @Override
+    public void handleCollision(Molecule molecule, Powerup powerup) {
+        record("Molecule, Powerup", molecule, powerup);
+    }
+
+    @Override
+    public void handleCollision(Molecule molecule, Shooter shooter) {
+        record("Molecule, Shooter", molecule, shooter);
+    }
+
+    @Override
+    public void handleCollision(Blocker blocker, Atom atom) {
+        record("Blocker, Atom", blocker, atom);
+    }
+
+    @Override
+    public void handleCollision(Blocker blocker, Molecule molecule) {
+        record("Blocker, Molecule", blocker, molecule);
+    }
+
+    @Override
+    public void handleCollision(Blocker blocker1, Blocker blocker2) {
+        record("Blocker, Blocker", blocker1, blocker2);
+    }
+
+    @Override
+    public void handleCollision(Blocker blocker, Powerup powerup) {
+        record("Blocker, Powerup", blocker, powerup);
+    }
+
+    @Override
+    public void handleCollision(Blocker blocker, Shooter shooter) {
+        record("Blocker, Shooter", blocker, shooter);
+    }
+
+    @Override
+    public void handleCollision(Powerup powerup, Atom atom) {
+        record("Powerup, Atom", powerup, atom);
+    }
+
+    @Override
+    public void handleCollision(Powerup powerup, Molecule molecule) {
+        record("Powerup, Molecule", powerup, molecule);
+    }
+
+    @Override
+    public void handleCollision(Powerup powerup, Blocker blocker) {
+        record("Powerup, Blocker", powerup, blocker);
+    }
+
+    @Override
+    public void handleCollision(Powerup powerup1, Powerup powerup2) {
+        record("Powerup, Powerup", powerup1, powerup2);
+    }
+
+    @Override
+    public void handleCollision(Powerup powerup, Shooter shooter) {
+        record("Powerup, Shooter", powerup, shooter);
+    }
+
+    @Override
+    public void handleCollision(Shooter shooter, Atom atom) {
+        record("Shooter, Atom", shooter, atom);
+    }
+
+    @Override
+    public void handleCollision(Shooter shooter, Molecule molecule) {
+        record("Shooter, Molecule", shooter, molecule);
+    }
+
+    @Override
+    public void handleCollision(Shooter shooter, Blocker blocker) {
+        record("Shooter, Blocker", shooter, blocker);
+    }
+
+    @Override
+    public void handleCollision(Shooter shooter, Powerup powerup) {
+        record("Shooter, Powerup", shooter, powerup);
+    }
+
+    @Override
+    public void handleCollision(Shooter shooter1, Shooter shooter2) {
+        record("Shooter, Shooter", shooter1, shooter2);
+    }
+
+    /**
+     * a handleCollision call: the parameter classes of the overload, and the entities it was called with.
+     */
+    public static final class Call {
+        private final String method;
+        private final Entity first, second;
+
+        public Call(String method, Entity first, Entity second) {
+            this.method = method;
+            this.first = first;
+            this.second = second;
+        }
+
+        /**
+         * @return the parameter classes of the overload, like "Atom, Molecule"
+         */
+        public String getMethod() {
+            return method;
+        }
+
+        public Entity getFirst() {
+            return first;
+        }
+
+        public Entity getSecond() {
+            return second;
+        }
+
+        // the same overload with the same entities
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Call))
+                return false;
+            Call call = (Call) o;
+            return method.equals(call.method) && first == call.first && second == call.second;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(method, System.identityHashCode(first), System.identityHashCode(second));
+        }
+
+        @Override
+        public String toString() {
+            return "handleCollision(" + method + ") with " + first + ", " + second;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package model.game_running;
+
+import model.TestEntities;
+import model.game_entities.Atom;
+import model.game_entities.AutonomousEntity;
+import model.game_entities.enums.SuperType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialQueryServiceTest {
+
+    private final Atom a = TestEntities.atom(0, 0);
+    private final Atom b = TestEntities.atom(5, 0);
+    private final Atom c = TestEntities.atom(40, 0);
+    private final Atom removed = TestEntities.atom(2, 0);
+
+    private SpatialQueryService newService() {
+        SpatialQueryService service = new SpatialQueryService(4, entity -> entity == removed);
+        service.rebuild(Arrays.asList(a, b, c, removed));
+        return service;
+    }
+
+    @Test
+    void withinRadiusFindsTheOverlappingHitboxes() {
+        List<AutonomousEntity> out = new ArrayList<>();
+        newService().withinRadius(0, 0, 4.5, out);
+        // b reaches 4 from the point, c is far away, and the removed entity is skipped
+        assertEquals(new HashSet<>(Arrays.asList(a, b)), new HashSet<>(out));
+    }
+
+    @Test
+    void nearestSortsByDistanceAndWidensTheSearch() {
+        SpatialQueryService service = newService();
+        List<AutonomousEntity> out = new ArrayList<>();
+
+        assertEquals(2, service.nearest(38, 0, SuperType.ATOM, 2, out));
+        assertEquals(Arrays.asList(c, b), out);
+        assertEquals(3, service.nearest(0, 0, null, 5, out));
+        assertEquals(Arrays.asList(a, b, c), out);
+        assertEquals(0, service.nearest(0, 0, SuperType.MOLECULE, 1, out));
+    }
+
+    @Test
+    void raycastReturnsTheFirstHit() {
+        SpatialQueryService service = newService();
+        SpatialQueryService.RayHit hit = new SpatialQueryService.RayHit();
+
+        assertTrue(service.raycast(10, 0, -1, 0, 100, null, hit));
+        assertSame(b, hit.getEntity());
+        assertEquals(4, hit.getDistance(), 1e-9);
+        assertTrue(service.raycast(10, 0, 1, 0, 100, SuperType.ATOM, hit));
+        assertSame(c, hit.getEntity());
+        assertFalse(service.raycast(10, 5, 1, 0, 100, null, hit));
+        assertNull(hit.getEntity());
+    }
+}
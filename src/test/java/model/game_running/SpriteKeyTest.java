@@ -0,0 +1,39 @@
+package model.game_running;
+
+import model.game_entities.enums.EntityType;
+import model.game_entities.enums.MoleculeStructure;
+import model.game_entities.enums.SuperType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpriteKeyTest {
+
+    @Test
+    void decodesWhatWasEncoded() {
+        for (SuperType superType : SuperType.values())
+            for (EntityType entityType : EntityType.values())
+                for (MoleculeStructure structure : MoleculeStructure.values()) {
+                    int key = SpriteKey.of(superType, entityType, structure);
+                    assertEquals(superType, SpriteKey.getSuperType(key));
+                    assertEquals(entityType, SpriteKey.getEntityType(key));
+                    assertEquals(structure, SpriteKey.getStructure(key));
+                }
+    }
+
+    @Test
+    void missingAttributesAreDecodedAsNull() {
+        int key = SpriteKey.of(SuperType.SHOOTER, null, null);
+        assertEquals(SuperType.SHOOTER, SpriteKey.getSuperType(key));
+        assertNull(SpriteKey.getEntityType(key));
+        assertNull(SpriteKey.getStructure(key));
+    }
+
+    @Test
+    void differentLooksHaveDifferentKeys() {
+        assertNotEquals(SpriteKey.of(SuperType.ATOM, EntityType.ALPHA, null),
+                SpriteKey.of(SuperType.POWERUP, EntityType.ALPHA, null));
+        assertNotEquals(SpriteKey.of(SuperType.MOLECULE, EntityType.BETA, MoleculeStructure.CIRCULAR),
+                SpriteKey.of(SuperType.MOLECULE, EntityType.BETA, MoleculeStructure.LINEAR_SPINNING));
+    }
+}
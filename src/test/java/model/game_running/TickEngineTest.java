@@ -0,0 +1,107 @@
+package model.game_running;
+
+import model.game_building.GameConstants;
+import model.game_running.runnables.GameRunnable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickEngineTest {
+
+    private GameRunnable recorder(List<String> log, String name) {
+        return new GameRunnable() {
+            @Override
+            public void tick(double dt) {
+                log.add(name);
+            }
+        };
+    }
+
+    @Test
+    void phasesRunInOrder() {
+        List<String> log = new ArrayList<>();
+        TickEngine engine = new TickEngine(GameConstants.GAME_THREAD_DELAY);
+
+        // register in a different order than the phases run
+        engine.register(TickEngine.Phase.PUBLISH, recorder(log, "publish"));
+        engine.register(TickEngine.Phase.COLLIDE, recorder(log, "collide"));
+        engine.register(TickEngine.Phase.MOVE, recorder(log, "move"));
+        engine.register(TickEngine.Phase.SPAWN, recorder(log, "spawn"));
+        engine.register(TickEngine.Phase.INPUT, recorder(log, "input"));
+        engine.register(TickEngine.Phase.MOVE, recorder(log, "move2"));
+
+        engine.tick();
+        assertEquals(Arrays.asList("input", "move", "move2", "collide", "spawn", "publish"), log);
+        assertEquals(1, engine.getTickCount());
+
+        engine.tick();
+        assertEquals(12, log.size());
+        assertEquals(2, engine.getTickCount());
+    }
+
+    @Test
+    void fixedTimeStep() {
+        List<Double> steps = new ArrayList<>();
+        TickEngine engine = new TickEngine(7);
+        engine.register(TickEngine.Phase.MOVE, new GameRunnable() {
+            @Override
+            public void tick(double dt) {
+                steps.add(dt);
+            }
+        });
+        for (int i = 0; i < 3; i++)
+            engine.tick();
+        assertEquals(Arrays.asList(7.0, 7.0, 7.0), steps);
+    }
+
+    @Test
+    void timeScaleScalesDt() {
+        List<Double> steps = new ArrayList<>();
+        TickEngine engine = new TickEngine(8);
+        engine.register(TickEngine.Phase.MOVE, new GameRunnable() {
+            @Override
+            public void tick(double dt) {
+                steps.add(dt);
+            }
+        });
+        engine.setTimeScale(0.25);
+        engine.tick();
+        engine.setTimeScale(8);
+        engine.tick();
+        assertEquals(Arrays.asList(2.0, 64.0), steps);
+        assertEquals(2, engine.getTickCount());
+    }
+
+    @Test
+    void stoppedEngineCannotBeResumed() {
+        TickEngine engine = new TickEngine(GameConstants.GAME_THREAD_DELAY);
+        engine.setState(GameConstants.GAME_STATE_PAUSED);
+        assertEquals(GameConstants.GAME_STATE_PAUSED, engine.getState());
+        engine.setState(GameConstants.GAME_STATE_STOP);
+        engine.setState(GameConstants.GAME_STATE_RESUMED);
+        assertEquals(GameConstants.GAME_STATE_STOP, engine.getState());
+    }
+
+    @Test
+    void runReturnsWhenStopped() throws InterruptedException {
+        TickEngine engine = new TickEngine(1);
+        List<Double> steps = new ArrayList<>();
+        engine.register(TickEngine.Phase.MOVE, new GameRunnable() {
+            @Override
+            public void tick(double dt) {
+                steps.add(dt);
+                if (steps.size() == 5)
+                    engine.setState(GameConstants.GAME_STATE_STOP);
+            }
+        });
+        Thread loop = new Thread(engine);
+        loop.start();
+        loop.join(5000);
+        assertFalse(loop.isAlive());
+        assertEquals(5, engine.getTickCount());
+    }
+}
@@ -0,0 +1,130 @@
+package model.game_running;
+
+import model.TestConfiguration;
+import model.TestEntities;
+import model.game_building.Configuration;
+import model.game_building.GameConstants;
+import model.game_entities.Atom;
+import model.game_entities.Molecule;
+import model.game_entities.Shooter;
+import model.game_entities.enums.EntityType;
+import model.game_physics.hitbox.CircularHitbox;
+import model.game_physics.hitbox.HitboxFactory;
+import model.game_physics.path_patterns.StraightPattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.utils.Coordinates;
+import services.utils.Vector;
+import services.utils.Velocity;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrajectoryPredictorTest {
+
+    private final TestConfiguration configuration = new TestConfiguration();
+    private Shooter shooter;
+
+    @BeforeEach
+    void setUp() {
+        configuration.set(TestConfiguration.bundle(4, 90.0));
+
+        shooter = new Shooter();
+        shooter.setCoordinates(new Coordinates(200, 800));
+        shooter.setHitbox(HitboxFactory.getInstance().getShooterHitbox());
+        shooter.setCurrentProjectile(newAtom(0, 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        configuration.restore();
+    }
+
+    private static Atom newAtom(double x, double y) {
+        return TestEntities.atom(new Coordinates(x, y), new CircularHitbox(10), new Velocity(0, 0), EntityType.ALPHA);
+    }
+
+    // the collisions are filtered like in the game
+    private static TrajectoryPredictor newPredictor(SpatialQueryService spatialQueries) {
+        return new TrajectoryPredictor(spatialQueries, CollisionFilter.of(new CollisionHandler(null, null)));
+    }
+
+    @Test
+    void pathFollowsTheShotAtom() {
+        TrajectoryPredictor predictor = newPredictor(new SpatialQueryService(90, entity -> false));
+        TrajectoryPredictor.Trajectory trajectory = predictor.predict(shooter, -40);
+        assertTrue(trajectory.getPointCount() > 2, "the atom is reflected off the left wall");
+        assertNull(trajectory.getHitEntity());
+
+        // shoot an atom the way the shooter does, and reflect it the way the collision pass does
+        Atom atom = newAtom(0, 0);
+        // like PathPatternFactory#getAtomPathPattern(double), which keeps the configuration it was created with
+        atom.setPathPattern(new StraightPattern(new Velocity(
+                new Vector(0, -Configuration.getInstance().getAtomSpeed()).rotateVector(-40))));
+        atom.setVelocity(atom.getSpeedPercentage());
+        atom.setCoordinates(shooter.getShootingCoords(-40));
+        int width = Configuration.getInstance().getGamePanelDimensions().width;
+        int reflections = 0;
+        while (atom.getCoordinates().getY() >= 0) {
+            atom.move(GameConstants.MOVEMENT_STEP);
+            double vx = ((StraightPattern) atom.getPathPattern()).getInitialVelocity().getXv();
+            if (atom.getMaxX() > width)
+                atom.getPathPattern().reflect(new Vector(1, 0));
+            if (atom.getMinX() < 0)
+                atom.getPathPattern().reflect(new Vector(-1, 0));
+            if (((StraightPattern) atom.getPathPattern()).getInitialVelocity().getXv() != vx) {
+                reflections++;
+                assertEquals(trajectory.getX(reflections), atom.getCoordinates().getX(), 1e-6);
+                assertEquals(trajectory.getY(reflections), atom.getCoordinates().getY(), 1e-6);
+            }
+        }
+        assertEquals(trajectory.getPointCount() - 2, reflections);
+        assertEquals(trajectory.getX(reflections + 1), atom.getCoordinates().getX(), 1e-6);
+        assertEquals(trajectory.getY(reflections + 1), atom.getCoordinates().getY(), 1e-6);
+    }
+
+    @Test
+    void pathStopsAtTheFirstHit() {
+        Coordinates start = shooter.getShootingCoords(0);
+        Molecule near = TestEntities.molecule(start.getX() + 15, 400, 10, EntityType.ALPHA);
+        Molecule far = TestEntities.molecule(start.getX(), 200, 10, EntityType.ALPHA);
+        SpatialQueryService spatialQueries = new SpatialQueryService(90, entity -> false);
+        spatialQueries.rebuild(Arrays.asList(far, near));
+
+        TrajectoryPredictor.Trajectory trajectory = newPredictor(spatialQueries).predict(shooter, 0);
+        assertSame(near, trajectory.getHitEntity());
+        assertEquals(2, trajectory.getPointCount());
+        // the atom touches the molecule with its side, before its center gets level with it
+        assertEquals(start.getX(), trajectory.getX(1), 1e-9);
+        assertTrue(trajectory.getY(1) > 400);
+    }
+
+    @Test
+    void pathPassesThroughTheEntitiesTheAtomDoesNotCollideWith() {
+        Coordinates start = shooter.getShootingCoords(0);
+        Molecule other = TestEntities.molecule(start.getX(), 400, 10, EntityType.BETA);
+        Molecule same = TestEntities.molecule(start.getX(), 200, 10, EntityType.ALPHA);
+        SpatialQueryService spatialQueries = new SpatialQueryService(90, entity -> false);
+        spatialQueries.rebuild(Arrays.asList(other, same));
+
+        TrajectoryPredictor.Trajectory trajectory = newPredictor(spatialQueries).predict(shooter, 0);
+        // an alpha atom only collides with the alpha molecule
+        assertSame(same, trajectory.getHitEntity());
+        assertTrue(trajectory.getY(1) < 400);
+    }
+
+    @Test
+    void pathsAreSteppedAgainWhenTheShooterMoves() {
+        TrajectoryPredictor predictor = newPredictor(new SpatialQueryService(90, entity -> false));
+        double before = predictor.predict(shooter, 10).getX(0);
+        // the same quantized angle
+        assertEquals(before, predictor.predict(shooter, 10.2).getX(0));
+
+        shooter.setCoordinates(new Coordinates(300, 800));
+        assertEquals(before + 100, predictor.predict(shooter, 10).getX(0), 1e-9);
+        // a shooter without a projectile has no path
+        assertEquals(0, predictor.predict(new Shooter(), 10).getPointCount());
+    }
+}
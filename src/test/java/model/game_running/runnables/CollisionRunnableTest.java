@@ -0,0 +1,183 @@
+package model.game_running.runnables;
+
+import model.TestConfiguration;
+import model.TestEntities;
+import model.game_building.ConfigBundle;
+import model.game_building.GameConstants;
+import model.game_entities.Atom;
+import model.game_entities.AutonomousEntity;
+import model.game_entities.Blocker;
+import model.game_entities.Entity;
+import model.game_entities.Molecule;
+import model.game_entities.enums.EntityType;
+import model.game_entities.enums.SuperType;
+import model.game_running.CollisionFilter;
+import model.game_running.HeadlessRunner;
+import model.game_running.RecordingVisitor;
+import model.game_running.RunningMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.utils.Coordinates;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollisionRunnableTest {
+
+    private final TestConfiguration configuration = new TestConfiguration();
+    private RunningMode runningMode;
+
+    @BeforeEach
+    void setUp() {
+        configuration.set(TestConfiguration.bundle(10, 90.0));
+        // the collision runnables are ticked by the tests, not by the game loop of the running mode
+        runningMode = new HeadlessRunner().getRunningMode();
+    }
+
+    @AfterEach
+    void tearDown() {
+        configuration.restore();
+    }
+
+    private void addEntities(AutonomousEntity... entities) {
+        for (AutonomousEntity entity : entities)
+            runningMode.addEntity(entity);
+        runningMode.commitEntityChanges();
+    }
+
+    // an atom that moved down from y to y + distance since the previous pass
+    private static Atom movedAtom(double x, double y, double distance) {
+        Atom atom = TestEntities.atom(x, y);
+        atom.markSweepStart();
+        atom.setCoordinates(new Coordinates(x, y + distance));
+        return atom;
+    }
+
+    private void collide(RecordingVisitor visitor) {
+        new CollisionRunnable(runningMode, visitor).tick(GameConstants.GAME_THREAD_DELAY);
+    }
+
+    @Test
+    void earliestImpactIsResolvedFirst() {
+        // the first atom touches its molecule three quarters into the tick, the second one a quarter into it
+        Atom late = movedAtom(100, 100, 40), early = movedAtom(300, 100, 40);
+        Molecule lateMolecule = TestEntities.molecule(100, 132, 1, EntityType.ALPHA);
+        Molecule earlyMolecule = TestEntities.molecule(300, 112, 1, EntityType.ALPHA);
+        addEntities(late, lateMolecule, early, earlyMolecule);
+
+        RecordingVisitor visitor = new RecordingVisitor();
+        collide(visitor);
+        List<RecordingVisitor.Call> calls = visitor.getCalls();
+        assertEquals(4, calls.size());
+        for (int i = 0; i < 2; i++) {
+            assertTrue(Arrays.asList(early, earlyMolecule).contains(calls.get(i).getFirst()));
+            assertTrue(Arrays.asList(late, lateMolecule).contains(calls.get(i + 2).getFirst()));
+        }
+    }
+
+    @Test
+    void contactsOfRemovedEntitiesAreSkipped() {
+        Atom atom = TestEntities.atom(200, 200);
+        // the molecules touch the atom on both sides, but not each other
+        addEntities(atom, TestEntities.molecule(200, 201.5, 1, EntityType.ALPHA),
+                TestEntities.molecule(200, 198.5, 1, EntityType.ALPHA));
+
+        // the first collision of the atom removes it, so its other contacts have no effect
+        RecordingVisitor visitor = new RecordingVisitor() {
+            @Override
+            protected void onCollision(Entity first, Entity second) {
+                runningMode.removeEntity(atom);
+            }
+        };
+        collide(visitor);
+        assertEquals(1, visitor.getCalls().size());
+    }
+
+    @Test
+    void filterIsCheckedAgainWhenTheContactsAreResolved() {
+        addEntities(TestEntities.atom(200, 200), TestEntities.molecule(200, 201, 1, EntityType.ALPHA),
+                TestEntities.atom(300, 200), TestEntities.molecule(300, 201, 1, EntityType.ALPHA));
+
+        // both pairs are accepted while the contacts are detected, the first collision closes the filter
+        boolean[] open = {true};
+        RecordingVisitor visitor = new RecordingVisitor() {
+            @Override
+            public void configureFilter(CollisionFilter filter) {
+                filter.require(SuperType.ATOM, SuperType.MOLECULE, (atom, molecule) -> open[0]);
+                filter.require(SuperType.MOLECULE, SuperType.ATOM, (molecule, atom) -> open[0]);
+            }
+
+            @Override
+            protected void onCollision(Entity first, Entity second) {
+                open[0] = false;
+            }
+        };
+        collide(visitor);
+        assertEquals(1, visitor.getCalls().size());
+    }
+
+    @Test
+    void unorderedPairIsTriedInBothDirections() {
+        Molecule molecule = TestEntities.molecule(200, 200, 1, EntityType.ALPHA);
+        Blocker blocker = TestEntities.blocker(200, 201, 1, EntityType.ALPHA);
+        addEntities(molecule, blocker);
+
+        RecordingVisitor visitor = new RecordingVisitor();
+        collide(visitor);
+        // the entity that comes first in the registry is the source first
+        assertEquals(Arrays.asList(new RecordingVisitor.Call("Blocker, Molecule", blocker, molecule),
+                new RecordingVisitor.Call("Molecule, Blocker", molecule, blocker)), visitor.getCalls());
+    }
+
+    @Test
+    void parallelNarrowphaseFindsTheContactsOfASequentialOne() {
+        // the recording visitor removes nothing and its filter has no conditions, so every sorted contact is handled
+        assertEquals(collideDenseEntities(0), collideDenseEntities(1));
+    }
+
+    // collides a few hundred entities crowded together, with the given parallel collision threshold
+    private List<String> collideDenseEntities(int parallelThreshold) {
+        ConfigBundle bundle = TestConfiguration.bundle(10, 90.0);
+        bundle.setParallelCollisionThreshold(parallelThreshold);
+        configuration.set(bundle);
+        runningMode = new HeadlessRunner().getRunningMode();
+        Random random = new Random(42);
+        EntityType[] types = {EntityType.ALPHA, EntityType.BETA};
+        for (int i = 0; i < 400; i++) {
+            double x = 200 + random.nextDouble() * 100, y = 200 + random.nextDouble() * 100;
+            EntityType type = types[random.nextInt(types.length)];
+            switch (i % 4) {
+                case 0:
+                    runningMode.addEntity(movedAtom(x, y - 10, 10));
+                    break;
+                case 1:
+                    runningMode.addEntity(TestEntities.molecule(x, y, 4, type));
+                    break;
+                case 2:
+                    runningMode.addEntity(TestEntities.blocker(x, y, 4, type));
+                    break;
+                default:
+                    runningMode.addEntity(TestEntities.powerup(x, y, 4, type));
+                    break;
+            }
+        }
+        runningMode.commitEntityChanges();
+
+        RecordingVisitor visitor = new RecordingVisitor();
+        collide(visitor);
+        List<String> calls = new ArrayList<>();
+        for (RecordingVisitor.Call call : visitor.getCalls())
+            calls.add(call.getMethod() + " " + idOf(call.getFirst()) + " " + idOf(call.getSecond()));
+        assertTrue(calls.size() > 1000, "the entities are crowded");
+        return calls;
+    }
+
+    private static long idOf(Entity entity) {
+        return entity instanceof AutonomousEntity ? ((AutonomousEntity) entity).getId() : -1;
+    }
+}
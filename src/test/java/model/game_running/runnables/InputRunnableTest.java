@@ -0,0 +1,99 @@
+package model.game_running.runnables;
+
+import model.TestConfiguration;
+import model.game_building.GameConstants;
+import model.game_running.GameCommand;
+import model.game_running.HeadlessRunner;
+import model.game_running.RunningMode;
+import model.game_running.listeners.ShooterEventListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputRunnableTest {
+
+    private final TestConfiguration configuration = new TestConfiguration();
+    private RunningMode runningMode;
+    private InputRunnable inputRunnable;
+    private int shots;
+
+    @BeforeEach
+    void setUp() {
+        configuration.set(TestConfiguration.bundle(10, 90.0));
+
+        // the runnable is ticked by the test, not by the game loop of the running mode
+        runningMode = new HeadlessRunner().getRunningMode();
+        inputRunnable = new InputRunnable(runningMode);
+        runningMode.getShooter().setShooterListener(new ShooterEventListener() {
+            @Override
+            public void onShot() {
+                shots++;
+            }
+
+            @Override
+            public void onMoved() {
+            }
+
+            @Override
+            public void onStopped() {
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        configuration.restore();
+    }
+
+    @Test
+    void shotsAreLimitedToOnePerShooterDelay() {
+        // the first shot is not delayed
+        runningMode.submitCommand(GameCommand.shoot());
+        inputRunnable.tick(GameConstants.GAME_THREAD_DELAY);
+        assertEquals(1, shots);
+
+        // a second shot within the shooter delay is dropped, not postponed
+        runningMode.submitCommand(GameCommand.shoot());
+        inputRunnable.tick(GameConstants.DEFAULT_SHOOTER_DELAY / 2.0);
+        assertEquals(1, shots);
+        assertNull(runningMode.pollCommand());
+
+        // the game time of the ticks adds up to the shooter delay
+        inputRunnable.tick(GameConstants.DEFAULT_SHOOTER_DELAY / 4.0);
+        runningMode.submitCommand(GameCommand.shoot());
+        inputRunnable.tick(GameConstants.DEFAULT_SHOOTER_DELAY / 4.0);
+        assertEquals(2, shots);
+    }
+
+    @Test
+    void queuedCommandsAreExecutedInOrderInOneTick() {
+        runningMode.submitCommand(GameCommand.shoot());
+        runningMode.submitCommand(GameCommand.switchAtom());
+        assertSame(GameCommand.shoot(), runningMode.pollCommand());
+        assertSame(GameCommand.switchAtom(), runningMode.pollCommand());
+        assertNull(runningMode.pollCommand());
+
+        runningMode.submitCommand(GameCommand.shoot());
+        runningMode.submitCommand(GameCommand.shoot());
+        runningMode.submitCommand(GameCommand.switchAtom());
+        inputRunnable.tick(GameConstants.GAME_THREAD_DELAY);
+        // the second shot is within the shooter delay of the first one
+        assertEquals(1, shots);
+        assertNull(runningMode.pollCommand());
+    }
+
+    @Test
+    void commandsGivenWhilePausedAreDropped() {
+        runningMode.pause();
+        runningMode.submitCommand(GameCommand.shoot());
+        assertNull(runningMode.pollCommand());
+
+        runningMode.resume();
+        runningMode.submitCommand(GameCommand.shoot());
+        inputRunnable.tick(GameConstants.GAME_THREAD_DELAY);
+        assertEquals(1, shots);
+    }
+}
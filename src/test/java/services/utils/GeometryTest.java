@@ -0,0 +1,56 @@
+package services.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeometryTest {
+
+    @Test
+    void quarterTurnsAreExact() {
+        assertEquals(0, Geometry.cos(90));
+        assertEquals(1, Geometry.sin(90));
+        assertEquals(-1, Geometry.cos(-180));
+        assertEquals(-1, Geometry.sin(-90));
+        assertEquals(0, Geometry.cos(630));
+        assertEquals(Math.cos(Math.toRadians(23)), Geometry.cos(23));
+    }
+
+    @Test
+    void rotateWritesIntoTheGivenCoordinates() {
+        Coordinates point = new Coordinates(5, 1);
+        Geometry.rotate(point.getX(), point.getY(), 1, 1, Geometry.cos(90), Geometry.sin(90), point);
+        assertEquals(new Coordinates(1, 5), point);
+    }
+
+    @Test
+    void reflect() {
+        // off a vertical wall only the x component changes sign
+        assertEquals(-2, Geometry.reflectX(2, 3, 1, 0));
+        assertEquals(3, Geometry.reflectY(2, 3, 1, 0));
+        // off a diagonal wall the components are swapped
+        double n = Math.sqrt(0.5);
+        assertEquals(-3, Geometry.reflectX(2, 3, n, n), 1e-9);
+        assertEquals(-2, Geometry.reflectY(2, 3, n, n), 1e-9);
+    }
+
+    @Test
+    void isWithinBox() {
+        // a 4 by 2 box rotated by 90 degrees is 2 wide and 4 high
+        double cos = Geometry.cos(90), sin = Geometry.sin(90);
+        assertTrue(Geometry.isWithinBox(3, 3, 2, 1, 2, 1, cos, sin));
+        assertTrue(Geometry.isWithinBox(1, -1, 2, 1, 2, 1, cos, sin));
+        assertFalse(Geometry.isWithinBox(4, 1, 2, 1, 2, 1, cos, sin));
+
+        assertTrue(Geometry.isWithinBox(3.4, 1, 2, 1, 2, 1, Geometry.cos(45), Geometry.sin(45)));
+        assertFalse(Geometry.isWithinBox(4, 1, 2, 1, 2, 1, Geometry.cos(45), Geometry.sin(45)));
+    }
+
+    @Test
+    void isWithinCircle() {
+        assertEquals(25, Geometry.distanceSquared(1, 1, 4, 5));
+        assertTrue(Geometry.isWithinCircle(4, 5, 1, 1, 5));
+        assertFalse(Geometry.isWithinCircle(4, 5.1, 1, 1, 5));
+        assertFalse(Geometry.isWithinCircle(1, 1, 1, 1, 0));
+    }
+}
@@ -3,6 +3,7 @@ package services.utils;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -175,20 +176,21 @@ class MathUtilsTest {
     @Test
     void chooseFrom() {
         int[] array = {1, 3, 5, 7, 9};
+        Random random = new Random(42);
 
-        int randomElement = MathUtils.chooseFrom(array);
+        int randomElement = MathUtils.chooseFrom(array, random);
         int randomElementIndex = Arrays.binarySearch(array, randomElement);
         assertEquals(randomElement, array[randomElementIndex]);
 
-        randomElement = MathUtils.chooseFrom(array);
+        randomElement = MathUtils.chooseFrom(array, random);
         randomElementIndex = Arrays.binarySearch(array, randomElement);
         assertEquals(randomElement, array[randomElementIndex]);
 
-        randomElement = MathUtils.chooseFrom(array);
+        randomElement = MathUtils.chooseFrom(array, random);
         randomElementIndex = Arrays.binarySearch(array, randomElement);
         assertEquals(randomElement, array[randomElementIndex]);
 
-        randomElement = MathUtils.chooseFrom(array);
+        randomElement = MathUtils.chooseFrom(array, random);
         randomElementIndex = Arrays.binarySearch(array, randomElement);
         assertEquals(randomElement, array[randomElementIndex]);
 